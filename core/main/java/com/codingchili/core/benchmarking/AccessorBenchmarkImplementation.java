@@ -0,0 +1,86 @@
+package com.codingchili.core.benchmarking;
+
+import io.vertx.core.Future;
+
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.function.BiFunction;
+
+import com.codingchili.core.context.CoreRuntimeException;
+import com.codingchili.core.protocol.PathAccessor;
+import com.codingchili.core.testing.StorageObject;
+
+import static com.codingchili.core.configuration.CoreStrings.*;
+
+/**
+ * Implementation of a path accessor for use with benchmarking.
+ * <p>
+ * Measures the time taken to read a batch of values by their path from a
+ * stored object, as done by queries and indexes for every entry they visit.
+ */
+public class AccessorBenchmarkImplementation extends BenchmarkImplementationBuilder {
+    private static final String NESTED_NAME = "nested.name";
+    private static final String KEYWORDS = "keywords" + STORAGE_ARRAY;
+    private static final int READS = 1000;
+    private static final StorageObject OBJECT = new StorageObject(ID_NAME, 42);
+    private BiFunction<Object, String, Collection<?>> accessor;
+
+    public AccessorBenchmarkImplementation(BenchmarkGroup group, String name,
+                                           BiFunction<Object, String, Collection<?>> accessor) {
+        super(name);
+        setGroup(group);
+        this.accessor = accessor;
+
+        add("field", future -> read(future, StorageObject.levelField))
+                .add("nested field", future -> read(future, NESTED_NAME))
+                .add("collection field", future -> read(future, KEYWORDS));
+    }
+
+    /**
+     * @return an accessor that reads values with compiled path accessors.
+     */
+    public static BiFunction<Object, String, Collection<?>> compiled() {
+        return (object, path) -> PathAccessor.of(path).apply(object);
+    }
+
+    /**
+     * @return an accessor that splits the path and reads each field reflectively
+     * on every call, used as a baseline to compare the compiled accessors with.
+     */
+    public static BiFunction<Object, String, Collection<?>> reflective() {
+        return (object, path) -> {
+            for (String fieldName : path.replace(STORAGE_ARRAY, "").split("\\.")) {
+                try {
+                    Field field = null;
+                    for (Class<?> type = object.getClass(); field == null; type = type.getSuperclass()) {
+                        for (Field member : type.getDeclaredFields()) {
+                            if (member.getName().equals(fieldName)) {
+                                member.setAccessible(true);
+                                field = member;
+                            }
+                        }
+                    }
+                    object = field.get(object);
+                } catch (Throwable e) {
+                    throw new CoreRuntimeException(getReflectionErrorInSerializer(path));
+                }
+            }
+            if (object instanceof Collection) {
+                return (Collection<?>) object;
+            } else {
+                return Collections.singleton(object);
+            }
+        };
+    }
+
+    /**
+     * Measures the time taken to read the value at the given path a number of times.
+     */
+    private void read(Future<Void> future, String path) {
+        for (int i = 0; i < READS; i++) {
+            accessor.apply(OBJECT, path);
+        }
+        future.complete();
+    }
+}
@@ -0,0 +1,84 @@
+package com.codingchili.core.benchmarking;
+
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import com.codingchili.core.protocol.JsonWireCodec;
+import com.codingchili.core.protocol.WireCodec;
+import com.codingchili.core.security.Token;
+
+import static com.codingchili.core.configuration.CoreStrings.*;
+
+/**
+ * Implementation of a wire codec for use with benchmarking.
+ * <p>
+ * Measures the time taken to encode and decode a typical game message, the
+ * number of bytes the message occupies on the wire is included in the name.
+ */
+public class CodecBenchmarkImplementation extends BenchmarkImplementationBuilder {
+    private static final JsonObject MESSAGE = new JsonObject()
+            .put(PROTOCOL_TARGET, "realm.instance")
+            .put(PROTOCOL_ROUTE, "move")
+            .put(ID_TOKEN, JsonObject.mapFrom(new Token("player.name")
+                    .setKey("Uif/2tNyPTnCuGNUXR0DvpZYMVXp1U1ANQ1Bz4Ck4oE=")
+                    .setExpiry(1600000000L)))
+            .put("creature", new JsonObject()
+                    .put(ID_NAME, "player.name")
+                    .put("level", 42)
+                    .put("health", 87.5)
+                    .put("vector", new JsonObject()
+                            .put("x", 1204.25)
+                            .put("y", 809.5)
+                            .put("direction", 1.57)
+                            .put("velocity", 2.5))
+                    .put("effects", new JsonArray().add("haste").add("regeneration")));
+    private WireCodec codec;
+    private Buffer encoded;
+
+    public CodecBenchmarkImplementation(BenchmarkGroup group, WireCodec codec) {
+        super(codec.name());
+        setGroup(group);
+        this.codec = codec;
+        this.encoded = codec.encode(MESSAGE);
+        setName(String.format("%s (%d bytes)", codec.name(), encoded.length()));
+
+        add("encode", this::encode)
+                .add("decode", this::decode);
+    }
+
+    /**
+     * @return a codec that encodes messages as indented json, used as a baseline
+     * to compare with the compact json that is used on the wire.
+     */
+    public static WireCodec indentedJson() {
+        return new JsonWireCodec() {
+            @Override
+            public String name() {
+                return "json-indented";
+            }
+
+            @Override
+            public Buffer encode(JsonObject message) {
+                return Buffer.buffer(message.encodePrettily());
+            }
+        };
+    }
+
+    /**
+     * Measures the time taken to encode a message into the wire format.
+     */
+    private void encode(Future<Void> future) {
+        codec.encode(MESSAGE);
+        future.complete();
+    }
+
+    /**
+     * Measures the time taken to decode a message from the wire format.
+     */
+    private void decode(Future<Void> future) {
+        codec.decode(encoded);
+        future.complete();
+    }
+}
@@ -1,7 +1,9 @@
 package com.codingchili.core.benchmarking;
 
 import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -9,6 +11,10 @@ import java.util.function.Consumer;
 import com.codingchili.core.benchmarking.reporting.BenchmarkConsoleReport;
 import com.codingchili.core.benchmarking.reporting.BenchmarkHTMLReport;
 import com.codingchili.core.context.*;
+import com.codingchili.core.listener.transport.UdpListener;
+import com.codingchili.core.logging.ConsoleLogger;
+import com.codingchili.core.protocol.*;
+import com.codingchili.core.security.Validator;
 import com.codingchili.core.storage.*;
 
 import static com.codingchili.core.configuration.CoreStrings.*;
@@ -18,6 +24,14 @@ import static com.codingchili.core.configuration.CoreStrings.*;
  */
 public class CoreBenchmarkSuite {
     private static final String MAP_BENCHMARKS = "Map benchmarks";
+    private static final String LISTENER_BENCHMARKS = "Listener benchmarks";
+    private static final String CODEC_BENCHMARKS = "Codec benchmarks";
+    private static final String ACCESSOR_BENCHMARKS = "Accessor benchmarks";
+    private static final String LOGGER_BENCHMARKS = "Logger benchmarks";
+    private static final String TOKEN_BENCHMARKS = "Token benchmarks";
+    private static final String VALIDATOR_BENCHMARKS = "Validator benchmarks";
+    private static final String PROTOCOL_BENCHMARKS = "Protocol benchmarks";
+    private static final int TOKEN_CACHE = 64;
     private int iterations = 15;
 
     /**
@@ -31,9 +45,34 @@ public class CoreBenchmarkSuite {
                 this.iterations = Integer.parseInt(iterations));
 
         SystemContext.clustered(cluster -> {
-            maps(cluster.result(), new BenchmarkConsoleListener()).setHandler(done -> {
+            BenchmarkListener listener = new BenchmarkConsoleListener();
+            List<BenchmarkGroup> results = new ArrayList<>();
+
+            maps(cluster.result(), listener).compose(maps -> {
+                results.addAll(maps);
+                return listeners(cluster.result(), listener);
+            }).compose(listeners -> {
+                results.addAll(listeners);
+                return codecs(cluster.result(), listener);
+            }).compose(codecs -> {
+                results.addAll(codecs);
+                return accessors(cluster.result(), listener);
+            }).compose(accessors -> {
+                results.addAll(accessors);
+                return loggers(cluster.result(), listener);
+            }).compose(loggers -> {
+                results.addAll(loggers);
+                return tokens(cluster.result(), listener);
+            }).compose(tokens -> {
+                results.addAll(tokens);
+                return validators(cluster.result(), listener);
+            }).compose(validators -> {
+                results.addAll(validators);
+                return protocols(cluster.result(), listener);
+            }).setHandler(done -> {
                 if (done.succeeded()) {
-                    createReport(future, done.result(), executor);
+                    results.addAll(done.result());
+                    createReport(future, results, executor);
                 } else {
                     future.fail(done.cause());
                 }
@@ -77,6 +116,10 @@ public class CoreBenchmarkSuite {
         add.accept(SharedMap.class);
         //add.accept(IndexedMapPersisted.class);
         add.accept(IndexedMapVolatile.class);
+        // compares get and query throughput without copying with the copying default above.
+        group.add(new MapBenchmarkImplementation(group, IndexedMapVolatile.class,
+                IndexedMapVolatile.class.getSimpleName() + " (immutable reads)",
+                new JsonObject().put(IndexedMapVolatile.READ_MODE, IndexedMapVolatile.ReadMode.IMMUTABLE.name()), true));
         add.accept(HazelMap.class);
         /*add.accept(ElasticMap.class); requires external servers.
         add.accept(MongoDBMap.class);*/
@@ -89,6 +132,162 @@ public class CoreBenchmarkSuite {
         return future;
     }
 
+    /**
+     * Runs all core transport listener benchmarks.
+     *
+     * @param context  the core context to run benchmark on
+     * @param listener benchmark listener to use
+     * @return a future that is completed with the results of the benchmark.
+     */
+    public Future<List<BenchmarkGroup>> listeners(CoreContext context, BenchmarkListener listener) {
+        Future<List<BenchmarkGroup>> future = Future.future();
+        BenchmarkGroup group = new BenchmarkGroupBuilder(LISTENER_BENCHMARKS, iterations);
+
+        group.add(new ListenerBenchmarkImplementation(group, UdpListener.class.getSimpleName()));
+
+        new BenchmarkExecutor(context)
+                .setListener(listener)
+                .start(group)
+                .setHandler(future);
+
+        return future;
+    }
+
+    /**
+     * Runs all wire codec benchmarks.
+     *
+     * @param context  the core context to run benchmark on
+     * @param listener benchmark listener to use
+     * @return a future that is completed with the results of the benchmark.
+     */
+    public Future<List<BenchmarkGroup>> codecs(CoreContext context, BenchmarkListener listener) {
+        Future<List<BenchmarkGroup>> future = Future.future();
+        BenchmarkGroup group = new BenchmarkGroupBuilder(CODEC_BENCHMARKS, iterations);
+
+        group.add(new CodecBenchmarkImplementation(group, CodecBenchmarkImplementation.indentedJson()));
+        group.add(new CodecBenchmarkImplementation(group, WireCodecs.get(JsonWireCodec.NAME)));
+        group.add(new CodecBenchmarkImplementation(group, WireCodecs.get(CborWireCodec.NAME)));
+
+        new BenchmarkExecutor(context)
+                .setListener(listener)
+                .start(group)
+                .setHandler(future);
+
+        return future;
+    }
+
+    /**
+     * Runs the path accessor benchmarks, compares compiled accessors with reflection.
+     *
+     * @param context  the core context to run benchmark on
+     * @param listener benchmark listener to use
+     * @return a future that is completed with the results of the benchmark.
+     */
+    public Future<List<BenchmarkGroup>> accessors(CoreContext context, BenchmarkListener listener) {
+        Future<List<BenchmarkGroup>> future = Future.future();
+        BenchmarkGroup group = new BenchmarkGroupBuilder(ACCESSOR_BENCHMARKS, iterations);
+
+        group.add(new AccessorBenchmarkImplementation(group, "reflection",
+                AccessorBenchmarkImplementation.reflective()));
+        group.add(new AccessorBenchmarkImplementation(group, PathAccessor.class.getSimpleName(),
+                AccessorBenchmarkImplementation.compiled()));
+
+        new BenchmarkExecutor(context)
+                .setListener(listener)
+                .start(group)
+                .setHandler(future);
+
+        return future;
+    }
+
+    /**
+     * Runs the logger benchmarks, measures the rate at which events are created and formatted.
+     *
+     * @param context  the core context to run benchmark on
+     * @param listener benchmark listener to use
+     * @return a future that is completed with the results of the benchmark.
+     */
+    public Future<List<BenchmarkGroup>> loggers(CoreContext context, BenchmarkListener listener) {
+        Future<List<BenchmarkGroup>> future = Future.future();
+        BenchmarkGroup group = new BenchmarkGroupBuilder(LOGGER_BENCHMARKS, iterations);
+
+        group.add(new LoggerBenchmarkImplementation(group, ConsoleLogger.class.getSimpleName()));
+
+        new BenchmarkExecutor(context)
+                .setListener(listener)
+                .start(group)
+                .setHandler(future);
+
+        return future;
+    }
+
+    /**
+     * Runs the token verification benchmarks, compares verifying on a worker thread
+     * with verifying on the calling thread with and without the verified token cache.
+     *
+     * @param context  the core context to run benchmark on
+     * @param listener benchmark listener to use
+     * @return a future that is completed with the results of the benchmark.
+     */
+    public Future<List<BenchmarkGroup>> tokens(CoreContext context, BenchmarkListener listener) {
+        Future<List<BenchmarkGroup>> future = Future.future();
+        BenchmarkGroup group = new BenchmarkGroupBuilder(TOKEN_BENCHMARKS, iterations);
+
+        group.add(new TokenBenchmarkImplementation(group, "worker pool", 0, true));
+        group.add(new TokenBenchmarkImplementation(group, "uncached", 0, false));
+        group.add(new TokenBenchmarkImplementation(group, "cached", TOKEN_CACHE, false));
+
+        new BenchmarkExecutor(context)
+                .setListener(listener)
+                .start(group)
+                .setHandler(future);
+
+        return future;
+    }
+
+    /**
+     * Runs the request validator benchmarks with chat and account payloads.
+     *
+     * @param context  the core context to run benchmark on
+     * @param listener benchmark listener to use
+     * @return a future that is completed with the results of the benchmark.
+     */
+    public Future<List<BenchmarkGroup>> validators(CoreContext context, BenchmarkListener listener) {
+        Future<List<BenchmarkGroup>> future = Future.future();
+        BenchmarkGroup group = new BenchmarkGroupBuilder(VALIDATOR_BENCHMARKS, iterations);
+
+        group.add(new ValidatorBenchmarkImplementation(group, Validator.class.getSimpleName()));
+
+        new BenchmarkExecutor(context)
+                .setListener(listener)
+                .start(group)
+                .setHandler(future);
+
+        return future;
+    }
+
+    /**
+     * Runs the protocol routing benchmarks with a small and a large number of routes.
+     *
+     * @param context  the core context to run benchmark on
+     * @param listener benchmark listener to use
+     * @return a future that is completed with the results of the benchmark.
+     */
+    public Future<List<BenchmarkGroup>> protocols(CoreContext context, BenchmarkListener listener) {
+        Future<List<BenchmarkGroup>> future = Future.future();
+        BenchmarkGroup group = new BenchmarkGroupBuilder(PROTOCOL_BENCHMARKS, iterations);
+
+        group.add(new ProtocolBenchmarkImplementation(group, "16 routes", 16));
+        group.add(new ProtocolBenchmarkImplementation(group, "256 routes", 256));
+
+        new BenchmarkExecutor(context)
+                .setListener(listener)
+                .start(group)
+                .setHandler(future);
+
+        return future;
+    }
+
     /**
      * Set the number of iterations to perform.
      *
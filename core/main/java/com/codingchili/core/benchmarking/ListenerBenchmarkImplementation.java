@@ -0,0 +1,104 @@
+package com.codingchili.core.benchmarking;
+
+import io.vertx.core.*;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.datagram.DatagramSocket;
+import io.vertx.core.json.JsonObject;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import com.codingchili.core.context.CoreContext;
+import com.codingchili.core.listener.*;
+import com.codingchili.core.listener.transport.UdpListener;
+
+import static com.codingchili.core.configuration.CoreStrings.*;
+
+/**
+ * Implementation of a transport listener for use with benchmarking.
+ * <p>
+ * Measures the number of request/reply round trips per second, each request
+ * is accepted by the handler without any further processing.
+ */
+public class ListenerBenchmarkImplementation extends BenchmarkImplementationBuilder {
+    private static final String ADDRESS = "benchmark.node";
+    private static final String HOST = getLoopbackAddress();
+    private static final Buffer REQUEST = new JsonObject()
+            .put(PROTOCOL_TARGET, ADDRESS)
+            .put(PROTOCOL_ROUTE, ID_PING).toBuffer();
+    private final Queue<Future<Void>> pending = new ConcurrentLinkedQueue<>();
+    private ListenerSettings settings;
+    private DatagramSocket client;
+    private CoreContext core;
+    private String deployment;
+    private int port;
+
+    public ListenerBenchmarkImplementation(BenchmarkGroup group, String implementation) {
+        super(implementation);
+        setGroup(group);
+
+        add("udp request", this::udpRequest);
+    }
+
+    @Override
+    public void initialize(CoreContext core, Handler<AsyncResult<Void>> handler) {
+        this.core = core;
+        this.settings = new ListenerSettings()
+                .setType(WireType.UDP)
+                .setPort(0);
+
+        core.listener(() -> new UdpListener().settings(settings).handler(new AcceptingHandler()))
+                .compose(deployed -> {
+                    Promise<DatagramSocket> listening = Promise.promise();
+                    this.deployment = deployed;
+                    this.port = settings.getListenPorts().iterator().next();
+                    this.client = core.vertx().createDatagramSocket();
+                    client.listen(0, HOST, listening);
+                    return listening.future();
+                }).setHandler(listening -> {
+            if (listening.succeeded()) {
+                client.handler(reply -> {
+                    Future<Void> future = pending.poll();
+                    if (future != null) {
+                        future.complete();
+                    }
+                });
+                handler.handle(Future.succeededFuture());
+            } else {
+                handler.handle(Future.failedFuture(listening.cause()));
+            }
+        });
+    }
+
+    @Override
+    public void shutdown(Future<Void> future) {
+        client.close();
+        core.stop(deployment);
+        future.complete();
+    }
+
+    /**
+     * Measures the time taken to send a request over UDP and receive the reply.
+     */
+    private void udpRequest(Future<Void> future) {
+        pending.add(future);
+        client.send(REQUEST, port, HOST, sent -> {
+            if (sent.failed()) {
+                pending.remove(future);
+                future.fail(sent.cause());
+            }
+        });
+    }
+
+    private static class AcceptingHandler implements CoreHandler {
+        @Override
+        public void handle(Request request) {
+            request.accept();
+        }
+
+        @Override
+        public String address() {
+            return ADDRESS;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.codingchili.core.benchmarking;
+
+import io.vertx.core.*;
+import io.vertx.core.json.JsonObject;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.codingchili.core.context.CoreContext;
+import com.codingchili.core.logging.ConsoleLogger;
+import com.codingchili.core.logging.Level;
+
+import static com.codingchili.core.configuration.CoreStrings.*;
+
+/**
+ * Implementation of a console logger for use with benchmarking.
+ * <p>
+ * Measures the time taken to create and format a batch of logging events,
+ * the console must keep up with this rate when a hot loop is logging. The
+ * write benchmark pushes the events through the console writer thread and
+ * completes when the last line is written, without printing the lines. The
+ * iterations of the write benchmark are written one after another, so that the
+ * lines of an iteration are never dropped by the bounded console queue.
+ */
+public class LoggerBenchmarkImplementation extends BenchmarkImplementationBuilder {
+    private static final String EVENT = "benchmark";
+    // below the default console capacity so that no lines are dropped.
+    private static final int EVENTS = 1000;
+    private FormattingLogger logger = new FormattingLogger();
+    private Future<Void> previous = Future.succeededFuture();
+    private Context context;
+
+    public LoggerBenchmarkImplementation(BenchmarkGroup group, String name) {
+        super(name);
+        setGroup(group);
+
+        add("create event", future -> events(future, false))
+                .add("format event", future -> events(future, true))
+                .add("write event", this::write);
+    }
+
+    @Override
+    public void initialize(CoreContext core, Handler<AsyncResult<Void>> future) {
+        this.context = core.vertx().getOrCreateContext();
+        super.initialize(core, future);
+    }
+
+    /**
+     * Measures the time taken to log a number of events until the console
+     * writer has formatted and written all of them.
+     */
+    private void write(Future<Void> future) {
+        Future<Void> written = Future.future();
+
+        // each iteration counts its own lines and starts when the previous is written.
+        previous.setHandler(done -> context.runOnContext(v -> {
+            WritingLogger writer = new WritingLogger(EVENTS, written);
+
+            for (int i = 0; i < EVENTS; i++) {
+                writer.event(EVENT, Level.WARNING)
+                        .put(ID_NAME, i)
+                        .send(ERROR_NOT_AUTHORIZED);
+            }
+        }));
+        previous = written;
+        written.setHandler(future);
+    }
+
+    /**
+     * Measures the time taken to create a number of events, optionally formatting
+     * each event into a console line.
+     */
+    private void events(Future<Void> future, boolean format) {
+        for (int i = 0; i < EVENTS; i++) {
+            JsonObject event = logger.event(EVENT, Level.WARNING)
+                    .put(PROTOCOL_MESSAGE, ERROR_NOT_AUTHORIZED)
+                    .put(ID_NAME, i)
+                    .toJson();
+
+            if (format) {
+                logger.format(event);
+            }
+        }
+        future.complete();
+    }
+
+    /**
+     * A console logger that formats events without writing them.
+     */
+    private static class FormattingLogger extends ConsoleLogger {
+        FormattingLogger() {
+            super(LoggerBenchmarkImplementation.class);
+        }
+
+        String format(JsonObject event) {
+            return parseJsonLog(event, event.getString(LOG_EVENT));
+        }
+    }
+
+    /**
+     * A console logger that counts the lines written by the console writer instead of printing them.
+     */
+    private static class WritingLogger extends ConsoleLogger {
+        private final AtomicInteger remaining;
+        private final Future<Void> written;
+
+        WritingLogger(int lines, Future<Void> written) {
+            super(LoggerBenchmarkImplementation.class);
+            this.remaining = new AtomicInteger(lines);
+            this.written = written;
+        }
+
+        @Override
+        protected void write(String line) {
+            if (remaining.decrementAndGet() == 0) {
+                written.complete();
+            }
+        }
+    }
+}
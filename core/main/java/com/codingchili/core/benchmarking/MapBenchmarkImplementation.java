@@ -1,7 +1,10 @@
 package com.codingchili.core.benchmarking;
 
 import io.vertx.core.*;
+import io.vertx.core.json.JsonObject;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import com.codingchili.core.context.CoreContext;
@@ -13,18 +16,42 @@ import static com.codingchili.core.configuration.CoreStrings.ID_NAME;
 
 /**
  * Implementation of a map for use with benchmarking.
+ * <p>
+ * Values may be created as #{@link Immutable}, to compare storages that copy values
+ * with storages that are configured to share immutable values.
  */
 public class MapBenchmarkImplementation extends BenchmarkImplementationBuilder {
     private static final String COLLECTION = "collection";
     private static final String DB = "db";
+    private static final String BATCH = ".batch";
+    private static final String BULK = ".bulk";
+    private static final int BATCH_SIZE = 1000;
+    private static final int[] BULK_SIZES = {16, 256};
+    private static final int PAGE_SIZE = 10;
     private AtomicInteger counter = new AtomicInteger(0);
     private AsyncStorage<StorageObject> storage;
     private Class<? extends AsyncStorage> plugin;
+    private JsonObject properties;
+    private boolean immutable;
 
     public MapBenchmarkImplementation(BenchmarkGroup group, Class<? extends AsyncStorage> plugin, String implementation) {
+        this(group, plugin, implementation, null, false);
+    }
+
+    /**
+     * @param group          the group the benchmark is part of.
+     * @param plugin         the storage plugin to benchmark.
+     * @param implementation the name of the implementation.
+     * @param properties     storage properties to configure the plugin with, null for defaults.
+     * @param immutable      true if the stored values are to be #{@link Immutable}.
+     */
+    public MapBenchmarkImplementation(BenchmarkGroup group, Class<? extends AsyncStorage> plugin,
+                                      String implementation, JsonObject properties, boolean immutable) {
         super(implementation);
         setGroup(group);
         this.plugin = plugin;
+        this.properties = properties;
+        this.immutable = immutable;
 
         add("put all", this::putOne)
                 .add("get all", this::getOne)
@@ -33,13 +60,23 @@ public class MapBenchmarkImplementation extends BenchmarkImplementationBuilder {
                 .add("equal to query", this::equalToQuery)
                 .add("equal to primary key", this::equalToPrimaryKey)
                 .add("regular expression", this::regexpQuery)
-                .add("starts with", this::startsWithQuery);
+                .add("starts with", this::startsWithQuery)
+                .add("put batch", this::putBatch)
+                .add("page query", this::pageQuery)
+                .add("ordered page query", this::orderedPageQuery);
+
+        for (int size : BULK_SIZES) {
+            add("bulk put " + size, future -> putAll(future, size))
+                    .add("bulk get " + size, future -> getAll(future, size))
+                    .add("bulk remove " + size, future -> removeAll(future, size));
+        }
     }
 
     @Override
     public void initialize(CoreContext core, Handler<AsyncResult<Void>> handler) {
         new StorageLoader<StorageObject>(new StorageContext<>(core))
                 .withPlugin(plugin)
+                .withProperties(properties)
                 .withValue(StorageObject.class)
                 .withDB(DB, COLLECTION).build(store -> {
             this.storage = store.result();
@@ -68,13 +105,69 @@ public class MapBenchmarkImplementation extends BenchmarkImplementationBuilder {
      */
     private void putOne(Future<Void> future) {
         int id = counter.getAndIncrement();
-        storage.put(new StorageObject(getName(id), id), done -> future.complete());
+        storage.put(value(getName(id), id), done -> future.complete());
+    }
+
+    /**
+     * Measures the time taken to put a batch of entries into the map, grows the
+     * collection for the paging benchmarks.
+     */
+    private void putBatch(Future<Void> future) {
+        int batch = counter.getAndIncrement();
+        AtomicInteger remaining = new AtomicInteger(BATCH_SIZE);
+
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            int id = batch * BATCH_SIZE + i;
+            storage.put(value(getName(id) + BATCH, id), done -> {
+                if (remaining.decrementAndGet() == 0) {
+                    future.complete();
+                }
+            });
+        }
+    }
+
+    /**
+     * Measures the time taken to put a batch of entries into the map with a single bulk operation.
+     */
+    private void putAll(Future<Void> future, int size) {
+        List<StorageObject> values = new ArrayList<>(size);
+        for (String key : getBulkNames(size)) {
+            values.add(value(key, counter.get()));
+        }
+        storage.putAll(values, done -> future.complete());
+    }
+
+    /**
+     * Measures the time taken to get a batch of entries by their primary keys with a single bulk operation.
+     */
+    private void getAll(Future<Void> future, int size) {
+        storage.getAll(getBulkNames(size), done -> future.complete());
+    }
+
+    /**
+     * Measures the time taken to remove a batch of entries by their primary keys with a single bulk operation.
+     */
+    private void removeAll(Future<Void> future, int size) {
+        storage.removeAll(getBulkNames(size), done -> future.complete());
+    }
+
+    private List<String> getBulkNames(int size) {
+        int batch = counter.getAndIncrement();
+        List<String> keys = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            keys.add(getName(batch * size + i) + BULK);
+        }
+        return keys;
     }
 
     private String getName(int id) {
         return id + ".name";
     }
 
+    private StorageObject value(String name, int level) {
+        return (immutable) ? new ImmutableStorageObject(name, level) : new StorageObject(name, level);
+    }
+
     /**
      * Measures the time taken to get all entries one by one by their primary key.
      */
@@ -133,6 +226,31 @@ public class MapBenchmarkImplementation extends BenchmarkImplementationBuilder {
                 .execute(done -> future.complete());
     }
 
+    /**
+     * Measures the time taken to get a small page of entries from a large collection
+     * when the results are not ordered.
+     */
+    private void pageQuery(Future<Void> future) {
+        storage.query()
+                .on(ID_NAME).like(BATCH)
+                .pageSize(PAGE_SIZE)
+                .page(counter.getAndIncrement())
+                .execute(done -> future.complete());
+    }
+
+    /**
+     * Measures the time taken to get a small page of entries from a large collection
+     * when the results are ordered.
+     */
+    private void orderedPageQuery(Future<Void> future) {
+        storage.query()
+                .on(ID_NAME).like(BATCH)
+                .orderBy(ID_NAME).order(SortOrder.DESCENDING)
+                .pageSize(PAGE_SIZE)
+                .page(counter.getAndIncrement())
+                .execute(done -> future.complete());
+    }
+
     /**
      * Measures the time taken to get all entries that are equal to the given primary key.
      */
@@ -142,4 +260,13 @@ public class MapBenchmarkImplementation extends BenchmarkImplementationBuilder {
                 .equalTo(counter.getAndIncrement() + "")
                 .execute(done -> future.complete());
     }
+
+    /**
+     * A storage object that is never modified after it is stored by the benchmark.
+     */
+    private static class ImmutableStorageObject extends StorageObject implements Immutable {
+        ImmutableStorageObject(String name, int level) {
+            super(name, level);
+        }
+    }
 }
@@ -0,0 +1,76 @@
+package com.codingchili.core.benchmarking;
+
+import io.vertx.core.Future;
+
+import com.codingchili.core.listener.Request;
+import com.codingchili.core.protocol.Protocol;
+import com.codingchili.core.protocol.RoleType;
+import com.codingchili.core.testing.EmptyRequest;
+
+import static com.codingchili.core.configuration.CoreStrings.ANY;
+import static com.codingchili.core.protocol.Role.*;
+
+/**
+ * Implementation of a protocol for use with benchmarking.
+ * <p>
+ * Measures the time taken to route and authorize a batch of requests, as done
+ * for every request that is received by a handler. The processed operation measures
+ * the overhead of authentication and of recording metrics for each route.
+ */
+public class ProtocolBenchmarkImplementation extends BenchmarkImplementationBuilder {
+    private static final String MISSING = "missing";
+    private static final int REQUESTS = 1000;
+    private final Protocol<Request> protocol = new Protocol<>();
+    private final Request request = new EmptyRequest();
+    private final String[] routes;
+    private int processed = 0;
+
+    /**
+     * @param group  the group the benchmark is a member of.
+     * @param name   the name of the implementation.
+     * @param routes the number of routes to register on the protocol.
+     */
+    public ProtocolBenchmarkImplementation(BenchmarkGroup group, String name, int routes) {
+        super(name);
+        setGroup(group);
+        this.routes = new String[routes];
+
+        for (int i = 0; i < routes; i++) {
+            this.routes[i] = "route-" + i;
+            protocol.use(this.routes[i], request -> {
+                // measures routing only.
+            }, USER);
+        }
+        protocol.use(ANY, request -> {
+            // measures routing only.
+        }, PUBLIC);
+        protocol.authenticator(request -> Future.succeededFuture(USER))
+                .routeMapper(request -> this.routes[processed++ % this.routes.length]);
+
+        add("exact role", future -> route(future, USER, false))
+                .add("inherited role", future -> route(future, ADMIN, false))
+                .add("fallback route", future -> route(future, USER, true))
+                .add("processed route", this::process);
+    }
+
+    /**
+     * Measures the time taken to process a number of requests, including metrics.
+     */
+    private void process(Future<Void> future) {
+        for (int i = 0; i < REQUESTS; i++) {
+            protocol.process(request);
+        }
+        future.complete();
+    }
+
+    /**
+     * Measures the time taken to retrieve and invoke the handlers of a number of routes.
+     */
+    private void route(Future<Void> future, RoleType role, boolean missing) {
+        for (int i = 0; i < REQUESTS; i++) {
+            String route = (missing) ? MISSING : routes[i % routes.length];
+            protocol.get(route, role).submit(request);
+        }
+        future.complete();
+    }
+}
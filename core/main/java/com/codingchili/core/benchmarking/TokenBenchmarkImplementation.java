@@ -0,0 +1,76 @@
+package com.codingchili.core.benchmarking;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.codingchili.core.context.CoreContext;
+import com.codingchili.core.security.Token;
+import com.codingchili.core.security.TokenFactory;
+
+/**
+ * Implementation of a token factory for use with benchmarking.
+ * <p>
+ * Measures the time taken to verify a batch of requests that carry the same
+ * token, as done for every request to an authenticated route.
+ */
+public class TokenBenchmarkImplementation extends BenchmarkImplementationBuilder {
+    private static final byte[] SECRET = "benchmark-secret".getBytes();
+    private static final int VERIFICATIONS = 1000;
+    private final boolean blocking;
+    private final int cacheSize;
+    private TokenFactory factory;
+    private CoreContext core;
+    private Token token;
+
+    /**
+     * @param group     the group the benchmark is a member of.
+     * @param name      the name of the implementation.
+     * @param cacheSize the number of verified tokens to cache, zero disables caching.
+     * @param blocking  true if each verification is executed on a worker thread.
+     */
+    public TokenBenchmarkImplementation(BenchmarkGroup group, String name, int cacheSize, boolean blocking) {
+        super(name);
+        setGroup(group);
+        this.cacheSize = cacheSize;
+        this.blocking = blocking;
+
+        add("verify hmac token", this::verify);
+    }
+
+    @Override
+    public void initialize(CoreContext core, Handler<AsyncResult<Void>> handler) {
+        this.core = core;
+        this.factory = new TokenFactory(core, SECRET, cacheSize);
+        this.token = new Token("benchmark.domain")
+                .addProperty("roles", Arrays.asList("player", "moderator"));
+
+        factory.hmac(token).setHandler(handler);
+    }
+
+    /**
+     * Measures the time taken to verify the same token a number of times.
+     */
+    private void verify(Future<Void> future) {
+        AtomicInteger verified = new AtomicInteger(0);
+
+        for (int i = 0; i < VERIFICATIONS; i++) {
+            Handler<AsyncResult<Void>> done = result -> {
+                if (result.failed()) {
+                    future.tryFail(result.cause());
+                } else if (verified.incrementAndGet() == VERIFICATIONS) {
+                    future.tryComplete();
+                }
+            };
+
+            if (blocking) {
+                core.<Void>blocking(verify -> factory.verify(token).setHandler(verify), done);
+            } else {
+                factory.verify(token).setHandler(done);
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.codingchili.core.benchmarking;
+
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.util.function.Supplier;
+
+import com.codingchili.core.configuration.system.ValidatorSettings;
+import com.codingchili.core.security.Validator;
+
+import static com.codingchili.core.configuration.CoreStrings.*;
+import static com.codingchili.core.security.RegexAction.*;
+
+/**
+ * Implementation of a request validator for use with benchmarking.
+ * <p>
+ * Measures the time taken to validate a batch of typical chat and account
+ * payloads with a set of validators similar to a game configuration.
+ */
+public class ValidatorBenchmarkImplementation extends BenchmarkImplementationBuilder {
+    private static final String ACCOUNT = "account";
+    private static final int PAYLOADS = 1000;
+    private final Validator validator = new Validator()
+            .add(new ValidatorSettings("user-name")
+                    .addKeys(ID_USERNAME, ID_NAME)
+                    .length(4, 32)
+                    .addRegex(ACCEPT, "[A-Za-z0-9]*"))
+            .add(new ValidatorSettings("chat-messages")
+                    .addKey(ID_MESSAGE)
+                    .length(1, 256)
+                    .addRegex(SUBSTITUTE, "(f..(c|k))", "*^$#!?")
+                    .addRegex(SUBSTITUTE, "<[^>]*>", ""))
+            .add(new ValidatorSettings("no-control")
+                    .addRegex(REJECT, ".*[\\x00-\\x08].*"));
+
+    public ValidatorBenchmarkImplementation(BenchmarkGroup group, String name) {
+        super(name);
+        setGroup(group);
+
+        add("chat message", future -> validate(future, ValidatorBenchmarkImplementation::chat))
+                .add(ACCOUNT, future -> validate(future, ValidatorBenchmarkImplementation::account));
+    }
+
+    private static JsonObject chat() {
+        return new JsonObject()
+                .put(PROTOCOL_ROUTE, "chat")
+                .put(PROTOCOL_TARGET, "realm.instance")
+                .put(ID_NAME, "playerName")
+                .put(ID_MESSAGE, "meet me at the <b>fountain</b> in the main square before the raid");
+    }
+
+    private static JsonObject account() {
+        return new JsonObject()
+                .put(PROTOCOL_ROUTE, "register")
+                .put(PROTOCOL_TARGET, "authentication.client")
+                .put(ACCOUNT, new JsonObject()
+                        .put(ID_USERNAME, "playerName")
+                        .put(ID_PASSWORD, "correct horse battery staple")
+                        .put("email", "player@example.com")
+                        .put("characters", new JsonArray().add("warrior").add("mage")));
+    }
+
+    /**
+     * Measures the time taken to validate a number of payloads.
+     */
+    private void validate(Future<Void> future, Supplier<JsonObject> payload) {
+        for (int i = 0; i < PAYLOADS; i++) {
+            validator.validate(payload.get());
+        }
+        future.complete();
+    }
+}
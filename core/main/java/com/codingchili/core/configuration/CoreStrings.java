@@ -79,6 +79,7 @@ public abstract class CoreStrings {
     public static final String PROTOCOL_ROUTE = "route";
     public static final String PROTOCOL_TARGET = "target";
     public static final String PROTOCOL_LOGGING = "logging";
+    public static final String PROTOCOL_LOGGING_BATCH = "logging.batch";
     public static final String PROTOCOL_DOCUMENTATION = "documentation";
     public static final String DEFAULT_KEYSTORE = "keystore.jks";
 
@@ -231,6 +232,18 @@ public abstract class CoreStrings {
         return String.format("Maximum request size of %d bytes exceeded.", maxRequestBytes);
     }
 
+    public static String getWorkerPoolRejected(String pool) {
+        return String.format("Worker pool '%s' is full, the blocking handler was rejected.", pool);
+    }
+
+    public static String getWireCodecMissing(String name) {
+        return String.format("No wire codec registered with the name '%s'.", name);
+    }
+
+    public static String getFrameDelimiterBinaryCodec(String name) {
+        return String.format("Delimiter framing requires a text codec, '%s' is binary.", name);
+    }
+
     public static String getParam(String command) {
         return COMMAND_PREFIX + command;
     }
@@ -439,6 +452,10 @@ public abstract class CoreStrings {
                 "nor on the classpath.";
     }
 
+    public static String getStorageFailure(String cause) {
+        return String.format("%s %s", ERROR_STORAGE_EXCEPTION, cause);
+    }
+
     public static String getStorageLoaderMissingArgument(String type) {
         return "storage loader is missing argument for attribute '" + type + "'.";
     }
@@ -602,6 +619,10 @@ public abstract class CoreStrings {
         return "Timed out after waiting for  " + timeout + "(ms) for address: " + target;
     }
 
+    public static String getResponseTimeout(int timeout) {
+        return "Timed out after waiting for " + timeout + "(ms) for the response.";
+    }
+
     public static String getNodeNotReachable(String target, String route) {
         return "The remote node '" + target + "' not available, requested handler '" + route + "'.";
     }
@@ -1,14 +1,24 @@
 package com.codingchili.core.configuration;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 import com.codingchili.core.security.RegexAction;
 
 /**
  * Contains settings used for a single regex validator action.
+ * <p>
+ * The expression is compiled when it is set, which happens once when the
+ * configuration is loaded or reloaded.
  */
 public class RegexComponent {
     private RegexAction action;
     private String expression;
     private String substitution;
+    private Pattern pattern;
+    private String replacement;
 
     public RegexComponent() {
     }
@@ -42,9 +52,18 @@ public class RegexComponent {
      */
     public RegexComponent setExpression(String expression) {
         this.expression = expression;
+        this.pattern = (expression == null) ? null : Pattern.compile(expression);
         return this;
     }
 
+    /**
+     * @return the compiled regular expression.
+     */
+    @JsonIgnore
+    public Pattern getPattern() {
+        return pattern;
+    }
+
     /**
      * @return the replacement text used when action is  {@link RegexAction#SUBSTITUTE}.
      */
@@ -59,6 +78,15 @@ public class RegexComponent {
      */
     public RegexComponent setSubstitution(String substitution) {
         this.substitution = substitution;
+        this.replacement = (substitution == null) ? null : Matcher.quoteReplacement(substitution);
         return this;
     }
+
+    /**
+     * @return the substitution quoted for use as a literal replacement of matches.
+     */
+    @JsonIgnore
+    public String getReplacement() {
+        return replacement;
+    }
 }
@@ -0,0 +1,23 @@
+package com.codingchili.core.configuration.system;
+
+/**
+ * Determines how blocking handlers are handled when submitted to a worker
+ * pool that has all of its workers busy and a full queue.
+ */
+public enum RejectionPolicy {
+    /**
+     * The handler is not executed and its result fails with a rejection.
+     */
+    FAIL,
+
+    /**
+     * The oldest queued handler fails with a rejection to make room for the new handler.
+     */
+    DROP_OLDEST,
+
+    /**
+     * The handler is executed on the shared worker pool instead, no handlers
+     * are rejected but the pool is no longer isolated when overloaded.
+     */
+    SHARED
+}
@@ -39,6 +39,7 @@ public class SecuritySettings implements Configurable {
 
     private int secretBytes = 64;
     private int tokenttl = 3600 * 24 * 7;
+    private int tokenCache = 8192;
 
     static {
         StartupListener.subscribe(core -> {
@@ -250,4 +251,21 @@ public class SecuritySettings implements Configurable {
         this.tokenttl = tokenttl;
         return this;
     }
+
+    /**
+     * @return the max number of verified tokens that each token factory caches
+     * until the tokens expire, zero disables caching.
+     */
+    public int getTokenCache() {
+        return tokenCache;
+    }
+
+    /**
+     * @param tokenCache the max number of verified tokens to cache, zero disables caching.
+     * @return fluent.
+     */
+    public SecuritySettings setTokenCache(int tokenCache) {
+        this.tokenCache = tokenCache;
+        return this;
+    }
 }
@@ -1,9 +1,14 @@
 package com.codingchili.core.configuration.system;
 
+import com.codingchili.core.context.WorkerPool;
+import com.codingchili.core.logging.LoggingSettings;
 import com.codingchili.core.metrics.MetricSettings;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.vertx.core.VertxOptions;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import com.codingchili.core.configuration.Configurable;
 import com.codingchili.core.configuration.Environment;
 
@@ -14,6 +19,7 @@ import static com.codingchili.core.configuration.CoreStrings.PATH_SYSTEM;
  */
 public class SystemSettings implements Configurable {
     private MetricSettings metrics = new MetricSettings();
+    private LoggingSettings logging = new LoggingSettings();
     private VertxOptions options = null;
     private int services = 1;
     private int handlers = 1;
@@ -30,6 +36,19 @@ public class SystemSettings implements Configurable {
     private int workerPoolSize = Math.min(
             Runtime.getRuntime().availableProcessors() * 8, // up to 8 core.
             32 + Runtime.getRuntime().availableProcessors() * 4); // over 8 cores.
+    private Map<String, WorkerPoolSettings> pools = new HashMap<>();
+
+    {
+        pools.put(WorkerPool.STORAGE, new WorkerPoolSettings()
+                .setSize(Math.max(4, Runtime.getRuntime().availableProcessors() * 2))
+                .setQueue(8192)
+                .setRejection(RejectionPolicy.SHARED));
+
+        // password hashing is slow by design: fail early instead of queueing logins.
+        pools.put(WorkerPool.HASHING, new WorkerPoolSettings()
+                .setQueue(256)
+                .setRejection(RejectionPolicy.FAIL));
+    }
 
     {
         System.setProperty("kryo.unsafe", String.valueOf(unsafe));
@@ -51,6 +70,22 @@ public class SystemSettings implements Configurable {
         this.metrics = metrics;
     }
 
+    /**
+     * @return settings for buffering and batching of remote log events.
+     */
+    public LoggingSettings getLogging() {
+        return logging;
+    }
+
+    /**
+     * @param logging settings for buffering and batching of remote log events.
+     * @return fluent
+     */
+    public SystemSettings setLogging(LoggingSettings logging) {
+        this.logging = logging;
+        return this;
+    }
+
     /**
      * @return the number of handlers to deploy for each name.
      */
@@ -223,6 +258,35 @@ public class SystemSettings implements Configurable {
         return this;
     }
 
+    /**
+     * @return named worker pools that blocking handlers can be submitted to, blocking
+     * handlers submitted to a pool that is not configured are executed on the shared
+     * worker pool. By default storage and password hashing are isolated in their own pools.
+     */
+    public Map<String, WorkerPoolSettings> getPools() {
+        return pools;
+    }
+
+    /**
+     * @param pools named worker pools that blocking handlers can be submitted to.
+     *              must be set before the pools are first used.
+     * @return fluent
+     */
+    public SystemSettings setPools(Map<String, WorkerPoolSettings> pools) {
+        this.pools = pools;
+        return this;
+    }
+
+    /**
+     * @param name     the name of the worker pool to add.
+     * @param settings the settings of the worker pool.
+     * @return fluent
+     */
+    public SystemSettings addPool(String name, WorkerPoolSettings settings) {
+        pools.put(name, settings);
+        return this;
+    }
+
     public int getClusterTimeout() {
         return clusterTimeout;
     }
@@ -0,0 +1,61 @@
+package com.codingchili.core.configuration.system;
+
+/**
+ * Contains settings for a named pool of worker threads used to isolate
+ * blocking work from the shared worker pool.
+ */
+public class WorkerPoolSettings {
+    private RejectionPolicy rejection = RejectionPolicy.FAIL;
+    private int size = Runtime.getRuntime().availableProcessors();
+    private int queue = 1024;
+
+    /**
+     * @return the number of worker threads in the pool.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @param size the number of worker threads in the pool.
+     * @return fluent
+     */
+    public WorkerPoolSettings setSize(int size) {
+        this.size = size;
+        return this;
+    }
+
+    /**
+     * @return the max number of handlers that are queued waiting for a worker
+     * before the rejection policy is applied.
+     */
+    public int getQueue() {
+        return queue;
+    }
+
+    /**
+     * @param queue the max number of handlers that are queued waiting for a worker
+     *              before the rejection policy is applied.
+     * @return fluent
+     */
+    public WorkerPoolSettings setQueue(int queue) {
+        this.queue = queue;
+        return this;
+    }
+
+    /**
+     * @return the policy that is applied when all workers are busy and the queue is full.
+     */
+    public RejectionPolicy getRejection() {
+        return rejection;
+    }
+
+    /**
+     * @param rejection the policy that is applied when all workers are busy and the queue is full.
+     * @return fluent
+     */
+    public WorkerPoolSettings setRejection(RejectionPolicy rejection) {
+        this.rejection = rejection;
+        return this;
+    }
+}
@@ -0,0 +1,190 @@
+package com.codingchili.core.context;
+
+import com.codahale.metrics.*;
+import io.vertx.core.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.codingchili.core.configuration.CoreStrings;
+import com.codingchili.core.configuration.system.RejectionPolicy;
+import com.codingchili.core.configuration.system.WorkerPoolSettings;
+import com.codingchili.core.metrics.MetricSettings;
+import com.codingchili.core.metrics.WorkerMetrics;
+
+/**
+ * Executes blocking handlers on a fixed number of dedicated workers with a bounded queue.
+ * <p>
+ * Results are passed to the result handler on the context that submitted the handler.
+ * Ordered handlers are executed one at a time in the order they were submitted from
+ * the same context, like vert.x executeBlocking, handlers of other contexts are not delayed.
+ * The number of queued and active handlers are recorded as the gauges pool.[name].queued
+ * and pool.[name].active, rejected handlers are recorded by the meter pool.[name].rejected.
+ */
+class BoundedWorkerPool implements WorkerPool {
+    private static final long KEEP_ALIVE = TimeUnit.MINUTES.toMillis(1);
+    private static final String POOL = "pool";
+    private static final String QUEUED = "queued";
+    private static final String ACTIVE = "active";
+    private static final String REJECTED = "rejected";
+    private final WorkerMetrics workers = new WorkerMetrics();
+    private final MetricRegistry registry = SharedMetricRegistries.getOrCreate(MetricSettings.REGISTRY_NAME);
+    private final ThreadPoolExecutor executor;
+    private final RejectionPolicy rejection;
+    private final Meter rejected;
+    private final Vertx vertx;
+    private final String name;
+    private final Map<Context, Future<Void>> ordered = new HashMap<>();
+
+    /**
+     * @param vertx    the vertx instance to execute handlers on if rejected to the shared pool.
+     * @param name     the name of the pool.
+     * @param settings the size, queue bound and rejection policy of the pool.
+     */
+    BoundedWorkerPool(Vertx vertx, String name, WorkerPoolSettings settings) {
+        AtomicInteger threads = new AtomicInteger();
+
+        this.vertx = vertx;
+        this.name = name;
+        this.rejection = settings.getRejection();
+        this.executor = new ThreadPoolExecutor(settings.getSize(), settings.getSize(),
+                KEEP_ALIVE, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(settings.getQueue()),
+                runnable -> {
+                    Thread thread = new Thread(runnable);
+                    thread.setName(String.format("%s-worker-%d", name, threads.getAndIncrement()));
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+
+        this.rejected = registry.meter(MetricRegistry.name(POOL, name, REJECTED));
+        gauge(QUEUED, () -> executor.getQueue().size());
+        gauge(ACTIVE, executor::getActiveCount);
+    }
+
+    private void gauge(String metric, Gauge<Integer> gauge) {
+        String path = MetricRegistry.name(POOL, name, metric);
+        // replaces the gauges of a closed pool with the same name.
+        registry.remove(path);
+        registry.register(path, gauge);
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public <T> void blocking(String component, Handler<Promise<T>> blocking, boolean ordered, Handler<AsyncResult<T>> result) {
+        Task<T> task = new Task<>(component, workers.submit(component, blocking), result);
+
+        if (ordered) {
+            Promise<Void> returned = Promise.promise();
+            Future<Void> previous;
+
+            synchronized (this.ordered) {
+                previous = this.ordered.getOrDefault(task.context, Future.succeededFuture());
+                this.ordered.put(task.context, returned.future());
+            }
+            returned.future().onComplete(done -> {
+                // the last handler of the context has returned.
+                synchronized (this.ordered) {
+                    this.ordered.remove(task.context, returned.future());
+                }
+            });
+            task.returned = returned;
+            previous.onComplete(done -> execute(task));
+        } else {
+            execute(task);
+        }
+    }
+
+    private void execute(Task<?> task) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            rejected.mark();
+
+            if (rejection == RejectionPolicy.SHARED && !executor.isShutdown()) {
+                vertx.executeBlocking(blocking -> {
+                    task.run();
+                    blocking.complete();
+                }, false, null);
+            } else if (rejection == RejectionPolicy.DROP_OLDEST && !executor.isShutdown()) {
+                Runnable oldest = executor.getQueue().poll();
+
+                if (oldest != null) {
+                    ((Task<?>) oldest).reject();
+                }
+                try {
+                    executor.execute(task);
+                } catch (RejectedExecutionException retry) {
+                    task.reject();
+                }
+            } else {
+                task.reject();
+            }
+        }
+    }
+
+    /**
+     * Stops the workers when all queued handlers are executed, handlers submitted after
+     * the pool is closed are rejected.
+     */
+    void close() {
+        executor.shutdown();
+    }
+
+    /**
+     * A blocking handler submitted to the pool.
+     */
+    private class Task<T> implements Runnable {
+        private final Context context = vertx.getOrCreateContext();
+        private final Handler<Promise<T>> blocking;
+        private final Handler<AsyncResult<T>> result;
+        private final String component;
+        private Promise<Void> returned;
+
+        private Task(String component, Handler<Promise<T>> blocking, Handler<AsyncResult<T>> result) {
+            this.component = component;
+            this.blocking = blocking;
+            this.result = result;
+        }
+
+        @Override
+        public void run() {
+            Promise<T> promise = Promise.promise();
+            try {
+                blocking.handle(promise);
+            } catch (Throwable e) {
+                promise.tryFail(e);
+            } finally {
+                if (returned != null) {
+                    returned.complete();
+                }
+            }
+            promise.future().onComplete(this::complete);
+        }
+
+        private void reject() {
+            workers.rejected(component);
+            if (returned != null) {
+                returned.complete();
+            }
+            complete(Future.failedFuture(
+                    new RejectedExecutionException(CoreStrings.getWorkerPoolRejected(name))));
+        }
+
+        private void complete(AsyncResult<T> done) {
+            if (result != null) {
+                context.runOnContext(v -> result.handle(done));
+            }
+        }
+    }
+}
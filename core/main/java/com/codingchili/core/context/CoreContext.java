@@ -139,6 +139,40 @@ public interface CoreContext {
      */
     <T> void blocking(Handler<Promise<T>> blocking, boolean ordered, Handler<AsyncResult<T>> result);
 
+    /**
+     * Call to execute the given blocking handler on a worker thread that is
+     * scoped to the current context.
+     *
+     * @param component the name of the component that submits the handler, metrics
+     *                  for the worker pool are recorded by component.
+     * @param blocking  a method that is blocking, to be executed on worker thread.
+     * @param result    handler for the result of the blocking execution.
+     * @param <T>       type parameter.
+     */
+    default <T> void blocking(String component, Handler<Promise<T>> blocking, Handler<AsyncResult<T>> result) {
+        blocking(component, blocking, false, result);
+    }
+
+    /**
+     * Call to execute the given blocking handler on a worker thread that is
+     * scoped to the current context.
+     *
+     * @param <T>       type parameter for the result
+     * @param component the name of the component that submits the handler, metrics
+     *                  for the worker pool are recorded by component.
+     * @param blocking  a handler that executes blocking code
+     * @param ordered   if true, indicates that the tasks must be completed in the same order as they are started.
+     * @param result    handler for the result that is called asynchronously
+     */
+    <T> void blocking(String component, Handler<Promise<T>> blocking, boolean ordered, Handler<AsyncResult<T>> result);
+
+    /**
+     * @param name the name of a worker pool configured in #{@link SystemSettings#getPools()}.
+     * @return the worker pool with the given name, blocking handlers submitted to a pool
+     * that is not configured are executed on the shared worker pool.
+     */
+    WorkerPool pool(String name);
+
     /**
      * @param aClass added as metadata to all logged events.
      * @return get a new instance of a logger.
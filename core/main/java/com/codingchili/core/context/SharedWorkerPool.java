@@ -0,0 +1,43 @@
+package com.codingchili.core.context;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import com.codingchili.core.metrics.WorkerMetrics;
+
+/**
+ * Executes blocking handlers on the shared vert.x worker pool.
+ */
+class SharedWorkerPool implements WorkerPool {
+    private final WorkerMetrics workers = new WorkerMetrics();
+    private final Vertx vertx;
+    private final String name;
+
+    /**
+     * @param vertx the vertx instance that owns the worker pool.
+     * @param name  the name of the pool.
+     */
+    SharedWorkerPool(Vertx vertx, String name) {
+        this.vertx = vertx;
+        this.name = name;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public <T> void blocking(String component, Handler<Promise<T>> blocking, boolean ordered, Handler<AsyncResult<T>> result) {
+        try {
+            vertx.executeBlocking(workers.submit(component, blocking), ordered, result);
+        } catch (RejectedExecutionException e) {
+            workers.rejected(component);
+            throw e;
+        }
+    }
+}
@@ -40,6 +40,22 @@ public class StorageContext<Value> extends SystemContext {
                 .setMetadataValue(ID_DB, () -> database);
     }
 
+    /**
+     * @return the name of the storage plugin, blocking storage operations are recorded by plugin.
+     */
+    @Override
+    protected String component() {
+        return (plugin == null) ? super.component() : plugin.getSimpleName();
+    }
+
+    /**
+     * Executes blocking storage operations on the storage worker pool.
+     */
+    @Override
+    public <T> void blocking(String component, Handler<Promise<T>> sync, boolean ordered, Handler<AsyncResult<T>> result) {
+        pool(WorkerPool.STORAGE).blocking(component, sync, ordered, result);
+    }
+
     /**
      * @return get the storage settings.
      */
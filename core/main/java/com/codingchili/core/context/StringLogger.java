@@ -31,7 +31,7 @@ public class StringLogger extends ConsoleLogger {
     @Override
     protected String parseJsonLog(JsonObject data, String event) {
         String message = data.getString(LOG_MESSAGE);
-        LogLevel level = consumeLevel(data);
+        LogLevel level = readLevel(data);
 
         return level.apply(Ansi.ansi())
                 .a(message)
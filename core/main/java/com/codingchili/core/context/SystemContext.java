@@ -5,6 +5,9 @@ import com.codingchili.core.configuration.system.SystemSettings;
 import com.codingchili.core.files.Configurations;
 import com.codingchili.core.listener.*;
 import com.codingchili.core.listener.transport.ClusterListener;
+import com.codingchili.core.listener.transport.WireMessage;
+import com.codingchili.core.listener.transport.WireMessageCodec;
+import com.codingchili.core.logging.ConsoleLogger;
 import com.codingchili.core.logging.Logger;
 import com.codingchili.core.logging.RemoteLogger;
 import com.codingchili.core.metrics.MetricCollector;
@@ -26,6 +29,7 @@ import static com.codingchili.core.configuration.CoreStrings.getUnsupportedDeplo
  * Implementation of the CoreContext, each context gets its own worker pool.
  */
 public class SystemContext implements CoreContext {
+    private static final String DEFAULT_COMPONENT = "default";
     private static AtomicBoolean initialized = new AtomicBoolean(false);
     private Map<String, List<String>> deployments = new HashMap<>();
     private MetricCollector metrics;
@@ -95,7 +99,9 @@ public class SystemContext implements CoreContext {
         // add a shutdown hook for gracefully shutting down the context.
         ShutdownHook.register(this);
 
+        ConsoleLogger.configure(Configurations.system().getLogging());
         vertx.exceptionHandler(throwable -> logger.onError(throwable));
+        vertx.eventBus().registerDefaultCodec(WireMessage.class, new WireMessageCodec());
 
         if (!initialized.get()) {
             this.metrics = new MetricCollector(
@@ -284,7 +290,25 @@ public class SystemContext implements CoreContext {
 
     @Override
     public <T> void blocking(Handler<Promise<T>> sync, boolean ordered, Handler<AsyncResult<T>> result) {
-        vertx.executeBlocking(sync, ordered, result);
+        blocking(component(), sync, ordered, result);
+    }
+
+    @Override
+    public <T> void blocking(String component, Handler<Promise<T>> sync, boolean ordered, Handler<AsyncResult<T>> result) {
+        pool(WorkerPool.DEFAULT).blocking(component, sync, ordered, result);
+    }
+
+    @Override
+    public WorkerPool pool(String name) {
+        return WorkerPools.get(vertx, system(), name);
+    }
+
+    /**
+     * @return the name of the component that blocking handlers are submitted
+     * as when no component is given.
+     */
+    protected String component() {
+        return DEFAULT_COMPONENT;
     }
 
     @Override
@@ -302,6 +326,12 @@ public class SystemContext implements CoreContext {
     @Override
     public void close(Handler<AsyncResult<Void>> handler) {
         initialized.set(false);
+
+        if (logger != null) {
+            // send any buffered log events before the event bus is closed.
+            logger.flush();
+        }
+        WorkerPools.close(vertx);
         vertx.close((close) -> {
             handler.handle(Future.succeededFuture());
         });
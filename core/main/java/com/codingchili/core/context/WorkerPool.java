@@ -0,0 +1,62 @@
+package com.codingchili.core.context;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+
+import com.codingchili.core.configuration.system.SystemSettings;
+
+/**
+ * A pool of worker threads that executes blocking handlers.
+ * <p>
+ * Pools are configured by name in #{@link SystemSettings#getPools()} with a number of
+ * workers, a bound on the number of queued handlers and a policy for handlers that
+ * are rejected when the queue is full. Handlers submitted to a pool without
+ * configuration are executed on the shared vert.x worker pool.
+ */
+public interface WorkerPool {
+    /**
+     * The shared vert.x worker pool.
+     */
+    String DEFAULT = "default";
+
+    /**
+     * The pool that storage plugins execute blocking operations on.
+     */
+    String STORAGE = "storage";
+
+    /**
+     * The pool that passwords are hashed on.
+     */
+    String HASHING = "hashing";
+
+    /**
+     * @return the name of the pool.
+     */
+    String name();
+
+    /**
+     * Call to execute the given blocking handler on a worker in the pool.
+     *
+     * @param component the name of the component that submits the handler, metrics
+     *                  for the worker pool are recorded by component.
+     * @param blocking  a method that is blocking, to be executed on worker thread.
+     * @param result    handler for the result of the blocking execution.
+     * @param <T>       type parameter.
+     */
+    default <T> void blocking(String component, Handler<Promise<T>> blocking, Handler<AsyncResult<T>> result) {
+        blocking(component, blocking, false, result);
+    }
+
+    /**
+     * Call to execute the given blocking handler on a worker in the pool.
+     *
+     * @param <T>       type parameter for the result
+     * @param component the name of the component that submits the handler, metrics
+     *                  for the worker pool are recorded by component.
+     * @param blocking  a handler that executes blocking code
+     * @param ordered   if true, indicates that the tasks must be completed in the same order as they are started.
+     * @param result    handler for the result that is called asynchronously on the calling context.
+     */
+    <T> void blocking(String component, Handler<Promise<T>> blocking, boolean ordered, Handler<AsyncResult<T>> result);
+}
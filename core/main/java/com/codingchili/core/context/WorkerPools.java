@@ -0,0 +1,68 @@
+package com.codingchili.core.context;
+
+import io.vertx.core.Vertx;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.codingchili.core.configuration.system.SystemSettings;
+import com.codingchili.core.configuration.system.WorkerPoolSettings;
+
+/**
+ * Keeps track of the worker pools created for each vertx instance, pools are
+ * created from the settings when first used and closed with the vertx instance.
+ */
+class WorkerPools {
+    private static final Map<Vertx, WorkerPools> instances = new ConcurrentHashMap<>();
+    private final Map<String, WorkerPool> pools = new ConcurrentHashMap<>();
+    private final Vertx vertx;
+
+    private WorkerPools(Vertx vertx) {
+        this.vertx = vertx;
+    }
+
+    /**
+     * @param vertx    the vertx instance that the pool belongs to.
+     * @param settings the settings that configures the pool.
+     * @param name     the name of the pool.
+     * @return the worker pool with the given name, the shared worker pool is used if
+     * there is no pool configured with the name.
+     */
+    static WorkerPool get(Vertx vertx, SystemSettings settings, String name) {
+        return instances.computeIfAbsent(vertx, WorkerPools::new).pool(settings, name);
+    }
+
+    /**
+     * Closes all worker pools that belongs to the given vertx instance.
+     *
+     * @param vertx the vertx instance that is closed.
+     */
+    static void close(Vertx vertx) {
+        WorkerPools removed = instances.remove(vertx);
+
+        if (removed != null) {
+            removed.pools.values().forEach(pool -> {
+                if (pool instanceof BoundedWorkerPool) {
+                    ((BoundedWorkerPool) pool).close();
+                }
+            });
+        }
+    }
+
+    private WorkerPool pool(SystemSettings settings, String name) {
+        WorkerPool pool = pools.get(name);
+
+        if (pool == null) {
+            pool = pools.computeIfAbsent(name, key -> {
+                WorkerPoolSettings configured = settings.getPools().get(key);
+
+                if (configured == null) {
+                    return new SharedWorkerPool(vertx, key);
+                } else {
+                    return new BoundedWorkerPool(vertx, key, configured);
+                }
+            });
+        }
+        return pool;
+    }
+}
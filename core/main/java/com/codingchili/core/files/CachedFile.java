@@ -1,19 +1,35 @@
 package com.codingchili.core.files;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.netty.buffer.Unpooled;
 import io.vertx.core.buffer.Buffer;
 
 import java.io.File;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+import com.codingchili.core.context.CoreRuntimeException;
+import com.codingchili.core.protocol.Serializer;
 
 /**
  * Represents a file loaded from disk into main memory.
+ * <p>
+ * The contents are held in read-only direct buffers that are shared between requests
+ * and written without copying, replaced contents are reclaimed by the garbage collector
+ * when no longer written. An identity variant is always present and a gzip compressed variant is present
+ * when compression is enabled. The ETag is computed from the identity variant.
  */
 public class CachedFile {
+    private static final String DIGEST_ALGORITHM = "SHA-256";
     private String path;
     private Long modified;
     private long size;
-    private byte[] bytes;
+    private Buffer identity;
+    private Buffer compressed;
+    private String etag;
 
     /**
      * Copy constructor.
@@ -24,7 +40,9 @@ public class CachedFile {
         this.path = file.path;
         this.modified = file.modified;
         this.size = file.size;
-        this.bytes = file.bytes;
+        this.identity = file.identity;
+        this.compressed = file.compressed;
+        this.etag = file.etag;
     }
 
     /**
@@ -33,16 +51,79 @@ public class CachedFile {
      * @param fileName the name of the file
      */
     public CachedFile(byte[] bytes, Path path, String fileName) {
+        this(bytes, path, fileName, false);
+    }
+
+    /**
+     * @param bytes    the uncompressed contents of the cached file.
+     * @param path     a path to the file on disk for reading metadata.
+     * @param fileName the name of the file
+     * @param gzip     true if a gzip compressed variant of the file is to be cached.
+     */
+    public CachedFile(byte[] bytes, Path path, String fileName, boolean gzip) {
         File file = path.toFile();
-        this.bytes = bytes;
+        this.setBytes(bytes);
         this.modified = file.lastModified();
         this.size = file.length();
         this.path = fileName;
+
+        if (gzip) {
+            this.compressed = shared(Serializer.gzip(bytes));
+        }
     }
 
+    /**
+     * @param bytes the contents of a file.
+     * @return a weak ETag for the given contents, weak as it is shared by all variants.
+     */
+    public static String etag(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance(DIGEST_ALGORITHM).digest(bytes);
+            return "W/\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new CoreRuntimeException(e.getMessage());
+        }
+    }
+
+    private static Buffer shared(byte[] bytes) {
+        // the buffer is shared by all requests: writing it must never release it. the
+        // memory is owned by the ByteBuffer and is freed when it is garbage collected,
+        // as a reloaded file cannot be released while a response may still be writing it.
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+        direct.flip();
+        return Buffer.buffer(Unpooled.unreleasableBuffer(Unpooled.wrappedBuffer(direct).asReadOnly()));
+    }
+
+    /**
+     * @return the compressed variant of the file if present, otherwise the identity variant.
+     */
     @JsonIgnore
     public Buffer getBuffer() {
-        return Buffer.buffer(bytes);
+        return (compressed == null) ? identity : compressed;
+    }
+
+    /**
+     * @return the uncompressed contents of the file.
+     */
+    @JsonIgnore
+    public Buffer getIdentity() {
+        return identity;
+    }
+
+    /**
+     * @return the gzip compressed contents of the file or null if compression is disabled.
+     */
+    @JsonIgnore
+    public Buffer getCompressed() {
+        return compressed;
+    }
+
+    /**
+     * @return the weak ETag of the contents of the file.
+     */
+    @JsonIgnore
+    public String getETag() {
+        return etag;
     }
 
     public String getPath() {
@@ -70,11 +151,13 @@ public class CachedFile {
     }
 
     public byte[] getBytes() {
-        return bytes;
+        return getBuffer().getBytes();
     }
 
     public CachedFile setBytes(byte[] bytes) {
-        this.bytes = bytes;
+        this.identity = shared(bytes);
+        this.compressed = null;
+        this.etag = etag(bytes);
         return this;
     }
 }
@@ -15,10 +15,11 @@ import com.codingchili.core.context.CoreContext;
 import com.codingchili.core.context.TimerSource;
 import com.codingchili.core.files.exception.FileMissingException;
 import com.codingchili.core.logging.Logger;
-import com.codingchili.core.protocol.Serializer;
 
 /**
  * Caches files from disk in memory and reloads them on change.
+ * <p>
+ * Files are served by the #{@link com.codingchili.core.listener.transport.CachedFileHandler}.
  */
 public final class CachedFileStore implements FileStoreListener {
     private static final HashMap<String, CachedFileStore> stores = new HashMap<>();
@@ -125,12 +126,13 @@ public final class CachedFileStore implements FileStoreListener {
     private void addFile(Path path, Buffer buffer) {
         byte[] fileBytes = buffer.getBytes();
         String filePath = CoreStrings.format(path, settings.getDirectory());
+        CachedFile current = files.get(filePath);
 
-        if (settings.isGzip()) {
-            fileBytes = Serializer.gzip(fileBytes);
+        // skip compressing and replacing the file when the watcher reports unchanged contents.
+        if (current == null || !current.getETag().equals(CachedFile.etag(fileBytes))) {
+            files.put(filePath, new CachedFile(fileBytes, path, filePath, settings.isGzip()));
+            listeners.forEach(listener -> listener.onFileModify(path));
         }
-        files.put(filePath, new CachedFile(fileBytes, path, filePath));
-        listeners.forEach(listener -> listener.onFileModify(path));
     }
 
     @Override
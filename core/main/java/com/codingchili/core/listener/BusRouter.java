@@ -7,6 +7,8 @@ import java.util.Map;
 import java.util.function.Consumer;
 
 import com.codingchili.core.context.CoreContext;
+import com.codingchili.core.listener.transport.WireMessage;
+import com.codingchili.core.listener.transport.WireRequest;
 import com.codingchili.core.logging.Level;
 import com.codingchili.core.logging.Logger;
 import com.codingchili.core.protocol.Address;
@@ -18,12 +20,17 @@ import static io.vertx.core.eventbus.ReplyFailure.*;
 /**
  * Simple handler that routes messages to the event bus and
  * passes eventbus errors back to sender.
+ * <p>
+ * In pass-through mode requests received from the wire are forwarded as
+ * they were received, the receiving node decodes the request and the reply
+ * is relayed to the client without being decoded by the router.
  */
 @Address("dynamic")
 public class BusRouter implements CoreHandler {
     private Map<ReplyFailure, Consumer<Request>> exceptionHandlers = new HashMap<>();
     private Logger logger;
     private CoreContext core;
+    private boolean passThrough = false;
 
     @Override
     public void init(CoreContext core) {
@@ -46,9 +53,15 @@ public class BusRouter implements CoreHandler {
     protected void send(Request request, String target) {
         DeliveryOptions options = new DeliveryOptions().setSendTimeout(request.timeout());
 
-        core.bus().send(target, request.data(), options, send -> {
+        core.bus().send(target, body(request), options, send -> {
             if (send.succeeded()) {
-                request.write(send.result().body());
+                Object reply = send.result().body();
+
+                if (reply instanceof WireMessage) {
+                    request.write(((WireMessage) reply).buffer());
+                } else {
+                    request.write(reply);
+                }
             } else {
                 Throwable exception = send.cause();
 
@@ -62,6 +75,33 @@ public class BusRouter implements CoreHandler {
         });
     }
 
+    private Object body(Request request) {
+        if (passThrough && request instanceof WireRequest) {
+            WireRequest wire = (WireRequest) request;
+            return new WireMessage(wire.codec().name(), wire.buffer());
+        } else {
+            return request.data();
+        }
+    }
+
+    /**
+     * @return true if requests from the wire are forwarded without being decoded.
+     */
+    public boolean isPassThrough() {
+        return passThrough;
+    }
+
+    /**
+     * @param passThrough if true requests received from the wire are forwarded as they
+     *                    were received and replies are relayed without being decoded.
+     *                    Requires that all receiving nodes handle #{@link WireMessage}s.
+     * @return fluent
+     */
+    public BusRouter setPassThrough(boolean passThrough) {
+        this.passThrough = passThrough;
+        return this;
+    }
+
     protected void onRecipientFailure(Request request) {
         request.error(new NodeFailedToAcknowledge(request));
         logger.event(LOG_NODE_FAILURE, Level.WARNING)
@@ -1,6 +1,7 @@
 package com.codingchili.core.listener;
 
 import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
 
 import java.util.Queue;
 import java.util.UUID;
@@ -16,6 +17,7 @@ import com.codingchili.core.storage.*;
  * Creates new sessions and manages existing.
  */
 public class ClusteredSessionFactory implements SessionFactory<ClusteredSession> {
+    private static final int SESSION_NEAR_CACHE = 8192;
     private static AtomicBoolean loading = new AtomicBoolean();
     private static Future<Void> loader = Future.future();
     private static Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
@@ -102,9 +104,12 @@ public class ClusteredSessionFactory implements SessionFactory<ClusteredSession>
     }
 
     private static void create(Future<Void> future) {
+        Class<? extends AsyncStorage> plugin = getPluginWithSelector();
+
         new StorageLoader<ClusteredSession>(core)
-                .withPlugin(getPluginWithSelector())
+                .withPlugin(plugin)
                 .withValue(ClusteredSession.class)
+                .withProperties(getPropertiesWithNearCache(plugin))
                 .build(load -> {
                     if (load.succeeded()) {
                         storage = new ClusteredSessionFactory(load.result());
@@ -115,6 +120,16 @@ public class ClusteredSessionFactory implements SessionFactory<ClusteredSession>
                 });
     }
 
+    // sessions are checked on every request: serve them from the near-cache unless configured.
+    private static JsonObject getPropertiesWithNearCache(Class<? extends AsyncStorage> plugin) {
+        JsonObject properties = Configurations.storage().getSettingsForPlugin(plugin).getProperties().copy();
+
+        if (!properties.containsKey(HazelMap.NEAR_CACHE)) {
+            properties.put(HazelMap.NEAR_CACHE, SESSION_NEAR_CACHE);
+        }
+        return properties;
+    }
+
     private static Class<? extends AsyncStorage> getPluginWithSelector() {
         if (Configurations.launcher().isClustered()) {
             return HazelMap.class;
@@ -0,0 +1,23 @@
+package com.codingchili.core.listener;
+
+/**
+ * Framing of messages on stream oriented transports, such as TCP.
+ */
+public enum FrameType {
+    /**
+     * Each received buffer is handled as a single message, does not support
+     * pipelining as messages may be split or coalesced by the transport.
+     */
+    NONE,
+
+    /**
+     * Each message is prefixed with its length as a 4-byte big endian integer.
+     */
+    LENGTH_PREFIX,
+
+    /**
+     * Messages are terminated by the configured delimiter. Only supported with text
+     * codecs, as binary encoded messages may contain the delimiter.
+     */
+    DELIMITER
+}
@@ -7,6 +7,7 @@ import java.util.*;
 
 import com.codingchili.core.configuration.CoreStrings;
 import com.codingchili.core.configuration.system.SecuritySettings;
+import com.codingchili.core.protocol.*;
 import com.codingchili.core.security.TrustAndKeyProvider;
 
 import static com.codingchili.core.files.Configurations.security;
@@ -17,9 +18,15 @@ import static com.codingchili.core.files.Configurations.security;
 public class ListenerSettings {
     public static final int DEFAULT_TIMEOUT = 3000;
     public static final int DEFAULT_MAX_REQUEST_BYTES = 1024;
+    public static final int DEFAULT_MAX_PIPELINED_REQUESTS = 256;
+    public static final String DEFAULT_FRAME_DELIMITER = "\n";
     private HttpServerOptions httpOptions = null;
     private Map<String, Endpoint> api = new HashMap<>();
     private WireType type = WireType.REST;
+    private FrameType frameType = FrameType.NONE;
+    private String frameDelimiter = DEFAULT_FRAME_DELIMITER;
+    private String codec = JsonWireCodec.NAME;
+    private WireCodec wireCodec = null;
     private final Set<Integer> actualPorts = new HashSet<>();
     private String defaultTarget = "default";
     private String keystore = CoreStrings.DEFAULT_KEYSTORE;
@@ -30,6 +37,7 @@ public class ListenerSettings {
     private int port = 8080;
     private int timeout = DEFAULT_TIMEOUT;
     private int maxRequestBytes = DEFAULT_MAX_REQUEST_BYTES;
+    private int maxPipelinedRequests = DEFAULT_MAX_PIPELINED_REQUESTS;
 
     /**
      * @return timeout in MS after the router times out the request.
@@ -117,6 +125,24 @@ public class ListenerSettings {
         return this;
     }
 
+    /**
+     * @return the maximum number of pipelined requests on a connection that may await
+     * a response, reading from the connection is paused when the limit is reached.
+     */
+    public int getMaxPipelinedRequests() {
+        return maxPipelinedRequests;
+    }
+
+    /**
+     * @param maxPipelinedRequests sets the maximum number of pipelined requests on a
+     *                             connection that may await a response.
+     * @return fluent
+     */
+    public ListenerSettings setMaxPipelinedRequests(int maxPipelinedRequests) {
+        this.maxPipelinedRequests = maxPipelinedRequests;
+        return this;
+    }
+
     /**
      * @return the type of the listener, for example tcp or udp.
      */
@@ -133,6 +159,70 @@ public class ListenerSettings {
         return this;
     }
 
+    /**
+     * @return the framing used for messages on stream oriented transports.
+     */
+    public FrameType getFrameType() {
+        return frameType;
+    }
+
+    /**
+     * @param frameType the framing to use for messages on stream oriented transports,
+     *                  framing is required to support pipelining of requests.
+     * @return fluent
+     */
+    public ListenerSettings setFrameType(FrameType frameType) {
+        this.frameType = frameType;
+        return this;
+    }
+
+    /**
+     * @return the delimiter that terminates messages when using #{@link FrameType#DELIMITER}.
+     */
+    public String getFrameDelimiter() {
+        return frameDelimiter;
+    }
+
+    /**
+     * @param frameDelimiter the delimiter that terminates each message, must not be
+     *                       present in the encoded messages.
+     * @return fluent
+     */
+    public ListenerSettings setFrameDelimiter(String frameDelimiter) {
+        this.frameDelimiter = frameDelimiter;
+        return this;
+    }
+
+    /**
+     * @return the name of the codec used to encode and decode messages on the wire.
+     */
+    public String getCodec() {
+        return codec;
+    }
+
+    /**
+     * @param codec the name of a codec registered in #{@link WireCodecs}, the
+     *              codec is used to encode and decode messages on the wire. Does not
+     *              apply to REST and cluster listeners.
+     * @return fluent
+     */
+    public ListenerSettings setCodec(String codec) {
+        this.codec = codec;
+        this.wireCodec = null;
+        return this;
+    }
+
+    /**
+     * @return the codec used to encode and decode messages on the wire.
+     */
+    @JsonIgnore
+    public WireCodec getWireCodec() {
+        if (wireCodec == null) {
+            wireCodec = WireCodecs.get(codec);
+        }
+        return wireCodec;
+    }
+
     /**
      * @return the port the listener is to be activated on.
      */
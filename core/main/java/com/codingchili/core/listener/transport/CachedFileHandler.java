@@ -0,0 +1,121 @@
+package com.codingchili.core.listener.transport;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.impl.MimeMapping;
+import io.vertx.ext.web.RoutingContext;
+
+import com.codingchili.core.configuration.CoreStrings;
+import com.codingchili.core.files.CachedFile;
+import com.codingchili.core.files.CachedFileStore;
+import com.codingchili.core.files.exception.FileMissingException;
+
+/**
+ * Serves files from a #{@link CachedFileStore} over HTTP.
+ * <p>
+ * Responds with 304 when the ETag given in If-None-Match matches the file, otherwise
+ * the compressed variant of the file is served to clients that accept gzip and the
+ * identity variant to all other clients. The cached buffers are written as they are
+ * without copying. Requests for files that are not cached are passed to the next handler.
+ */
+public class CachedFileHandler implements Handler<RoutingContext> {
+    private static final CharSequence VARY = HttpHeaders.createOptimized("Vary");
+    private static final CharSequence GZIP = HttpHeaders.createOptimized("gzip");
+    private static final CharSequence REVALIDATE = HttpHeaders.createOptimized("no-cache");
+    private static final String INDEX = "index.html";
+    private static final String ANY = "*";
+    private static final String QUALITY = "q=";
+    private final CachedFileStore store;
+
+    /**
+     * @param store the store to serve files from.
+     */
+    public CachedFileHandler(CachedFileStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public void handle(RoutingContext context) {
+        HttpServerRequest request = context.request();
+        String path = context.normalisedPath();
+
+        if (path.endsWith(CoreStrings.DIR_SEPARATOR)) {
+            path += INDEX;
+        }
+        if (path.startsWith(CoreStrings.DIR_SEPARATOR)) {
+            path = path.substring(1);
+        }
+
+        try {
+            serve(request, context.response(), store.getFile(path));
+        } catch (FileMissingException e) {
+            context.next();
+        }
+    }
+
+    private void serve(HttpServerRequest request, HttpServerResponse response, CachedFile file) {
+        response.putHeader(HttpHeaders.ETAG, file.getETag())
+                .putHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE)
+                .putHeader(VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), file.getETag())) {
+            response.setStatusCode(HttpResponseStatus.NOT_MODIFIED.code()).end();
+        } else {
+            String type = MimeMapping.getMimeTypeForFilename(file.getPath());
+
+            if (type != null) {
+                response.putHeader(HttpHeaders.CONTENT_TYPE, type);
+            }
+
+            if (file.getCompressed() != null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+                response.putHeader(HttpHeaders.CONTENT_ENCODING, GZIP).end(file.getCompressed());
+            } else {
+                response.end(file.getIdentity());
+            }
+        }
+    }
+
+    private static boolean matches(String header, String etag) {
+        if (header != null) {
+            for (String tag : header.split(",")) {
+                tag = tag.trim();
+                // weak comparison: the weak indicator is ignored.
+                if (tag.equals(ANY) || strip(tag).equals(strip(etag))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String strip(String etag) {
+        return (etag.startsWith("W/")) ? etag.substring(2) : etag;
+    }
+
+    private static boolean acceptsGzip(String header) {
+        if (header != null) {
+            for (String encoding : header.split(",")) {
+                String[] parameters = encoding.split(";");
+
+                if (parameters[0].trim().equalsIgnoreCase(GZIP.toString())) {
+                    for (int i = 1; i < parameters.length; i++) {
+                        String parameter = parameters[i].trim();
+
+                        if (parameter.startsWith(QUALITY)) {
+                            try {
+                                return Double.parseDouble(parameter.substring(QUALITY.length())) > 0;
+                            } catch (NumberFormatException e) {
+                                return false;
+                            }
+                        }
+                    }
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
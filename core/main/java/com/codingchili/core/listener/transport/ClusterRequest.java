@@ -6,12 +6,19 @@ import io.vertx.core.json.JsonObject;
 
 import com.codingchili.core.files.Configurations;
 import com.codingchili.core.listener.Request;
+import com.codingchili.core.protocol.RequestHeaders;
 import com.codingchili.core.protocol.Response;
+import com.codingchili.core.protocol.WireCodec;
+import com.codingchili.core.protocol.WireCodecs;
+import com.codingchili.core.security.Token;
 
 /**
  * A request in the cluster.
  * <p>
  * Size does not apply to these requests.
+ * <p>
+ * Requests forwarded as #{@link WireMessage}s are decoded on first access to
+ * #{@link #data()} and replies are encoded with the codec of the request.
  */
 public class ClusterRequest implements Request {
     private Connection connection;
@@ -19,6 +26,9 @@ public class ClusterRequest implements Request {
     private int timeout = Configurations.system().getClusterTimeout();
     private Buffer buffer;
     private JsonObject json;
+    private WireMessage wire;
+    private RequestHeaders headers;
+    private Token token;
 
     /**
      * Creates a cluster request from an eventbus message.
@@ -28,6 +38,9 @@ public class ClusterRequest implements Request {
     public ClusterRequest(Message message) {
         this.message = message;
 
+        if (message.body() instanceof WireMessage) {
+            this.wire = (WireMessage) message.body();
+        }
         if (message.body() instanceof Buffer) {
             this.buffer = (Buffer) message.body();
         }
@@ -44,7 +57,11 @@ public class ClusterRequest implements Request {
     @Override
     public void write(Object msg) {
         if (msg != null) {
-            message.reply(Response.json(target(), route(), msg));
+            if (wire != null) {
+                message.reply(new WireMessage(wire.codec(), Response.buffer(codec(), target(), route(), msg)));
+            } else {
+                message.reply(Response.json(target(), route(), msg));
+            }
         } else {
             accept();
         }
@@ -60,8 +77,47 @@ public class ClusterRequest implements Request {
         return connection;
     }
 
+    private WireCodec codec() {
+        return WireCodecs.get(wire.codec());
+    }
+
+    private RequestHeaders headers() {
+        if (headers == null) {
+            if (json == null) {
+                headers = codec().headers(wire.buffer());
+            } else {
+                headers = RequestHeaders.of(json);
+            }
+        }
+        return headers;
+    }
+
+    @Override
+    public String route() {
+        return (wire == null) ? Request.super.route() : headers().route();
+    }
+
+    @Override
+    public String target() {
+        return (wire == null) ? Request.super.target() : headers().target();
+    }
+
+    @Override
+    public Token token() {
+        if (wire != null) {
+            return headers().token();
+        } else if (token == null) {
+            // unpack once, the token is read multiple times per request.
+            token = Request.super.token();
+        }
+        return token;
+    }
+
     @Override
     public JsonObject data() {
+        if (json == null && wire != null) {
+            json = codec().decode(wire.buffer());
+        }
         return json;
     }
 
@@ -0,0 +1,138 @@
+package com.codingchili.core.listener.transport;
+
+import io.vertx.core.Context;
+import io.vertx.core.buffer.Buffer;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Writes the responses of pipelined requests in the same order as the
+ * requests were received, even if the handlers complete out of order.
+ * <p>
+ * A request that is not responded to within the timeout is written as an error,
+ * the number of requests that may await a response is bounded by the capacity.
+ */
+class PipelinedWriter {
+    private final Deque<Slot> pending = new ArrayDeque<>();
+    private final Context context;
+    private final Consumer<Buffer> writer;
+    private final Supplier<Buffer> expired;
+    private final int capacity;
+    private final int timeout;
+    private Runnable drain;
+
+    /**
+     * @param context  the context of the connection, used for timers.
+     * @param capacity the maximum number of requests awaiting a response.
+     * @param timeout  the time in ms to wait for the response of a request.
+     * @param expired  creates the response that is written when a request times out.
+     * @param writer   writes a response buffer to the underlying connection.
+     */
+    PipelinedWriter(Context context, int capacity, int timeout, Supplier<Buffer> expired, Consumer<Buffer> writer) {
+        this.context = context;
+        this.capacity = capacity;
+        this.timeout = timeout;
+        this.expired = expired;
+        this.writer = writer;
+    }
+
+    /**
+     * Reserves the next position in the response order, must be called in the
+     * same order as requests are received.
+     *
+     * @return a writer for the request, the response is held until the responses
+     * of all previously received requests has been written.
+     */
+    synchronized Consumer<Buffer> next() {
+        Slot slot = new Slot();
+        pending.add(slot);
+        slot.timer = context.owner().setTimer(timeout, id -> slot.expire());
+        return slot;
+    }
+
+    /**
+     * Writes the given buffer after the responses of all previously received requests.
+     *
+     * @param buffer the buffer to write.
+     * @param then   called when the buffer has been written.
+     */
+    synchronized void last(Buffer buffer, Runnable then) {
+        Slot slot = new Slot();
+        slot.then = then;
+        pending.add(slot);
+        slot.accept(buffer);
+    }
+
+    /**
+     * @return true if the number of requests awaiting a response has reached the capacity,
+     * no more requests should be read until the drain handler is called.
+     */
+    synchronized boolean isFull() {
+        return pending.size() >= capacity;
+    }
+
+    /**
+     * @param drain called once when the number of requests awaiting a response
+     *              drops below the capacity.
+     */
+    synchronized void drainHandler(Runnable drain) {
+        this.drain = drain;
+    }
+
+    private void flush() {
+        while (!pending.isEmpty() && pending.peek().written) {
+            Slot slot = pending.poll();
+            context.owner().cancelTimer(slot.timer);
+            slot.buffers.forEach(writer);
+            slot.buffers.clear();
+            slot.flushed = true;
+
+            if (slot.then != null) {
+                context.runOnContext(v -> slot.then.run());
+            }
+        }
+        if (drain != null && pending.size() < capacity) {
+            Runnable handler = drain;
+            drain = null;
+            context.runOnContext(v -> handler.run());
+        }
+    }
+
+    private class Slot implements Consumer<Buffer> {
+        private final List<Buffer> buffers = new ArrayList<>(1);
+        private Runnable then;
+        private long timer = -1;
+        private boolean written = false;
+        private boolean flushed = false;
+        private boolean expired = false;
+
+        private void expire() {
+            synchronized (PipelinedWriter.this) {
+                if (!written) {
+                    accept(PipelinedWriter.this.expired.get());
+                    expired = true;
+                }
+            }
+        }
+
+        @Override
+        public void accept(Buffer buffer) {
+            synchronized (PipelinedWriter.this) {
+                if (expired) {
+                    // the request was already responded to with a timeout.
+                    return;
+                }
+                if (flushed) {
+                    // subsequent writes from the same request after its response was written.
+                    writer.accept(buffer);
+                } else {
+                    buffers.add(buffer);
+                    written = true;
+                    flush();
+                }
+            }
+        }
+    }
+}
@@ -2,9 +2,11 @@ package com.codingchili.core.listener.transport;
 
 import com.codingchili.core.configuration.RestHelper;
 import com.codingchili.core.context.CoreContext;
+import com.codingchili.core.files.CachedFileStore;
 import com.codingchili.core.listener.CoreHandler;
 import com.codingchili.core.listener.CoreListener;
 import com.codingchili.core.listener.ListenerSettings;
+import com.codingchili.core.metrics.PrometheusHandler;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.ext.web.Router;
@@ -22,6 +24,8 @@ public class RestListener implements CoreListener {
     private final Promise<Router> onRouter = Promise.promise();
     private CoreContext core;
     private CoreHandler handler;
+    private CachedFileStore files;
+    private String metrics;
     private Router router;
 
     @Override
@@ -29,6 +33,16 @@ public class RestListener implements CoreListener {
         router = Router.router(core.vertx());
         RestHelper.addHeaders(router, settings.isSecure());
 
+        if (metrics != null) {
+            router.get(metrics).handler(new PrometheusHandler(core.metrics()));
+        }
+
+        if (files != null) {
+            // requests for files that are not cached fall through to the handler.
+            router.get().handler(new CachedFileHandler(files));
+            router.head().handler(new CachedFileHandler(files));
+        }
+
         router.route()
                 .handler(BodyHandler.create().setBodyLimit(settings.getMaxRequestBytes()))
                 .handler(this::packet);
@@ -48,6 +62,31 @@ public class RestListener implements CoreListener {
         return onRouter.future();
     }
 
+    /**
+     * Serves the files in the given store for GET and HEAD requests, see #{@link CachedFileHandler}.
+     * Must be set before the listener is deployed.
+     *
+     * @param files the store to serve files from.
+     * @return fluent
+     */
+    public RestListener files(CachedFileStore files) {
+        this.files = files;
+        return this;
+    }
+
+    /**
+     * Exposes the metrics of the context in the Prometheus text format for GET requests
+     * to the given route, see #{@link PrometheusHandler}. Must be set before the listener
+     * is deployed.
+     *
+     * @param route the route to expose metrics on, for example "/metrics".
+     * @return fluent
+     */
+    public RestListener metrics(String route) {
+        this.metrics = route;
+        return this;
+    }
+
     @Override
     public CoreListener settings(ListenerSettings settings) {
         this.settings = settings;
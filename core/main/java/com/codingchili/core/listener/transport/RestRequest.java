@@ -13,6 +13,7 @@ import com.codingchili.core.configuration.CoreStrings;
 import com.codingchili.core.listener.*;
 import com.codingchili.core.protocol.Response;
 import com.codingchili.core.protocol.ResponseStatus;
+import com.codingchili.core.security.Token;
 
 import static com.codingchili.core.configuration.CoreStrings.PROTOCOL_CONNECTION;
 
@@ -24,6 +25,7 @@ public class RestRequest implements Request {
     private Connection connection;
     private JsonObject data = new JsonObject();
     private ListenerSettings settings;
+    private Token token;
     private int size;
 
     /**
@@ -128,6 +130,15 @@ public class RestRequest implements Request {
         send(Response.buffer(target(), route(), message));
     }
 
+    @Override
+    public Token token() {
+        if (token == null) {
+            // unpack once, the token is read multiple times per request.
+            token = Request.super.token();
+        }
+        return token;
+    }
+
     @Override
     public JsonObject data() {
         return data;
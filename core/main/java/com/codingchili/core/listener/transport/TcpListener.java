@@ -1,84 +1,201 @@
-package com.codingchili.core.listener.transport;
-
-import io.vertx.core.Future;
-import io.vertx.core.buffer.Buffer;
-import io.vertx.core.net.NetSocket;
-
-import java.util.function.Supplier;
-
-import com.codingchili.core.context.CoreContext;
-import com.codingchili.core.listener.*;
-import com.codingchili.core.protocol.Response;
-
-import static com.codingchili.core.configuration.CoreStrings.*;
-
-/**
- * TCP listener implementation.
- */
-public class TcpListener implements CoreListener {
-    private ListenerSettings settings = ListenerSettings.getDefaultSettings();
-    private CoreContext core;
-    private CoreHandler handler;
-
-    @Override
-    public void init(CoreContext core) {
-        this.core = core;
-        handler.init(core);
-    }
-
-    @Override
-    public CoreListener settings(ListenerSettings settings) {
-        this.settings = settings;
-        return this;
-    }
-
-    @Override
-    public CoreListener handler(CoreHandler handler) {
-        this.handler = handler;
-        return this;
-    }
-
-    @Override
-    public void start(Future<Void> start) {
-        core.vertx().createNetServer(settings.getHttpOptions())
-                .connectHandler(socket -> {
-                    Connection connection = connected(socket);
-
-                    // handle incoming data.
-                    socket.handler(data -> packet(connection, data));
-
-                    // close the connection.
-                    socket.closeHandler((v) -> connection.runCloseHandlers());
-
-                }).listen(settings.getPort(), getBindAddress(), listen -> {
-            if (listen.succeeded()) {
-                settings.addListenPort(listen.result().actualPort());
-                handler.start(start);
-            } else {
-                start.fail(listen.cause());
-            }
-        });
-    }
-
-    public Connection connected(NetSocket socket) {
-        return new Connection((msg) -> {
-            socket.write(Response.buffer(msg));
-        }, socket.writeHandlerID())
-                .setProperty(PROTOCOL_CONNECTION, socket.remoteAddress().host());
-    }
-
-    @Override
-    public void stop(Future<Void> stop) {
-        handler.stop(stop);
-    }
-
-    private void packet(Connection connection, Buffer data) {
-        handler.handle(new TcpRequest(connection, data, settings));
-    }
-
-    @Override
-    public String toString() {
-        return handler.getClass().getSimpleName() + LOG_AT + handler.address() + " port :" +
-                settings.getPort();
-    }
-}
+package com.codingchili.core.listener.transport;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.net.NetSocket;
+import io.vertx.core.parsetools.RecordParser;
+
+import java.util.function.Consumer;
+
+import com.codingchili.core.context.CoreContext;
+import com.codingchili.core.context.CoreRuntimeException;
+import com.codingchili.core.listener.*;
+import com.codingchili.core.protocol.Response;
+import com.codingchili.core.protocol.ResponseStatus;
+import com.codingchili.core.protocol.exception.RequestPayloadSizeException;
+import com.codingchili.core.protocol.exception.RequestTimedOutException;
+
+import static com.codingchili.core.configuration.CoreStrings.*;
+
+/**
+ * TCP listener implementation.
+ * <p>
+ * Requests may be pipelined when a framing other than #{@link FrameType#NONE} is
+ * configured, responses are then written in the same order as requests are received.
+ * A pipelined request that is not responded to within the timeout receives an error,
+ * reading is paused while #{@link ListenerSettings#getMaxPipelinedRequests()} await a response.
+ * #{@link FrameType#DELIMITER} requires a text codec, the listener fails to start
+ * when it is configured with a binary codec.
+ */
+public class TcpListener implements CoreListener {
+    private static final int LENGTH_PREFIX_BYTES = 4;
+    private ListenerSettings settings = ListenerSettings.getDefaultSettings();
+    private CoreContext core;
+    private CoreHandler handler;
+
+    @Override
+    public void init(CoreContext core) {
+        this.core = core;
+        handler.init(core);
+    }
+
+    @Override
+    public CoreListener settings(ListenerSettings settings) {
+        this.settings = settings;
+        return this;
+    }
+
+    @Override
+    public CoreListener handler(CoreHandler handler) {
+        this.handler = handler;
+        return this;
+    }
+
+    @Override
+    public void start(Future<Void> start) {
+        if (settings.getFrameType() == FrameType.DELIMITER && settings.getWireCodec().isBinary()) {
+            // binary encoded messages may contain the delimiter and would be split.
+            start.fail(new CoreRuntimeException(getFrameDelimiterBinaryCodec(settings.getCodec())));
+            return;
+        }
+        core.vertx().createNetServer(settings.getHttpOptions())
+                .connectHandler(socket -> {
+                    Connection connection = connected(socket);
+
+                    // handle incoming data.
+                    if (settings.getFrameType() == FrameType.NONE) {
+                        socket.handler(data -> packet(connection, data, connection::write));
+                    } else {
+                        socket.handler(framed(socket, connection));
+                    }
+
+                    // close the connection.
+                    socket.closeHandler((v) -> connection.runCloseHandlers());
+
+                }).listen(settings.getPort(), getBindAddress(), listen -> {
+            if (listen.succeeded()) {
+                settings.addListenPort(listen.result().actualPort());
+                handler.start(start);
+            } else {
+                start.fail(listen.cause());
+            }
+        });
+    }
+
+    public Connection connected(NetSocket socket) {
+        return new Connection((msg) -> {
+            socket.write(frame(Response.buffer(settings.getWireCodec(), null, null, msg)));
+        }, socket.writeHandlerID())
+                .setProperty(PROTOCOL_CONNECTION, socket.remoteAddress().host());
+    }
+
+    @Override
+    public void stop(Future<Void> stop) {
+        handler.stop(stop);
+    }
+
+    private Handler<Buffer> framed(NetSocket socket, Connection connection) {
+        PipelinedWriter writer = new PipelinedWriter(core.vertx().getOrCreateContext(),
+                settings.getMaxPipelinedRequests(), settings.getTimeout(),
+                () -> error(ResponseStatus.ERROR, new RequestTimedOutException(settings.getTimeout())),
+                buffer -> socket.write(frame(buffer)));
+        int maxRequestBytes = settings.getMaxRequestBytes();
+        RecordParser parser;
+
+        if (settings.getFrameType() == FrameType.LENGTH_PREFIX) {
+            parser = RecordParser.newFixed(LENGTH_PREFIX_BYTES);
+        } else {
+            parser = RecordParser.newDelimited(settings.getFrameDelimiter())
+                    .maxRecordSize(maxRequestBytes);
+        }
+        Handler<Buffer> packets = data -> {
+            pipelined(connection, data, writer.next());
+
+            if (writer.isFull()) {
+                // stop reading until the client has received some of the responses.
+                parser.pause();
+                socket.pause();
+                writer.drainHandler(() -> {
+                    socket.resume();
+                    parser.resume();
+                });
+            }
+        };
+
+        if (settings.getFrameType() == FrameType.LENGTH_PREFIX) {
+            parser.handler(new Handler<>() {
+                private boolean header = true;
+
+                @Override
+                public void handle(Buffer buffer) {
+                    if (header) {
+                        int length = buffer.getInt(0);
+
+                        if (length < 0 || length > maxRequestBytes) {
+                            oversized(socket, parser, writer);
+                        } else if (length > 0) {
+                            parser.fixedSizeMode(length);
+                            header = false;
+                        }
+                    } else {
+                        parser.fixedSizeMode(LENGTH_PREFIX_BYTES);
+                        header = true;
+                        packets.handle(buffer);
+                    }
+                }
+            });
+        } else {
+            parser.handler(packets);
+        }
+        parser.exceptionHandler(e -> oversized(socket, parser, writer));
+        return parser;
+    }
+
+    private void oversized(NetSocket socket, RecordParser parser, PipelinedWriter writer) {
+        // the stream cannot be recovered when a frame is discarded.
+        parser.pause();
+        socket.pause();
+        writer.last(error(ResponseStatus.BAD, new RequestPayloadSizeException(settings.getMaxRequestBytes())),
+                socket::close);
+    }
+
+    private Buffer error(ResponseStatus status, Throwable e) {
+        return Response.buffer(settings.getWireCodec(), null, null, Response.error(null, null, status, e));
+    }
+
+    private Buffer frame(Buffer buffer) {
+        switch (settings.getFrameType()) {
+            case LENGTH_PREFIX:
+                return Buffer.buffer(LENGTH_PREFIX_BYTES + buffer.length())
+                        .appendInt(buffer.length())
+                        .appendBuffer(buffer);
+            case DELIMITER:
+                return Buffer.buffer(buffer.length() + settings.getFrameDelimiter().length())
+                        .appendBuffer(buffer)
+                        .appendString(settings.getFrameDelimiter());
+            default:
+                return buffer;
+        }
+    }
+
+    private void pipelined(Connection connection, Buffer data, Consumer<Buffer> writer) {
+        try {
+            packet(connection, data, writer);
+        } catch (DecodeException e) {
+            // the response must be written to avoid stalling the pipeline.
+            writer.accept(error(ResponseStatus.BAD, e));
+        }
+    }
+
+    private void packet(Connection connection, Buffer data, Consumer<Buffer> writer) {
+        handler.handle(new TcpRequest(connection, data, settings, writer));
+    }
+
+    @Override
+    public String toString() {
+        return handler.getClass().getSimpleName() + LOG_AT + handler.address() + " port :" +
+                settings.getPort();
+    }
+}
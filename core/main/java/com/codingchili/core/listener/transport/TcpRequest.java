@@ -1,26 +1,34 @@
 package com.codingchili.core.listener.transport;
 
 import io.vertx.core.buffer.Buffer;
-import io.vertx.core.json.JsonObject;
+
+import java.util.function.Consumer;
 
 import com.codingchili.core.listener.ListenerSettings;
-import com.codingchili.core.listener.Request;
 import com.codingchili.core.protocol.Response;
 
 /**
  * TCP request implementation.
  */
-public class TcpRequest implements Request {
+public class TcpRequest extends WireRequest {
     private Connection connection;
-    private ListenerSettings settings;
-    private JsonObject data;
-    private int size;
+    private Consumer<Buffer> writer;
 
     public TcpRequest(Connection connection, Buffer buffer, ListenerSettings settings) {
-        this.size = buffer.length();
+        this(connection, buffer, settings, connection::write);
+    }
+
+    /**
+     * @param connection the connection the request was received on.
+     * @param buffer     the request payload.
+     * @param settings   the settings of the listener that received the request.
+     * @param writer     writes the response of the request, used to order responses
+     *                   when requests are pipelined.
+     */
+    public TcpRequest(Connection connection, Buffer buffer, ListenerSettings settings, Consumer<Buffer> writer) {
+        super(buffer, settings);
         this.connection = connection;
-        this.settings = settings;
-        this.data = buffer.toJsonObject();
+        this.writer = writer;
     }
 
     @Override
@@ -30,26 +38,6 @@ public class TcpRequest implements Request {
 
     @Override
     public void write(Object object) {
-        connection.write(Response.buffer(target(), route(), object));
-    }
-
-    @Override
-    public JsonObject data() {
-        return data;
-    }
-
-    @Override
-    public int timeout() {
-        return settings.getTimeout();
-    }
-
-    @Override
-    public int size() {
-        return size;
-    }
-
-    @Override
-    public int maxSize() {
-        return settings.getMaxRequestBytes();
+        writer.accept(Response.buffer(settings.getWireCodec(), target(), route(), object));
     }
 }
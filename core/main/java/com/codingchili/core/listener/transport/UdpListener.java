@@ -10,6 +10,7 @@ import static com.codingchili.core.configuration.CoreStrings.getBindAddress;
 
 import io.vertx.core.Future;
 import io.vertx.core.datagram.DatagramPacket;
+import io.vertx.core.datagram.DatagramSocket;
 
 /**
  * UDP transport listener.
@@ -17,6 +18,7 @@ import io.vertx.core.datagram.DatagramPacket;
 public class UdpListener implements CoreListener, DeploymentAware {
     private ListenerSettings settings = ListenerSettings.getDefaultSettings();
     private CoreHandler handler;
+    private DatagramSocket socket;
     private CoreContext core;
 
     @Override
@@ -39,7 +41,8 @@ public class UdpListener implements CoreListener, DeploymentAware {
 
     @Override
     public void start(Future<Void> start) {
-        core.vertx().createDatagramSocket().listen(settings.getPort(), getBindAddress(), listen -> {
+        socket = core.vertx().createDatagramSocket();
+        socket.listen(settings.getPort(), getBindAddress(), listen -> {
             if (listen.succeeded()) {
                 settings.addListenPort(listen.result().localAddress().port());
                 listen.result().handler(this::handle);
@@ -52,11 +55,13 @@ public class UdpListener implements CoreListener, DeploymentAware {
 
     @Override
     public void stop(Future<Void> stop) {
+        socket.close();
         handler.stop(stop);
     }
 
-    private void handle(DatagramPacket connection) {
-        handler.handle(new UdpRequest(core, settings, connection));
+    private void handle(DatagramPacket packet) {
+        // replies are sent through the listening socket.
+        handler.handle(new UdpRequest(socket, settings, packet));
     }
 
     @Override
@@ -2,11 +2,9 @@ package com.codingchili.core.listener.transport;
 
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.datagram.DatagramPacket;
-import io.vertx.core.json.JsonObject;
+import io.vertx.core.datagram.DatagramSocket;
 
-import com.codingchili.core.context.CoreContext;
 import com.codingchili.core.listener.ListenerSettings;
-import com.codingchili.core.listener.Request;
 import com.codingchili.core.protocol.Response;
 
 import static com.codingchili.core.configuration.CoreStrings.PROTOCOL_CONNECTION;
@@ -14,18 +12,20 @@ import static com.codingchili.core.configuration.CoreStrings.PROTOCOL_CONNECTION
 /**
  * UDP request object.
  */
-public class UdpRequest implements Request {
+public class UdpRequest extends WireRequest {
     private Connection connection;
-    private int size;
     private DatagramPacket packet;
-    private CoreContext context;
-    private ListenerSettings settings;
-    private JsonObject data;
-
-    public UdpRequest(CoreContext context, ListenerSettings settings, DatagramPacket packet) {
-        this.size = packet.data().length();
-        this.context = context;
-        this.settings = settings;
+    private DatagramSocket socket;
+
+    /**
+     * @param socket   the socket the packet was received on, replies are sent
+     *                 from the same socket so that they originate from the listen port.
+     * @param settings the settings of the listener that received the packet.
+     * @param packet   the received packet.
+     */
+    public UdpRequest(DatagramSocket socket, ListenerSettings settings, DatagramPacket packet) {
+        super(packet.data(), settings);
+        this.socket = socket;
         this.packet = packet;
     }
 
@@ -39,18 +39,15 @@ public class UdpRequest implements Request {
 
         // only include the request headers when replying to a request - not on a connection.
         if (reflectHeaders) {
-            buffer = Response.buffer(target(), route(), message);
+            buffer = Response.buffer(settings.getWireCodec(), target(), route(), message);
         } else {
-            buffer = Response.buffer(message);
+            buffer = Response.buffer(settings.getWireCodec(), null, null, message);
         }
-        context.vertx().createDatagramSocket()
-                .send(buffer,
-                        packet.sender().port(),
-                        packet.sender().host(), sent -> {
-                            if (sent.failed()) {
-                                throw new RuntimeException(sent.cause());
-                            }
-                        });
+        socket.send(buffer, packet.sender().port(), packet.sender().host(), sent -> {
+            if (sent.failed()) {
+                throw new RuntimeException(sent.cause());
+            }
+        });
     }
 
     @Override
@@ -61,27 +58,4 @@ public class UdpRequest implements Request {
         }
         return connection;
     }
-
-    @Override
-    public JsonObject data() {
-        if (data == null) {
-            data = packet.data().toJsonObject();
-        }
-        return data;
-    }
-
-    @Override
-    public int timeout() {
-        return settings.getTimeout();
-    }
-
-    @Override
-    public int maxSize() {
-        return settings.getMaxRequestBytes();
-    }
-
-    @Override
-    public int size() {
-        return size;
-    }
-}
\ No newline at end of file
+}
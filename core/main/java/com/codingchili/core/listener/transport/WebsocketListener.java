@@ -16,6 +16,7 @@ import com.codingchili.core.context.CoreContext;
 import com.codingchili.core.listener.*;
 import com.codingchili.core.protocol.Response;
 import com.codingchili.core.protocol.ResponseStatus;
+import com.codingchili.core.protocol.WireCodec;
 
 import static com.codingchili.core.configuration.CoreStrings.*;
 
@@ -87,9 +88,10 @@ public class WebsocketListener implements CoreListener {
     }
 
     private Connection connected(ServerWebSocket socket) {
-        boolean isBinary = settings.isBinaryWebsockets();
+        WireCodec codec = settings.getWireCodec();
+        boolean isBinary = settings.isBinaryWebsockets() || codec.isBinary();
         return new Connection((msg) -> {
-            Buffer buffer = Response.buffer(msg);
+            Buffer buffer = Response.buffer(codec, null, null, msg);
             if (isBinary) {
                 socket.write(buffer);
             } else {
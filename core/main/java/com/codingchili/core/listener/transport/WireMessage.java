@@ -0,0 +1,39 @@
+package com.codingchili.core.listener.transport;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * An encoded request or reply that is passed over the event bus without
+ * being decoded, used by routers that forward requests as they were received.
+ * <p>
+ * The name of the #{@link com.codingchili.core.protocol.WireCodec} that was used
+ * to encode the buffer is carried along with it, so that the receiving node
+ * can decode the request and encode its reply in the same format.
+ */
+public class WireMessage {
+    private final String codec;
+    private final Buffer buffer;
+
+    /**
+     * @param codec  the name of the codec the buffer is encoded with.
+     * @param buffer the encoded message.
+     */
+    public WireMessage(String codec, Buffer buffer) {
+        this.codec = codec;
+        this.buffer = buffer;
+    }
+
+    /**
+     * @return the name of the codec the buffer is encoded with.
+     */
+    public String codec() {
+        return codec;
+    }
+
+    /**
+     * @return the encoded message.
+     */
+    public Buffer buffer() {
+        return buffer;
+    }
+}
@@ -0,0 +1,53 @@
+package com.codingchili.core.listener.transport;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageCodec;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Event bus codec for #{@link WireMessage}s.
+ * <p>
+ * Local deliveries pass the message by reference, the buffer is never copied
+ * or parsed. Clustered deliveries write the codec name and the buffer as
+ * length-prefixed fields, the received buffer is a slice of the event bus frame.
+ */
+public class WireMessageCodec implements MessageCodec<WireMessage, WireMessage> {
+    public static final String NAME = "wire";
+
+    @Override
+    public void encodeToWire(Buffer buffer, WireMessage message) {
+        byte[] codec = message.codec().getBytes(StandardCharsets.UTF_8);
+        buffer.appendInt(codec.length)
+                .appendBytes(codec)
+                .appendInt(message.buffer().length())
+                .appendBuffer(message.buffer());
+    }
+
+    @Override
+    public WireMessage decodeFromWire(int pos, Buffer buffer) {
+        int length = buffer.getInt(pos);
+        pos += Integer.BYTES;
+        String codec = buffer.getString(pos, pos + length, StandardCharsets.UTF_8.name());
+        pos += length;
+        length = buffer.getInt(pos);
+        pos += Integer.BYTES;
+        return new WireMessage(codec, buffer.slice(pos, pos + length));
+    }
+
+    @Override
+    public WireMessage transform(WireMessage message) {
+        // the buffer is not modified after it has been sent.
+        return message;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public byte systemCodecID() {
+        return -1;
+    }
+}
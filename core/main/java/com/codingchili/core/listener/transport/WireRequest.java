@@ -0,0 +1,96 @@
+package com.codingchili.core.listener.transport;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+
+import com.codingchili.core.listener.ListenerSettings;
+import com.codingchili.core.listener.Request;
+import com.codingchili.core.protocol.RequestHeaders;
+import com.codingchili.core.protocol.WireCodec;
+import com.codingchili.core.security.Token;
+
+/**
+ * Base request for transports that receive encoded buffers.
+ * <p>
+ * The route, target and token headers are extracted once on first access
+ * without decoding the full request. The request body is decoded only when
+ * #{@link #data()} is called.
+ */
+public abstract class WireRequest implements Request {
+    protected final ListenerSettings settings;
+    private final Buffer buffer;
+    private RequestHeaders headers;
+    private JsonObject data;
+
+    /**
+     * @param buffer   the encoded request.
+     * @param settings the settings of the listener that received the request.
+     */
+    protected WireRequest(Buffer buffer, ListenerSettings settings) {
+        this.buffer = buffer;
+        this.settings = settings;
+    }
+
+    /**
+     * @return the request as it was received, before decoding.
+     */
+    public Buffer buffer() {
+        return buffer;
+    }
+
+    /**
+     * @return the codec the request buffer is encoded with.
+     */
+    public WireCodec codec() {
+        return settings.getWireCodec();
+    }
+
+    private RequestHeaders headers() {
+        if (headers == null) {
+            if (data == null) {
+                headers = codec().headers(buffer);
+            } else {
+                headers = RequestHeaders.of(data);
+            }
+        }
+        return headers;
+    }
+
+    @Override
+    public String route() {
+        return headers().route();
+    }
+
+    @Override
+    public String target() {
+        return headers().target();
+    }
+
+    @Override
+    public Token token() {
+        return headers().token();
+    }
+
+    @Override
+    public JsonObject data() {
+        if (data == null) {
+            data = codec().decode(buffer);
+        }
+        return data;
+    }
+
+    @Override
+    public int timeout() {
+        return settings.getTimeout();
+    }
+
+    @Override
+    public int size() {
+        return buffer.length();
+    }
+
+    @Override
+    public int maxSize() {
+        return settings.getMaxRequestBytes();
+    }
+}
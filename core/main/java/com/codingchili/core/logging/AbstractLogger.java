@@ -3,6 +3,7 @@ package com.codingchili.core.logging;
 import io.vertx.core.json.JsonObject;
 
 import java.time.Instant;
+import java.util.AbstractMap;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Consumer;
@@ -11,6 +12,7 @@ import java.util.logging.Handler;
 import java.util.logging.LogRecord;
 
 import com.codingchili.core.configuration.Environment;
+import com.codingchili.core.configuration.system.LauncherSettings;
 import com.codingchili.core.context.CoreContext;
 import com.codingchili.core.listener.CoreListener;
 import com.codingchili.core.listener.CoreService;
@@ -23,6 +25,8 @@ import static com.codingchili.core.logging.Level.INFO;
  * Default logging implementation.
  */
 public abstract class AbstractLogger extends Handler implements Logger {
+    private static final String host = Environment.hostname().orElse(ID_UNDEFINED);
+    private static volatile Map.Entry<LauncherSettings, JsonObject> defaults;
     protected Map<String, Consumer<JsonObject>> metadata = new HashMap<>();
     protected CoreContext context;
     protected JsonLogger logger;
@@ -84,14 +88,28 @@ public abstract class AbstractLogger extends Handler implements Logger {
      * @param event the log event to add metadata to.
      */
     private void addMetadata(JsonObject event) {
-        event.put(LOG_HOST, Environment.hostname().orElse(ID_UNDEFINED))
-                .put(LOG_APPLICATION, launcher().getApplication())
-                .put(LOG_SOURCE, aClass.getSimpleName())
-                .put(LOG_VERSION, launcher().getVersion());
-
+        event.mergeIn(defaults()).put(LOG_SOURCE, aClass.getSimpleName());
         metadata.values().forEach(consumer -> consumer.accept(event));
     }
 
+    /**
+     * @return the metadata that is the same for all events, rebuilt only when
+     * the launcher configuration is reloaded.
+     */
+    private static JsonObject defaults() {
+        LauncherSettings launcher = launcher();
+        Map.Entry<LauncherSettings, JsonObject> cached = defaults;
+
+        if (cached == null || cached.getKey() != launcher) {
+            cached = new AbstractMap.SimpleImmutableEntry<>(launcher, new JsonObject()
+                    .put(LOG_HOST, host)
+                    .put(LOG_APPLICATION, launcher.getApplication())
+                    .put(LOG_VERSION, launcher.getVersion()));
+            defaults = cached;
+        }
+        return cached.getValue();
+    }
+
     @Override
     public void onAlreadyInitialized() {
         event(LOG_ERROR, Level.WARNING)
@@ -6,9 +6,9 @@ import org.fusesource.jansi.AnsiConsole;
 
 import java.time.Instant;
 import java.util.*;
-import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import java.util.regex.Pattern;
 
 import com.codingchili.core.context.CoreContext;
 
@@ -19,32 +19,43 @@ import static org.fusesource.jansi.Ansi.ansi;
  * Implementation of a console logger, filters some key/value combinations to better display the messages.
  */
 public class ConsoleLogger extends AbstractLogger implements StringLogger {
-    private static final int FLUSH_TIMEOUT_MS = 16;
+    private static final int BUILDER_CAPACITY = 256;
+    private static final int BUILDER_MAX_CAPACITY = 8192;
     private final AtomicBoolean enabled = new AtomicBoolean(true);
     private static final Set<String> filtered = new HashSet<>(Arrays.asList(
             ID_TOKEN, LOG_EVENT, LOG_APPLICATION, LOG_CONTEXT, LOG_HOST, LOG_VERSION
     ));
+    // keys that are formatted separately and are not repeated with the other fields.
+    private static final Set<String> formatted = new HashSet<>(Arrays.asList(
+            LOG_LEVEL, LOG_MESSAGE, LOG_TIME, LOG_SOURCE
+    ));
+    private static final Pattern hidden = Pattern.compile(
+            " ?(\\[(" + String.join("|", LOG_HIDDEN_TAGS) + ")\\]) ?");
+    private static final ThreadLocal<StringBuilder> builders =
+            ThreadLocal.withInitial(() -> new StringBuilder(BUILDER_CAPACITY));
+    private static final ConsoleWriter writer = new ConsoleWriter();
 
-    private static final ExecutorService executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
-        @Override
-        public Thread newThread(Runnable runnable) {
-            Thread thread = new Thread(runnable);
-            thread.setName(getClass().getName());
-            thread.setDaemon(true);
-            return thread;
-        }
-    });
+    /**
+     * Sets the capacity and overflow policy used when writing to the console, applies
+     * to all console loggers.
+     *
+     * @param settings the logging settings to apply.
+     */
+    public static void configure(LoggingSettings settings) {
+        writer.configure(settings);
+    }
+
+    /**
+     * @return the number of lines that have been dropped because the console
+     * could not keep up with the rate of logging.
+     */
+    public static long dropped() {
+        return writer.dropped();
+    }
 
     @Override
     public void close() throws SecurityException {
-        executor.shutdownNow().forEach(Runnable::run);
-        try {
-            // ensures that pending tasks are completed before any synchronous events
-            // are submitted after the executor has shut down.
-            Thread.sleep(FLUSH_TIMEOUT_MS);
-        } catch (InterruptedException e) {
-            onError(e);
-        }
+        writer.close();
     }
 
     /**
@@ -82,7 +93,7 @@ public class ConsoleLogger extends AbstractLogger implements StringLogger {
     }
 
     private Consumer<JsonObject> log = (json) -> {
-        write(parseJsonLog(json, consume(json, LOG_EVENT)));
+        write(hidden.matcher(parseJsonLog(json, read(json, LOG_EVENT))).replaceAll(""));
     };
 
     /**
@@ -95,41 +106,43 @@ public class ConsoleLogger extends AbstractLogger implements StringLogger {
     @Override
     public Logger log(JsonObject data) {
         if (enabled.get()) {
-            if (executor.isShutdown()) {
-                log.accept(data);
-            } else {
-                executor.submit(() -> log.accept(data));
-            }
+            writer.submit(() -> log.accept(data));
         }
         return this;
     }
 
-    private void write(String line) {
-        line = replaceTags(line, LOG_HIDDEN_TAGS);
+    /**
+     * Writes a formatted line to the console, called on the console writer thread.
+     *
+     * @param line the line to write.
+     */
+    protected void write(String line) {
         AnsiConsole.out.println(line);
         //AnsiConsole.out.flush();
     }
 
     private static final int SPACES = 15;
     protected String parseJsonLog(JsonObject data, String event) {
-        LogLevel level = consumeLevel(data);
-        String message = consume(data, LOG_MESSAGE);
+        LogLevel level = readLevel(data);
+        String message = read(data, LOG_MESSAGE);
 
-        Ansi ansi = ansi().reset();
+        Ansi ansi = ansi(builder()).reset();
 
         level.apply(ansi)
                 .a(level.getName())
                 .reset()
                 .a("\t[")
                 .fgBright(Ansi.Color.MAGENTA)
-                .a(consumeTimestamp(data))
+                .a(readTimestamp(data))
                 .reset()
-                .a("] ")
-                .a((hasValue(event)) ? pad(event, SPACES) : "")
-                .a(" [");
+                .a("] ");
 
-        level.apply(ansi)
-                .a(pad(consume(data, LOG_SOURCE), SPACES))
+        if (hasValue(event)) {
+            pad(ansi, event);
+        }
+        ansi.a(" [");
+
+        pad(level.apply(ansi), read(data, LOG_SOURCE))
                 .reset()
                 .a("]");
 
@@ -138,7 +151,8 @@ public class ConsoleLogger extends AbstractLogger implements StringLogger {
         }
 
         data.forEach(entry -> {
-            if (entry.getValue() != null && !filtered.contains(entry.getKey())) {
+            if (entry.getValue() != null && !filtered.contains(entry.getKey()) &&
+                    !formatted.contains(entry.getKey())) {
                 level.apply(ansi)
                         .a(" ")
                         .a(entry.getKey())
@@ -150,12 +164,35 @@ public class ConsoleLogger extends AbstractLogger implements StringLogger {
         return ansi.reset().toString();
     }
 
+    /**
+     * @return a string builder owned by the current thread, cleared for reuse.
+     */
+    private static StringBuilder builder() {
+        StringBuilder builder = builders.get();
+
+        if (builder.capacity() > BUILDER_MAX_CAPACITY) {
+            // do not retain the memory of unusually large lines.
+            builder = new StringBuilder(BUILDER_CAPACITY);
+            builders.set(builder);
+        }
+        builder.setLength(0);
+        return builder;
+    }
+
+    private static Ansi pad(Ansi ansi, String text) {
+        ansi.a(text);
+        for (int i = text.length(); i < SPACES; i++) {
+            ansi.a(' ');
+        }
+        return ansi;
+    }
+
     private static boolean hasValue(String text) {
         return (text != null && !text.equals(""));
     }
 
-    protected LogLevel consumeLevel(JsonObject data) {
-        String name = (String) data.remove(LOG_LEVEL);
+    protected LogLevel readLevel(JsonObject data) {
+        String name = (String) data.getValue(LOG_LEVEL);
 
         return Optional.ofNullable(LogLevel.registered.get(name))
                 .orElseGet(() -> new LogLevel() {
@@ -183,17 +220,17 @@ public class ConsoleLogger extends AbstractLogger implements StringLogger {
                 });
     }
 
-    private String consume(JsonObject data, String key) {
+    private String read(JsonObject data, String key) {
         if (data.containsKey(key)) {
-            return (String) data.remove(key);
+            return (String) data.getValue(key);
         } else {
             return "";
         }
     }
 
-    private String consumeTimestamp(JsonObject data) {
+    private String readTimestamp(JsonObject data) {
         if (data.containsKey(LOG_TIME)) {
-            return timestamp(Long.parseLong(data.remove(LOG_TIME).toString()));
+            return timestamp(Long.parseLong(data.getValue(LOG_TIME).toString()));
         } else {
             return timestamp(Instant.now().toEpochMilli()) + "";
         }
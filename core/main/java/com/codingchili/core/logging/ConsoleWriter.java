@@ -0,0 +1,149 @@
+package com.codingchili.core.logging;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.SharedMetricRegistries;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import com.codingchili.core.metrics.MetricSettings;
+
+/**
+ * Writes lines to the console on a background thread.
+ * <p>
+ * Pending writes are held in a bounded queue, when lines are logged faster than
+ * they can be written the console overflow policy is applied. Dropped lines are
+ * counted in the shared metric registry. Lines are written by one thread at a time,
+ * so lines written by a blocked caller are never interleaved with or written before
+ * the lines that were already queued.
+ */
+class ConsoleWriter {
+    private static final String LOGGING_CONSOLE_DROPPED = "logging.console.dropped";
+    private static final int FLUSH_TIMEOUT_MS = 16;
+    private final BlockingQueue<Runnable> queue = new LinkedBlockingQueue<>();
+    private final Object writing = new Object();
+    private final Counter dropped;
+    private final Thread thread;
+    private volatile LoggingSettings settings = new LoggingSettings();
+    private volatile boolean closed = false;
+    private volatile boolean idle = false;
+    private long overflowed = 0;
+
+    ConsoleWriter() {
+        this.dropped = SharedMetricRegistries.getOrCreate(MetricSettings.REGISTRY_NAME)
+                .counter(LOGGING_CONSOLE_DROPPED);
+        this.thread = new Thread(this::process);
+        thread.setName(ConsoleLogger.class.getName());
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * @param settings the settings for the capacity and overflow policy of the writer.
+     */
+    void configure(LoggingSettings settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * @return the number of lines that have been dropped by any console writer.
+     */
+    long dropped() {
+        return dropped.getCount();
+    }
+
+    /**
+     * Queues a write, the write is executed on the calling thread if the writer
+     * is closed or when the buffer is full and the overflow policy is to block.
+     *
+     * @param write formats and writes a line to the console.
+     */
+    void submit(Runnable write) {
+        if (closed || !offer(write)) {
+            // the caller writes the pending lines when the overflow policy is to block,
+            // after the line that the writer thread is writing.
+            synchronized (writing) {
+                drain();
+                write.run();
+            }
+        } else if (idle) {
+            synchronized (writing) {
+                writing.notify();
+            }
+        }
+    }
+
+    private synchronized boolean offer(Runnable write) {
+        if (closed) {
+            return false;
+        } else if (queue.size() >= settings.getConsoleCapacity()) {
+            OverflowPolicy policy = settings.getConsoleOverflow();
+
+            if (policy == OverflowPolicy.BLOCK) {
+                return false;
+            } else if (policy == OverflowPolicy.SAMPLE && overflowed++ % settings.getSampleRate() != 0) {
+                dropped.inc();
+                return true;
+            } else if (queue.poll() != null) {
+                dropped.inc();
+            }
+        } else {
+            overflowed = 0;
+        }
+        queue.add(write);
+        return true;
+    }
+
+    private void process() {
+        try {
+            while (!closed) {
+                synchronized (writing) {
+                    // set before checking the queue: a line that is queued after the
+                    // check sees that the writer is idle and wakes it up.
+                    idle = true;
+                    while (queue.isEmpty() && !closed) {
+                        writing.wait();
+                    }
+                    idle = false;
+                    drain();
+                }
+            }
+        } catch (InterruptedException e) {
+            // the writer is closed, pending writes are drained by the closing thread.
+        }
+    }
+
+    private void drain() {
+        Runnable write;
+        while ((write = queue.poll()) != null) {
+            run(write);
+        }
+    }
+
+    private void run(Runnable write) {
+        try {
+            write.run();
+        } catch (RuntimeException e) {
+            // a line that fails to format must not stop the writer.
+        }
+    }
+
+    /**
+     * Stops the background thread and writes all pending lines, lines that are
+     * submitted after the writer is closed are written on the calling thread.
+     */
+    void close() {
+        closed = true;
+        thread.interrupt();
+        try {
+            // ensures that a write in progress is completed before any synchronous
+            // writes are made after the writer has been closed.
+            thread.join(FLUSH_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (writing) {
+            drain();
+        }
+    }
+}
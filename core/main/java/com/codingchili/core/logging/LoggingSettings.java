@@ -0,0 +1,151 @@
+package com.codingchili.core.logging;
+
+/**
+ * Settings for the buffering and batching of events sent to the remote logger.
+ */
+public class LoggingSettings {
+    private OverflowPolicy overflow = OverflowPolicy.DROP_OLDEST;
+    private OverflowPolicy consoleOverflow = OverflowPolicy.DROP_OLDEST;
+    private int consoleCapacity = 4096;
+    private int capacity = 8192;
+    private int batchSize = 256;
+    private int batchDelay = 250;
+    private int sampleRate = 16;
+    private boolean batching = false;
+
+    /**
+     * @return the policy that is applied when the buffer is full.
+     */
+    public OverflowPolicy getOverflow() {
+        return overflow;
+    }
+
+    /**
+     * @param overflow the policy that is applied when the buffer is full.
+     * @return fluent
+     */
+    public LoggingSettings setOverflow(OverflowPolicy overflow) {
+        this.overflow = overflow;
+        return this;
+    }
+
+    /**
+     * @return the max number of events to buffer before the overflow policy is applied.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @param capacity the max number of events to buffer before the overflow policy is applied.
+     * @return fluent
+     */
+    public LoggingSettings setCapacity(int capacity) {
+        this.capacity = capacity;
+        return this;
+    }
+
+    /**
+     * @return the max number of events to send in a single message, a batch is sent
+     * as soon as this many events are buffered.
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @param batchSize the max number of events to send in a single message.
+     * @return fluent
+     */
+    public LoggingSettings setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * @return the max time in MS an event is buffered before it is sent.
+     */
+    public int getBatchDelay() {
+        return batchDelay;
+    }
+
+    /**
+     * @param batchDelay the max time in MS an event is buffered before it is sent.
+     * @return fluent
+     */
+    public LoggingSettings setBatchDelay(int batchDelay) {
+        this.batchDelay = batchDelay;
+        return this;
+    }
+
+    /**
+     * @return true if buffered events are sent in batches on the #{@link
+     * com.codingchili.core.configuration.CoreStrings#PROTOCOL_LOGGING_BATCH} route. When
+     * false every event is sent as a separate message on the #{@link
+     * com.codingchili.core.configuration.CoreStrings#PROTOCOL_LOGGING} route.
+     */
+    public boolean isBatching() {
+        return batching;
+    }
+
+    /**
+     * @param batching true to send buffered events in batches, requires a logging
+     *                 service that handles the batch route.
+     * @return fluent
+     */
+    public LoggingSettings setBatching(boolean batching) {
+        this.batching = batching;
+        return this;
+    }
+
+    /**
+     * @return the rate at which events are kept when sampling on overflow,
+     * one out of every sample rate events is kept.
+     */
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * @param sampleRate the rate at which events are kept when sampling on overflow,
+     *                   values below 1 keeps every event.
+     * @return fluent
+     */
+    public LoggingSettings setSampleRate(int sampleRate) {
+        this.sampleRate = Math.max(1, sampleRate);
+        return this;
+    }
+
+    /**
+     * @return the policy that is applied when the console buffer is full.
+     */
+    public OverflowPolicy getConsoleOverflow() {
+        return consoleOverflow;
+    }
+
+    /**
+     * @param consoleOverflow the policy that is applied when the console buffer is full.
+     * @return fluent
+     */
+    public LoggingSettings setConsoleOverflow(OverflowPolicy consoleOverflow) {
+        this.consoleOverflow = consoleOverflow;
+        return this;
+    }
+
+    /**
+     * @return the max number of lines waiting to be written to the console before
+     * the console overflow policy is applied.
+     */
+    public int getConsoleCapacity() {
+        return consoleCapacity;
+    }
+
+    /**
+     * @param consoleCapacity the max number of lines waiting to be written to the console.
+     * @return fluent
+     */
+    public LoggingSettings setConsoleCapacity(int consoleCapacity) {
+        this.consoleCapacity = consoleCapacity;
+        return this;
+    }
+}
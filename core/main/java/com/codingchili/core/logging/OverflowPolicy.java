@@ -0,0 +1,25 @@
+package com.codingchili.core.logging;
+
+/**
+ * Determines how log events are handled when the buffer of a logger is
+ * full, which happens when events are produced faster than they can be
+ * sent or written.
+ */
+public enum OverflowPolicy {
+    /**
+     * The oldest buffered event is dropped to make room for the new event.
+     */
+    DROP_OLDEST,
+
+    /**
+     * Only one out of every sample rate events is kept, by dropping the oldest
+     * buffered event, all other events are dropped until the buffer is drained.
+     */
+    SAMPLE,
+
+    /**
+     * The thread that logs the event sends or writes the buffered events before the new
+     * event is added, no events are dropped but logging is slowed down to the send rate.
+     */
+    BLOCK
+}
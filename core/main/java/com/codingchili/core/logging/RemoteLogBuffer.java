@@ -0,0 +1,172 @@
+package com.codingchili.core.logging;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.SharedMetricRegistries;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.shareddata.LocalMap;
+import io.vertx.core.shareddata.Shareable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import com.codingchili.core.files.Configurations;
+import com.codingchili.core.metrics.MetricSettings;
+
+import static com.codingchili.core.configuration.CoreStrings.*;
+
+/**
+ * A bounded ring buffer of log events that are sent to the logging node.
+ * <p>
+ * Buffered events are sent when the configured batch size is reached or when the oldest
+ * buffered event has waited for the batch delay. By default every event is sent as a
+ * separate message on the "logging" route. When batching is enabled the events are
+ * sent as a single message on the "logging.batch" route, with a json array of events
+ * as the message, which the logging service must handle. When events are produced faster
+ * than they are sent the overflow policy is applied. A single buffer is shared
+ * by all remote loggers of a vertx instance, see #{@link #of(Vertx)}.
+ */
+class RemoteLogBuffer implements Shareable {
+    private static final String LOGGING_DROPPED = "logging.dropped";
+    private static final String LOGGING_BATCHED = "logging.batched";
+    private static final String LOGGING_BATCHES = "logging.batches";
+    private final DeliveryOptions options = new DeliveryOptions().setSendTimeout(8000);
+    private final LoggingSettings settings;
+    private final JsonObject[] ring;
+    private final Counter dropped;
+    private final Counter batched;
+    private final Counter batches;
+    private final Vertx vertx;
+    private volatile boolean closing = false;
+    private boolean scheduled = false;
+    private long overflowed = 0;
+    private int head = 0;
+    private int size = 0;
+
+    /**
+     * @param vertx the vertx instance to get the shared buffer of.
+     * @return the buffer that is shared by all remote loggers of the given vertx instance.
+     */
+    static RemoteLogBuffer of(Vertx vertx) {
+        LocalMap<String, RemoteLogBuffer> buffers = vertx.sharedData().getLocalMap(NODE_LOGGING);
+        return buffers.computeIfAbsent(NODE_LOGGING, key ->
+                new RemoteLogBuffer(vertx, Configurations.system().getLogging()));
+    }
+
+    /**
+     * @param vertx    the vertx instance used to send batches and schedule timers.
+     * @param settings the settings for the capacity, batching and overflow.
+     */
+    RemoteLogBuffer(Vertx vertx, LoggingSettings settings) {
+        MetricRegistry registry = SharedMetricRegistries.getOrCreate(MetricSettings.REGISTRY_NAME);
+        this.vertx = vertx;
+        this.settings = settings;
+        this.ring = new JsonObject[Math.max(1, settings.getCapacity())];
+        this.dropped = registry.counter(LOGGING_DROPPED);
+        this.batched = registry.counter(LOGGING_BATCHED);
+        this.batches = registry.counter(LOGGING_BATCHES);
+    }
+
+    /**
+     * Adds an event to the buffer, applies the overflow policy if the buffer is full.
+     *
+     * @param event the event to send to the logging node.
+     */
+    void add(JsonObject event) {
+        while (!offer(event)) {
+            // the caller drains the buffer when the overflow policy is to block.
+            flush();
+        }
+        if (closing) {
+            flush();
+        }
+    }
+
+    private synchronized boolean offer(JsonObject event) {
+        if (size == ring.length) {
+            OverflowPolicy policy = settings.getOverflow();
+
+            if (policy == OverflowPolicy.BLOCK) {
+                return false;
+            } else if (policy == OverflowPolicy.SAMPLE && overflowed++ % settings.getSampleRate() != 0) {
+                dropped.inc();
+                return true;
+            } else {
+                ring[head] = null;
+                head = (head + 1) % ring.length;
+                size--;
+                dropped.inc();
+            }
+        }
+        ring[(head + size) % ring.length] = event;
+        size++;
+
+        try {
+            if (!scheduled) {
+                scheduled = true;
+                vertx.setTimer(Math.max(1, settings.getBatchDelay()), timer -> {
+                    synchronized (this) {
+                        scheduled = false;
+                    }
+                    flush();
+                });
+            }
+            if (size == settings.getBatchSize()) {
+                vertx.runOnContext(v -> flush());
+            }
+        } catch (RejectedExecutionException e) {
+            // vertx is closing: events are sent as they are logged.
+            scheduled = false;
+            closing = true;
+        }
+        return true;
+    }
+
+    /**
+     * Sends all buffered events to the logging node.
+     */
+    void flush() {
+        JsonArray events;
+        while ((events = poll()) != null) {
+            batches.inc();
+            batched.inc(events.size());
+
+            if (settings.isBatching()) {
+                send(PROTOCOL_LOGGING_BATCH, events);
+            } else {
+                for (Object event : events) {
+                    send(PROTOCOL_LOGGING, event);
+                }
+            }
+        }
+    }
+
+    private void send(String route, Object message) {
+        vertx.eventBus().send(NODE_LOGGING, new JsonObject()
+                .put(PROTOCOL_ROUTE, route)
+                .put(PROTOCOL_TARGET, NODE_LOGGING)
+                .put(PROTOCOL_MESSAGE, message), options);
+    }
+
+    private synchronized JsonArray poll() {
+        if (size == 0) {
+            overflowed = 0;
+            return null;
+        } else {
+            int count = Math.min(size, Math.max(1, settings.getBatchSize()));
+            List<Object> events = new ArrayList<>(count);
+
+            for (int i = 0; i < count; i++) {
+                events.add(ring[head]);
+                ring[head] = null;
+                head = (head + 1) % ring.length;
+            }
+            size -= count;
+            return new JsonArray(events);
+        }
+    }
+}
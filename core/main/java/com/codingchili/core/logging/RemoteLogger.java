@@ -1,31 +1,28 @@
 package com.codingchili.core.logging;
 
-import io.vertx.core.eventbus.DeliveryOptions;
 import io.vertx.core.json.JsonObject;
 
 import com.codingchili.core.context.CoreContext;
 import com.codingchili.core.files.Configurations;
 
-import static com.codingchili.core.configuration.CoreStrings.*;
-
 /**
  * A logger that logs to a remote host.
+ * <p>
+ * Events are buffered and sent asynchronously, optionally in batches, see #{@link LoggingSettings}.
  */
 public class RemoteLogger extends AbstractLogger {
-    private DeliveryOptions options = new DeliveryOptions().setSendTimeout(8000);
     private ConsoleLogger console = new ConsoleLogger(aClass);
+    private RemoteLogBuffer buffer;
 
     public RemoteLogger(CoreContext context, Class aClass) {
         super(context, aClass);
         this.context = context;
+        this.buffer = RemoteLogBuffer.of(context.vertx());
     }
 
     @Override
     public Logger log(JsonObject data) {
-        context.bus().send(NODE_LOGGING, new JsonObject()
-                .put(PROTOCOL_ROUTE, PROTOCOL_LOGGING)
-                .put(PROTOCOL_TARGET, NODE_LOGGING)
-                .put(PROTOCOL_MESSAGE, data), options);
+        buffer.add(data);
 
         if (Configurations.system().isConsoleLogging()) {
             console.log(data);
@@ -33,8 +30,14 @@ public class RemoteLogger extends AbstractLogger {
         return this;
     }
 
+    @Override
+    public void flush() {
+        buffer.flush();
+    }
+
     @Override
     public void close() throws SecurityException {
+        buffer.flush();
         console.close();
     }
 }
@@ -0,0 +1,58 @@
+package com.codingchili.core.metrics;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.VertxInternal;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the lag of each event loop by scheduling a probe on the loop periodically.
+ * <p>
+ * The lag is the time between when the probe was scheduled to run and when it ran,
+ * recorded in the timer eventloop.[index].lag. Probes stop when the loop is shut down.
+ */
+class EventLoopProbe {
+    static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(250);
+    private static final String EVENT_LOOP = "eventloop";
+    private static final String LAG = "lag";
+    private final EventExecutor loop;
+    private final Timer lag;
+
+    private EventLoopProbe(EventExecutor loop, Timer lag) {
+        this.loop = loop;
+        this.lag = lag;
+    }
+
+    /**
+     * Starts probing all event loops of the given vertx instance.
+     *
+     * @param vertx    the vertx instance to probe the event loops of.
+     * @param registry the registry to record the lag in.
+     */
+    static void start(Vertx vertx, MetricRegistry registry) {
+        int index = 0;
+        for (EventExecutor loop : ((VertxInternal) vertx).getEventLoopGroup()) {
+            String name = MetricRegistry.name(EVENT_LOOP, Integer.toString(index++), LAG);
+            new EventLoopProbe(loop, HdrReservoir.timer(registry, name)).schedule();
+        }
+    }
+
+    private void schedule() {
+        long expected = System.nanoTime() + INTERVAL;
+
+        if (!loop.isShuttingDown()) {
+            try {
+                loop.schedule(() -> {
+                    lag.update(Math.max(0, System.nanoTime() - expected), TimeUnit.NANOSECONDS);
+                    schedule();
+                }, INTERVAL, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                // the event loop is shutting down.
+            }
+        }
+    }
+}
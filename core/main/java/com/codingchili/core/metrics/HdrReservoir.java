@@ -0,0 +1,187 @@
+package com.codingchili.core.metrics;
+
+import com.codahale.metrics.*;
+import org.HdrHistogram.HistogramIterationValue;
+import org.HdrHistogram.Recorder;
+
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A reservoir backed by HdrHistogram, values are recorded without locking or
+ * allocating and the precision is kept for all recorded values.
+ * <p>
+ * Snapshots contain the values recorded in the current window, a new window is
+ * started by the first snapshot taken one minute after the current window started.
+ * Taking a snapshot of a reservoir without any new values recorded is cheap.
+ */
+public class HdrReservoir implements Reservoir {
+    private static final int SIGNIFICANT_DIGITS = 2;
+    private static final long WINDOW = TimeUnit.MINUTES.toMillis(1);
+    private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+    private final org.HdrHistogram.Histogram window = new org.HdrHistogram.Histogram(SIGNIFICANT_DIGITS);
+    private org.HdrHistogram.Histogram interval;
+    private volatile boolean updated = false;
+    private HdrSnapshot snapshot;
+    private long started = System.currentTimeMillis();
+
+    /**
+     * @param registry the registry to add the timer to.
+     * @param name     the name of the timer.
+     * @return a timer backed by a HdrReservoir, an existing timer is returned if present.
+     */
+    public static Timer timer(MetricRegistry registry, String name) {
+        return registry.timer(name, () -> new Timer(new HdrReservoir()));
+    }
+
+    /**
+     * @param registry the registry to add the histogram to.
+     * @param name     the name of the histogram.
+     * @return a histogram backed by a HdrReservoir, an existing histogram is returned if present.
+     */
+    public static Histogram histogram(MetricRegistry registry, String name) {
+        return registry.histogram(name, () -> new Histogram(new HdrReservoir()));
+    }
+
+    @Override
+    public int size() {
+        return getSnapshot().size();
+    }
+
+    @Override
+    public void update(long value) {
+        recorder.recordValue(Math.max(0, value));
+        updated = true;
+    }
+
+    @Override
+    public synchronized Snapshot getSnapshot() {
+        long now = System.currentTimeMillis();
+        boolean modified = (snapshot == null);
+
+        if (now - started >= WINDOW) {
+            window.reset();
+            started = now;
+            modified = true;
+        }
+        // snapshots are immutable and reused until new values are recorded.
+        if (updated) {
+            updated = false;
+            interval = recorder.getIntervalHistogram(interval);
+            window.add(interval);
+            modified = true;
+        }
+        if (modified) {
+            snapshot = new HdrSnapshot(window);
+        }
+        return snapshot;
+    }
+
+    /**
+     * A snapshot of the values in a HdrHistogram, only the recorded values and
+     * their counts are copied from the histogram in a single pass.
+     */
+    private static class HdrSnapshot extends Snapshot {
+        private final long[] values;
+        private final long[] counts;
+        private final long total;
+        private final long min;
+        private final long max;
+        private final double mean;
+        private final double stddev;
+
+        private HdrSnapshot(org.HdrHistogram.Histogram histogram) {
+            long[] values = new long[16];
+            long[] counts = new long[16];
+            double sum = 0;
+            double squares = 0;
+            int size = 0;
+
+            for (HistogramIterationValue value : histogram.recordedValues()) {
+                if (size == values.length) {
+                    values = Arrays.copyOf(values, size * 2);
+                    counts = Arrays.copyOf(counts, size * 2);
+                }
+                long count = value.getCountAtValueIteratedTo();
+                double median = histogram.medianEquivalentValue(value.getValueIteratedTo());
+                values[size] = value.getValueIteratedTo();
+                counts[size++] = count;
+                sum += median * count;
+                squares += median * median * count;
+            }
+            this.values = Arrays.copyOf(values, size);
+            this.counts = Arrays.copyOf(counts, size);
+            this.total = histogram.getTotalCount();
+            this.min = (total == 0) ? 0 : histogram.getMinValue();
+            this.max = histogram.getMaxValue();
+            this.mean = (total == 0) ? 0 : sum / total;
+            this.stddev = (total == 0) ? 0 : Math.sqrt(Math.max(0, squares / total - mean * mean));
+        }
+
+        @Override
+        public double getValue(double quantile) {
+            if (total == 0) {
+                return 0;
+            } else if (quantile <= 0) {
+                return min;
+            }
+            long target = Math.max(1, (long) Math.ceil(Math.min(quantile, 1) * total));
+            long cumulative = 0;
+
+            for (int i = 0; i < values.length; i++) {
+                cumulative += counts[i];
+
+                if (cumulative >= target) {
+                    return values[i];
+                }
+            }
+            return max;
+        }
+
+        /**
+         * @return each distinct value in the snapshot, values recorded multiple
+         * times are only included once.
+         */
+        @Override
+        public long[] getValues() {
+            return Arrays.copyOf(values, values.length);
+        }
+
+        @Override
+        public int size() {
+            return (int) Math.min(total, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public long getMax() {
+            return max;
+        }
+
+        @Override
+        public double getMean() {
+            return mean;
+        }
+
+        @Override
+        public long getMin() {
+            return min;
+        }
+
+        @Override
+        public double getStdDev() {
+            return stddev;
+        }
+
+        @Override
+        public void dump(OutputStream output) {
+            try (PrintWriter writer = new PrintWriter(output, false, StandardCharsets.UTF_8)) {
+                for (long value : values) {
+                    writer.println(value);
+                }
+            }
+        }
+    }
+}
@@ -10,8 +10,11 @@ import com.codingchili.core.context.TimerSource;
 import com.codingchili.core.logging.Logger;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
 
+import java.util.LinkedHashMap;
+
 import static com.codingchili.core.configuration.CoreStrings.ID_TYPE;
 
 /**
@@ -20,11 +23,14 @@ import static com.codingchili.core.configuration.CoreStrings.ID_TYPE;
 public class MetricCollector {
     public static final String PROCESS_NAME = "process.identifier";
     private static final String METRICS_OVERHEAD = "metrics.overhead";
+    private static final String COMPONENT = MetricCollector.class.getSimpleName();
+    private static final int PROMETHEUS_BUFFER_SIZE = 16384;
     private final JsonObject metadata = new JsonObject();
     private final MetricRegistry registry;
     private final MetricSettings settings;
     private final CoreContext core;
     private final Logger logger;
+    private volatile MetricSelector selector;
     private Timer overhead;
 
     {
@@ -70,6 +76,9 @@ public class MetricCollector {
         if (settings.isOverhead()) {
             overhead = registry.timer(METRICS_OVERHEAD);
         }
+        if (settings.isEventLoop()) {
+            EventLoopProbe.start(core.vertx(), registry);
+        }
         settings().getJvm().forEach(jvm -> {
             try {
                 var instance = jvm.getMetricImplementation()
@@ -121,21 +130,13 @@ public class MetricCollector {
     public Future<JsonObject> snapshot() {
         var promise = Promise.<JsonObject>promise();
 
-        core.blocking(blocking -> {
+        core.blocking(COMPONENT, blocking -> {
             var reporter = (Runnable) () -> {
-                var filters = settings.getFilters();
-                var json = new JsonObject();
-
-                registry.getMetrics().forEach((key, value) -> {
-                    if (filters.isEmpty()) {
-                        json.mergeIn(settings.filter(MetricFilter.convert(value, key)));
-                    } else {
-                        filters.stream()
-                                .filter(filter -> key.startsWith(filter.getPath()))
-                                .findFirst()
-                                .ifPresent(filter -> json.mergeIn(filter.apply(value, key)));
-                    }
-                });
+                var selector = selector();
+                var metrics = registry.getMetrics();
+                var json = new JsonObject(new LinkedHashMap<>((metrics.size() + metadata.size()) * 2));
+
+                metrics.forEach((key, value) -> selector.write(json, key, value));
                 json.mergeIn(metadata);
                 blocking.complete(json);
             };
@@ -148,4 +149,38 @@ public class MetricCollector {
         }, promise);
         return promise.future();
     }
+
+    /**
+     * Renders the current metrics in the Prometheus text exposition format, metrics
+     * are written directly into the buffer and filtered by the configured filters.
+     * Use the #{@link PrometheusHandler} to expose the metrics over HTTP.
+     *
+     * @return a buffer with all metrics in the registry that match the filters.
+     */
+    public Future<Buffer> prometheus() {
+        var promise = Promise.<Buffer>promise();
+
+        core.blocking(COMPONENT, blocking -> {
+            var selector = selector();
+            var buffer = Buffer.buffer(PROMETHEUS_BUFFER_SIZE);
+            var writer = new PrometheusWriter(buffer);
+
+            registry.getMetrics().forEach((key, value) -> selector.write(writer, key, value));
+            blocking.complete(buffer);
+        }, promise);
+        return promise.future();
+    }
+
+    /**
+     * @return the selector for the current settings, the selections made for each
+     * metric are reused between snapshots until the filters or includes are modified.
+     */
+    private MetricSelector selector() {
+        var current = selector;
+        if (current == null || current.isStale(settings)) {
+            current = new MetricSelector(settings);
+            selector = current;
+        }
+        return current;
+    }
 }
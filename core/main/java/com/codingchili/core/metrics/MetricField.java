@@ -0,0 +1,121 @@
+package com.codingchili.core.metrics;
+
+import com.codahale.metrics.*;
+import io.vertx.ext.dropwizard.ThroughputMeter;
+import io.vertx.ext.dropwizard.ThroughputTimer;
+
+/**
+ * The fields of a metric that are included in metric snapshots, fields are
+ * keyed and converted the same way as by the vert.x dropwizard metrics with
+ * rates per second and durations in milliseconds.
+ */
+enum MetricField {
+    GAUGE_TYPE("type", (metric, snapshot, factor) -> "gauge"),
+    COUNTER_TYPE("type", (metric, snapshot, factor) -> "counter"),
+    HISTOGRAM_TYPE("type", (metric, snapshot, factor) -> "histogram"),
+    METER_TYPE("type", (metric, snapshot, factor) -> "meter"),
+    TIMER_TYPE("type", (metric, snapshot, factor) -> "timer"),
+    VALUE("value", (metric, snapshot, factor) -> ((Gauge<?>) metric).getValue()),
+    COUNT("count", (metric, snapshot, factor) -> ((Counting) metric).getCount()),
+    ONE_SECOND_RATE("oneSecondRate", (metric, snapshot, factor) -> (metric instanceof ThroughputMeter)
+            ? ((ThroughputMeter) metric).getValue()
+            : ((ThroughputTimer) metric).getValue()),
+    MEAN_RATE("meanRate", (metric, snapshot, factor) -> ((Metered) metric).getMeanRate()),
+    ONE_MINUTE_RATE("oneMinuteRate", (metric, snapshot, factor) -> ((Metered) metric).getOneMinuteRate()),
+    FIVE_MINUTE_RATE("fiveMinuteRate", (metric, snapshot, factor) -> ((Metered) metric).getFiveMinuteRate()),
+    FIFTEEN_MINUTE_RATE("fifteenMinuteRate", (metric, snapshot, factor) -> ((Metered) metric).getFifteenMinuteRate()),
+    RATE("rate", (metric, snapshot, factor) -> "events/seconds"),
+    MIN("min", true, (metric, snapshot, factor) -> snapshot.getMin() * factor),
+    MAX("max", true, (metric, snapshot, factor) -> snapshot.getMax() * factor),
+    MEAN("mean", true, (metric, snapshot, factor) -> snapshot.getMean() * factor),
+    STDDEV("stddev", true, (metric, snapshot, factor) -> snapshot.getStdDev() * factor),
+    MEDIAN("median", true, (metric, snapshot, factor) -> snapshot.getMedian() * factor),
+    P75("75%", true, (metric, snapshot, factor) -> snapshot.get75thPercentile() * factor),
+    P95("95%", true, (metric, snapshot, factor) -> snapshot.get95thPercentile() * factor),
+    P98("98%", true, (metric, snapshot, factor) -> snapshot.get98thPercentile() * factor),
+    P99("99%", true, (metric, snapshot, factor) -> snapshot.get99thPercentile() * factor),
+    P999("99.9%", true, (metric, snapshot, factor) -> snapshot.get999thPercentile() * factor),
+    DURATION_RATE("durationRate", (metric, snapshot, factor) -> "milliseconds");
+
+    /**
+     * Converts durations in nanoseconds to milliseconds.
+     */
+    static final double DURATION_FACTOR = 1.0 / 1_000_000;
+    private static final MetricField[] GAUGE = {GAUGE_TYPE, VALUE};
+    private static final MetricField[] COUNTER = {COUNTER_TYPE, COUNT};
+    private static final MetricField[] HISTOGRAM = {HISTOGRAM_TYPE, COUNT,
+            MIN, MAX, MEAN, STDDEV, MEDIAN, P75, P95, P98, P99, P999};
+    private static final MetricField[] METER = {METER_TYPE,
+            COUNT, MEAN_RATE, ONE_MINUTE_RATE, FIVE_MINUTE_RATE, FIFTEEN_MINUTE_RATE, RATE};
+    private static final MetricField[] THROUGHPUT_METER = {METER_TYPE, ONE_SECOND_RATE,
+            COUNT, MEAN_RATE, ONE_MINUTE_RATE, FIVE_MINUTE_RATE, FIFTEEN_MINUTE_RATE, RATE};
+    private static final MetricField[] TIMER = {TIMER_TYPE,
+            COUNT, MEAN_RATE, ONE_MINUTE_RATE, FIVE_MINUTE_RATE, FIFTEEN_MINUTE_RATE, RATE,
+            MIN, MAX, MEAN, STDDEV, MEDIAN, P75, P95, P98, P99, P999, DURATION_RATE};
+    private static final MetricField[] THROUGHPUT_TIMER = {TIMER_TYPE, ONE_SECOND_RATE,
+            COUNT, MEAN_RATE, ONE_MINUTE_RATE, FIVE_MINUTE_RATE, FIFTEEN_MINUTE_RATE, RATE,
+            MIN, MAX, MEAN, STDDEV, MEDIAN, P75, P95, P98, P99, P999, DURATION_RATE};
+    private static final MetricField[] NONE = {};
+    private final String key;
+    private final boolean sampled;
+    private final Reader reader;
+
+    MetricField(String key, Reader reader) {
+        this(key, false, reader);
+    }
+
+    MetricField(String key, boolean sampled, Reader reader) {
+        this.key = key;
+        this.sampled = sampled;
+        this.reader = reader;
+    }
+
+    /**
+     * @param metric the metric to list the fields of.
+     * @return all fields of the given metric, empty if the type of metric is not supported.
+     */
+    static MetricField[] of(Metric metric) {
+        if (metric instanceof Timer) {
+            return (metric instanceof ThroughputTimer) ? THROUGHPUT_TIMER : TIMER;
+        } else if (metric instanceof Gauge) {
+            return GAUGE;
+        } else if (metric instanceof Counter) {
+            return COUNTER;
+        } else if (metric instanceof Histogram) {
+            return HISTOGRAM;
+        } else if (metric instanceof Meter) {
+            return (metric instanceof ThroughputMeter) ? THROUGHPUT_METER : METER;
+        } else {
+            return NONE;
+        }
+    }
+
+    /**
+     * @return the key of the field in snapshots and filters.
+     */
+    String key() {
+        return key;
+    }
+
+    /**
+     * @return true if the field is read from a #{@link Snapshot} of the metric.
+     */
+    boolean isSampled() {
+        return sampled;
+    }
+
+    /**
+     * @param metric   the metric to read the field of.
+     * @param snapshot a snapshot of the metric if the field is sampled.
+     * @param factor   the factor to convert durations with.
+     * @return the value of the field.
+     */
+    Object read(Metric metric, Snapshot snapshot, double factor) {
+        return reader.read(metric, snapshot, factor);
+    }
+
+    @FunctionalInterface
+    private interface Reader {
+        Object read(Metric metric, Snapshot snapshot, double factor);
+    }
+}
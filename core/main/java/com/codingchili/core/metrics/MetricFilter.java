@@ -94,6 +94,22 @@ public class MetricFilter {
         return this;
     }
 
+    /**
+     * @param key the key of a field in a metric.
+     * @return true if the field is included by the filter.
+     */
+    public boolean includes(String key) {
+        return include.contains(key) && !exclude.contains(key);
+    }
+
+    /**
+     * @param path the full path of a metric that matches the filter.
+     * @return the path to write the metric as, with the alias applied if present.
+     */
+    public String alias(String path) {
+        return (alias != null) ? path.replace(this.path, alias) : path;
+    }
+
     /**
      * Applies the filtering logic to a metrics object.
      *
@@ -116,10 +132,7 @@ public class MetricFilter {
                 iterator.remove();
             }
         }
-        return new JsonObject().put(
-                (alias != null) ? path.replace(this.path, alias) : path,
-                capture
-        );
+        return new JsonObject().put(alias(path), capture);
     }
 
     /**
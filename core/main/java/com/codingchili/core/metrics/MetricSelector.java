@@ -0,0 +1,200 @@
+package com.codingchili.core.metrics;
+
+import com.codahale.metrics.*;
+import io.vertx.core.json.JsonObject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Selects the metrics and fields to include in snapshots as configured by #{@link MetricSettings}.
+ * <p>
+ * Filters are indexed by their path in a prefix trie, the first configured filter with a
+ * path that the name of a metric starts with is applied to the metric. Filters are resolved
+ * once for each metric name, the selection is cached together with the fields of the metric
+ * to write. Snapshots only read the fields that are included, instead of converting the
+ * whole metric and removing the excluded fields.
+ */
+class MetricSelector {
+    private static final Selection EXCLUDED = new Selection();
+    private final Map<String, Selection> selections = new ConcurrentHashMap<>();
+    private final Node root = new Node();
+    private final List<MetricFilter> filters;
+    private final Set<String> includes;
+    private final int version;
+
+    /**
+     * @param settings the settings that contains the filters and includes to select by.
+     */
+    MetricSelector(MetricSettings settings) {
+        this.version = settings.version();
+        this.filters = new ArrayList<>(settings.getFilters());
+        this.includes = settings.getIncludes();
+
+        for (int i = 0; i < filters.size(); i++) {
+            String path = filters.get(i).getPath();
+
+            if (path != null) {
+                root.add(path, i);
+            }
+        }
+    }
+
+    /**
+     * @param settings the settings to check.
+     * @return true if the settings was modified after this selector was created.
+     */
+    boolean isStale(MetricSettings settings) {
+        return version != settings.version();
+    }
+
+    /**
+     * Writes the selected fields of a metric into the given json object.
+     *
+     * @param json   the json object to add the metric to.
+     * @param name   the name of the metric in the registry.
+     * @param metric the metric to write.
+     */
+    void write(JsonObject json, String name, Metric metric) {
+        Selection selection = select(name, metric);
+
+        if (selection != EXCLUDED) {
+            MetricField[] fields = selection.fields;
+            Snapshot snapshot = (selection.sampled) ? ((Sampling) metric).getSnapshot() : null;
+            JsonObject entry = new JsonObject(new LinkedHashMap<>(fields.length * 2));
+
+            for (MetricField field : fields) {
+                entry.put(field.key(), field.read(metric, snapshot, selection.factor));
+            }
+            json.put(selection.name, entry);
+        }
+    }
+
+    /**
+     * Writes the selected fields of a metric in the Prometheus text format.
+     *
+     * @param writer the writer to write the metric to.
+     * @param name   the name of the metric in the registry.
+     * @param metric the metric to write.
+     */
+    void write(PrometheusWriter writer, String name, Metric metric) {
+        Selection selection = select(name, metric);
+
+        if (selection != EXCLUDED) {
+            writer.write(selection.name, metric, selection.keys);
+        }
+    }
+
+    private Selection select(String name, Metric metric) {
+        Selection selection = selections.get(name);
+
+        // metrics may be removed and registered again as another type.
+        if (selection == null || (selection != EXCLUDED && selection.type != metric.getClass())) {
+            selection = compile(name, metric);
+            selections.put(name, selection);
+        }
+        return selection;
+    }
+
+    private Selection compile(String name, Metric metric) {
+        if (filters.isEmpty()) {
+            return new Selection(name, metric, key -> includes.isEmpty() || includes.contains(key));
+        } else {
+            int index = root.match(name);
+
+            if (index == Node.NONE) {
+                return EXCLUDED;
+            } else {
+                MetricFilter filter = filters.get(index);
+                return new Selection(filter.alias(name), metric, filter::includes);
+            }
+        }
+    }
+
+    /**
+     * The name and fields of a single metric to write.
+     */
+    private static class Selection {
+        private final String name;
+        private final Class<?> type;
+        private final Predicate<String> keys;
+        private final MetricField[] fields;
+        private final double factor;
+        private final boolean sampled;
+
+        private Selection() {
+            this.name = null;
+            this.type = null;
+            this.keys = key -> false;
+            this.fields = new MetricField[0];
+            this.factor = 1;
+            this.sampled = false;
+        }
+
+        private Selection(String name, Metric metric, Predicate<String> keys) {
+            MetricField[] all = MetricField.of(metric);
+            MetricField[] fields = new MetricField[all.length];
+            Set<String> included = new HashSet<>();
+            boolean sampled = false;
+            int size = 0;
+
+            for (MetricField field : all) {
+                if (keys.test(field.key())) {
+                    fields[size++] = field;
+                    included.add(field.key());
+                    sampled |= field.isSampled();
+                }
+            }
+            this.name = name;
+            this.type = metric.getClass();
+            this.keys = included::contains;
+            this.fields = Arrays.copyOf(fields, size);
+            this.factor = (metric instanceof Timer) ? MetricField.DURATION_FACTOR : 1;
+            this.sampled = sampled;
+        }
+    }
+
+    /**
+     * A node in the prefix trie of filter paths.
+     */
+    private static class Node {
+        private static final int NONE = Integer.MAX_VALUE;
+        private final Map<Character, Node> children = new HashMap<>();
+        private int filter = NONE;
+
+        private void add(String path, int index) {
+            Node node = this;
+
+            for (int i = 0; i < path.length(); i++) {
+                node = node.children.computeIfAbsent(path.charAt(i), c -> new Node());
+            }
+            node.filter = Math.min(node.filter, index);
+        }
+
+        /**
+         * @param name the name of a metric.
+         * @return the index of the first filter with a path that is a prefix of the name.
+         */
+        private int match(String name) {
+            Node node = this;
+            int index = filter;
+
+            for (int i = 0; i < name.length() && node != null; i++) {
+                node = node.children.get(name.charAt(i));
+
+                if (node != null) {
+                    index = Math.min(index, node.filter);
+                }
+            }
+            return index;
+        }
+    }
+}
@@ -17,8 +17,10 @@ public class MetricSettings {
     private List<MetricFilter> filters = new ArrayList<>();
     private List<JvmMetric> jvm = new ArrayList<>();
     private boolean overhead;
+    private boolean eventLoop;
     private boolean enabled = false;
     private int rate = 15000;
+    private volatile int version;
 
     /**
      * @return true if metrics should be collected.
@@ -45,6 +47,7 @@ public class MetricSettings {
      */
     public MetricSettings setIncludes(Set<String> includes) {
         this.includes = includes;
+        version++;
         return this;
     }
 
@@ -54,6 +57,7 @@ public class MetricSettings {
      */
     public MetricSettings include(String include) {
         this.includes.add(include);
+        version++;
         return this;
     }
 
@@ -84,6 +88,7 @@ public class MetricSettings {
 
     public MetricSettings setFilters(List<MetricFilter> filters) {
         this.filters = filters;
+        version++;
         return this;
     }
 
@@ -98,9 +103,17 @@ public class MetricSettings {
         filter.getInclude().addAll(includes);
         consumer.accept(filter);
         filters.add(filter);
+        version++;
         return this;
     }
 
+    /**
+     * @return a number that is changed each time the filters or includes are modified.
+     */
+    int version() {
+        return version;
+    }
+
     public boolean isOverhead() {
         return overhead;
     }
@@ -113,6 +126,19 @@ public class MetricSettings {
         return this;
     }
 
+    public boolean isEventLoop() {
+        return eventLoop;
+    }
+
+    /**
+     * @param eventLoop true if the lag of each event loop should be measured by a periodic probe.
+     * @return fluent.
+     */
+    public MetricSettings setEventLoop(boolean eventLoop) {
+        this.eventLoop = eventLoop;
+        return this;
+    }
+
     /**
      * enables all jvm performance metrics.
      *
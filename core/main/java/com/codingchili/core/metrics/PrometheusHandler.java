@@ -0,0 +1,39 @@
+package com.codingchili.core.metrics;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Exposes the metrics of a #{@link MetricCollector} in the Prometheus text format.
+ * <p>
+ * Metrics are rendered when requested, the cost of a scrape is proportional to the
+ * number of metrics that match the configured filters.
+ */
+public class PrometheusHandler implements Handler<RoutingContext> {
+    private static final CharSequence CONTENT_TYPE = HttpHeaders.createOptimized(PrometheusWriter.CONTENT_TYPE);
+    private final MetricCollector collector;
+
+    /**
+     * @param collector the collector to expose the metrics of.
+     */
+    public PrometheusHandler(MetricCollector collector) {
+        this.collector = collector;
+    }
+
+    @Override
+    public void handle(RoutingContext context) {
+        collector.prometheus().onComplete(done -> {
+            if (done.succeeded()) {
+                context.response()
+                        .putHeader(HttpHeaders.CONTENT_TYPE, CONTENT_TYPE)
+                        .end(done.result());
+            } else {
+                context.response()
+                        .setStatusCode(HttpResponseStatus.INTERNAL_SERVER_ERROR.code())
+                        .end();
+            }
+        });
+    }
+}
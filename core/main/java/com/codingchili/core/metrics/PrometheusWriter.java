@@ -0,0 +1,230 @@
+package com.codingchili.core.metrics;
+
+import com.codahale.metrics.*;
+import io.vertx.core.buffer.Buffer;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Writes metrics in the Prometheus text exposition format directly into a buffer.
+ * <p>
+ * Metric names are sanitized to the characters allowed by Prometheus, timers and
+ * histograms are written as summaries with a sample for each percentile, meters as
+ * counters and gauges with numeric or boolean values as gauges. Durations are written
+ * in seconds. Fields are named by the keys used in #{@link MetricFilter}, only the
+ * fields accepted by the given predicate are written.
+ * <p>
+ * Distinct metric names may be equal once sanitized, Prometheus rejects a scrape that
+ * contains a metric family more than once. A metric whose sanitized name is already
+ * written is given a numbered suffix, samples of a family that is already written are skipped.
+ */
+class PrometheusWriter {
+    static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final double DURATION_FACTOR = 1.0 / TimeUnit.SECONDS.toNanos(1);
+    private static final String COUNT = "count";
+    private static final String VALUE = "value";
+    private static final String[] QUANTILE_FIELDS = {"median", "75%", "95%", "98%", "99%", "99.9%"};
+    private static final String[] QUANTILE_LABELS = {"0.5", "0.75", "0.95", "0.98", "0.99", "0.999"};
+    private static final double[] QUANTILES = {0.5, 0.75, 0.95, 0.98, 0.99, 0.999};
+    private static final String SUMMARY = "summary";
+    private static final String[] SNAPSHOT_FIELDS = {"min", "max", "mean", "stddev"};
+    private static final String[] RATE_FIELDS = {"meanRate", "oneMinuteRate", "fiveMinuteRate", "fifteenMinuteRate"};
+    private static final String[] RATE_SUFFIXES = {"_mean_rate", "_m1_rate", "_m5_rate", "_m15_rate"};
+    private final Set<String> names = new HashSet<>();
+    private final Set<String> families = new HashSet<>();
+    private final Buffer buffer;
+
+    /**
+     * @param buffer the buffer to write metrics into.
+     */
+    PrometheusWriter(Buffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Writes a single metric.
+     *
+     * @param name   the name of the metric, sanitized before written.
+     * @param metric the metric to write.
+     * @param fields determines which fields of the metric to write.
+     */
+    void write(String name, Metric metric, Predicate<String> fields) {
+        name = unique(sanitize(name));
+
+        if (metric instanceof Gauge) {
+            if (fields.test(VALUE)) {
+                Object value = ((Gauge<?>) metric).getValue();
+
+                if (value instanceof Number) {
+                    sample(name, "gauge", ((Number) value).doubleValue());
+                } else if (value instanceof Boolean) {
+                    sample(name, "gauge", ((Boolean) value) ? 1 : 0);
+                }
+            }
+        } else if (metric instanceof Counter) {
+            if (fields.test(COUNT)) {
+                // counters may be decremented: not a prometheus counter.
+                sample(name, "gauge", ((Counter) metric).getCount());
+            }
+        } else if (metric instanceof Timer) {
+            Timer timer = (Timer) metric;
+            summary(name, timer.getSnapshot(), timer.getCount(), DURATION_FACTOR, fields);
+            rates(name, timer, fields);
+        } else if (metric instanceof Histogram) {
+            Histogram histogram = (Histogram) metric;
+            summary(name, histogram.getSnapshot(), histogram.getCount(), 1, fields);
+        } else if (metric instanceof Meter) {
+            Meter meter = (Meter) metric;
+            if (fields.test(COUNT)) {
+                sample(name + "_total", "counter", meter.getCount());
+            }
+            rates(name, meter, fields);
+        }
+    }
+
+    private void summary(String name, Snapshot snapshot, long count, double factor, Predicate<String> fields) {
+        boolean header = false;
+
+        for (int i = 0; i < QUANTILES.length; i++) {
+            if (fields.test(QUANTILE_FIELDS[i])) {
+                if (!header) {
+                    if (!type(name, SUMMARY)) {
+                        break;
+                    }
+                    header = true;
+                }
+                buffer.appendString(name)
+                        .appendString("{quantile=\"")
+                        .appendString(QUANTILE_LABELS[i])
+                        .appendString("\"} ");
+                value(snapshot.getValue(QUANTILES[i]) * factor);
+            }
+        }
+        if (fields.test(COUNT) && (header || type(name, SUMMARY))) {
+            buffer.appendString(name).appendString("_count ");
+            value(count);
+        }
+        for (String field : SNAPSHOT_FIELDS) {
+            if (fields.test(field)) {
+                sample(name + "_" + field, "gauge", snapshotValue(snapshot, field) * factor);
+            }
+        }
+    }
+
+    private static double snapshotValue(Snapshot snapshot, String field) {
+        switch (field) {
+            case "min":
+                return snapshot.getMin();
+            case "max":
+                return snapshot.getMax();
+            case "mean":
+                return snapshot.getMean();
+            default:
+                return snapshot.getStdDev();
+        }
+    }
+
+    private void rates(String name, Metered metered, Predicate<String> fields) {
+        for (int i = 0; i < RATE_FIELDS.length; i++) {
+            if (fields.test(RATE_FIELDS[i])) {
+                sample(name + RATE_SUFFIXES[i], "gauge", rate(metered, RATE_FIELDS[i]));
+            }
+        }
+    }
+
+    private static double rate(Metered metered, String field) {
+        switch (field) {
+            case "meanRate":
+                return metered.getMeanRate();
+            case "oneMinuteRate":
+                return metered.getOneMinuteRate();
+            case "fiveMinuteRate":
+                return metered.getFiveMinuteRate();
+            default:
+                return metered.getFifteenMinuteRate();
+        }
+    }
+
+    private void sample(String name, String type, double value) {
+        if (type(name, type)) {
+            buffer.appendString(name).appendString(" ");
+            value(value);
+        }
+    }
+
+    /**
+     * @return false if the family is already written, its samples must then be skipped.
+     */
+    private boolean type(String name, String type) {
+        if (!families.add(name)) {
+            return false;
+        }
+        if (SUMMARY.equals(type)) {
+            // the count of a summary is a sample of the summary family.
+            families.add(name + "_count");
+        }
+        buffer.appendString("# TYPE ")
+                .appendString(name)
+                .appendString(" ")
+                .appendString(type)
+                .appendString("\n");
+        return true;
+    }
+
+    /**
+     * @param name a sanitized metric name.
+     * @return the name, suffixed with a number if a metric or family with the name is already written.
+     */
+    private String unique(String name) {
+        String unique = name;
+        for (int i = 2; names.contains(unique) || families.contains(unique); i++) {
+            unique = name + "_" + i;
+        }
+        names.add(unique);
+        return unique;
+    }
+
+    private void value(double value) {
+        if (Double.isNaN(value)) {
+            buffer.appendString("NaN");
+        } else if (Double.isInfinite(value)) {
+            buffer.appendString((value > 0) ? "+Inf" : "-Inf");
+        } else if (value == (long) value) {
+            buffer.appendString(Long.toString((long) value));
+        } else {
+            buffer.appendString(Double.toString(value));
+        }
+        buffer.appendString("\n");
+    }
+
+    /**
+     * @param name the name of a metric.
+     * @return the name with all characters that are not allowed by Prometheus replaced.
+     */
+    static String sanitize(String name) {
+        StringBuilder builder = null;
+
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            boolean valid = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_' || c == ':'
+                    || (c >= '0' && c <= '9' && i > 0);
+
+            if (!valid && builder == null) {
+                builder = new StringBuilder(name.length() + 1).append(name, 0, i);
+            }
+            if (builder != null) {
+                if (valid) {
+                    builder.append(c);
+                } else if (c >= '0' && c <= '9') {
+                    builder.append('_').append(c);
+                } else {
+                    builder.append('_');
+                }
+            }
+        }
+        return (builder == null) ? name : builder.toString();
+    }
+}
@@ -0,0 +1,93 @@
+package com.codingchili.core.metrics;
+
+import com.codahale.metrics.*;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Metrics recorded for blocking tasks submitted to a worker pool.
+ * <p>
+ * Metrics are named worker.[component].[metric] in the shared metric registry, where
+ * the component is the name that the task was submitted with: queue is the time from
+ * submitting a task until it is started on a worker, execution is the time that the
+ * task occupies the worker and inflight is the number of tasks that are queued or
+ * executing. The total number of tasks in flight is counted by worker.inflight.
+ */
+public class WorkerMetrics {
+    private static final String WORKER = "worker";
+    private static final String QUEUE = "queue";
+    private static final String EXECUTION = "execution";
+    private static final String INFLIGHT = "inflight";
+    private final Map<String, Component> components = new ConcurrentHashMap<>();
+    private final MetricRegistry registry;
+    private final Counter inflight;
+
+    public WorkerMetrics() {
+        this(SharedMetricRegistries.getOrCreate(MetricSettings.REGISTRY_NAME));
+    }
+
+    /**
+     * @param registry the registry to record worker metrics in.
+     */
+    public WorkerMetrics(MetricRegistry registry) {
+        this.registry = registry;
+        this.inflight = registry.counter(MetricRegistry.name(WORKER, INFLIGHT));
+    }
+
+    /**
+     * Records a task that is submitted to a worker pool.
+     *
+     * @param component the name of the component that submits the task.
+     * @param blocking  the blocking task to be executed on a worker.
+     * @param <T>       the type of the result of the task.
+     * @return the task to submit to the worker pool, records the metrics of the task when executed.
+     */
+    public <T> Handler<Promise<T>> submit(String component, Handler<Promise<T>> blocking) {
+        Component metrics = components.computeIfAbsent(component, Component::new);
+        long submitted = System.nanoTime();
+
+        metrics.inflight.inc();
+        inflight.inc();
+
+        return promise -> {
+            long started = System.nanoTime();
+            metrics.queue.update(started - submitted, TimeUnit.NANOSECONDS);
+            try {
+                blocking.handle(promise);
+            } finally {
+                metrics.execution.update(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                metrics.inflight.dec();
+                inflight.dec();
+            }
+        };
+    }
+
+    /**
+     * Called when a task returned by #{@link #submit(String, Handler)} is rejected by the pool.
+     *
+     * @param component the name of the component that submitted the task.
+     */
+    public void rejected(String component) {
+        components.get(component).inflight.dec();
+        inflight.dec();
+    }
+
+    /**
+     * The metrics of a single component.
+     */
+    private class Component {
+        private final Timer queue;
+        private final Timer execution;
+        private final Counter inflight;
+
+        private Component(String component) {
+            this.queue = HdrReservoir.timer(registry, MetricRegistry.name(WORKER, component, QUEUE));
+            this.execution = HdrReservoir.timer(registry, MetricRegistry.name(WORKER, component, EXECUTION));
+            this.inflight = registry.counter(MetricRegistry.name(WORKER, component, INFLIGHT));
+        }
+    }
+}
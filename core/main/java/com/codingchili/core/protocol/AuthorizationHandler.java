@@ -32,6 +32,24 @@ public interface AuthorizationHandler<T> {
      */
     RequestHandler<T> get(String route, RoleType role) throws AuthorizationRequiredException, HandlerMissingException;
 
+    /**
+     * Retrieves the RequestHandler of a route in the same way as #{@link #get(String, RoleType)}
+     * but returns null instead of throwing when the route is missing.
+     *
+     * @param route the id of the route to retrieve
+     * @param role  the role used in the authorization check
+     * @return a request handler used for the route or null if the route is missing.
+     * @throws AuthorizationRequiredException when a route exists but none
+     *                                        of the given roles has permission to execute it.
+     */
+    default RequestHandler<T> find(String route, RoleType role) throws AuthorizationRequiredException {
+        if (contains(route)) {
+            return get(route, role);
+        } else {
+            return null;
+        }
+    }
+
     /**
      * @param route id of the route to check if it is contained in the handler.
      * @return true if the route is registered.
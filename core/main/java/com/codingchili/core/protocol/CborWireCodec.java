@@ -0,0 +1,72 @@
+package com.codingchili.core.protocol;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.*;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Codec for the CBOR binary wire format (RFC 7049).
+ * <p>
+ * Field names and numbers are encoded in binary form, which reduces the size of
+ * the messages and the cost of encoding and decoding compared to JSON.
+ */
+public class CborWireCodec implements WireCodec {
+    public static final String NAME = "cbor";
+    private static final ObjectMapper cbor = new ObjectMapper(new CBORFactory());
+
+    static {
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(JsonObject.class, new StdSerializer<>(JsonObject.class) {
+            @Override
+            public void serialize(JsonObject value, JsonGenerator generator, SerializerProvider provider)
+                    throws IOException {
+                generator.writeObject(value.getMap());
+            }
+        });
+        module.addSerializer(JsonArray.class, new StdSerializer<>(JsonArray.class) {
+            @Override
+            public void serialize(JsonArray value, JsonGenerator generator, SerializerProvider provider)
+                    throws IOException {
+                generator.writeObject(value.getList());
+            }
+        });
+        cbor.registerModule(module);
+        cbor.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public JsonObject decode(Buffer buffer) {
+        try {
+            return new JsonObject(cbor.readValue(RequestHeaders.parser(cbor.getFactory(), buffer), Map.class));
+        } catch (IOException e) {
+            throw new DecodeException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public RequestHeaders headers(Buffer buffer) {
+        return RequestHeaders.parse(cbor, buffer);
+    }
+
+    @Override
+    public Buffer encode(JsonObject message) {
+        try {
+            return Buffer.buffer(cbor.writeValueAsBytes(message.getMap()));
+        } catch (IOException e) {
+            throw new EncodeException(e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.codingchili.core.protocol;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Codec for the JSON wire format, this is the default codec.
+ */
+public class JsonWireCodec implements WireCodec {
+    public static final String NAME = "json";
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public JsonObject decode(Buffer buffer) {
+        return buffer.toJsonObject();
+    }
+
+    @Override
+    public RequestHeaders headers(Buffer buffer) {
+        return RequestHeaders.parse(Serializer.json, buffer);
+    }
+
+    @Override
+    public Buffer encode(JsonObject message) {
+        return message.toBuffer();
+    }
+
+    @Override
+    public boolean isBinary() {
+        return false;
+    }
+}
@@ -0,0 +1,214 @@
+package com.codingchili.core.protocol;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import com.codingchili.core.configuration.CoreStrings;
+import com.codingchili.core.context.CoreRuntimeException;
+import com.codingchili.core.storage.Storable;
+
+import static com.codingchili.core.configuration.CoreStrings.STORAGE_ARRAY;
+
+/**
+ * Reads the value at a dotted path, for example "nested.name", from objects.
+ * <p>
+ * The path is split once when the accessor is compiled. Each field along the path
+ * is read with a method handle that is resolved once per class, readers are shared
+ * by all accessors of the same path and are safe to use from multiple threads.
+ * <p>
+ * Accessors are cached by path, use #{@link #of(String)} to retrieve one. Paths may be
+ * given by clients in queries, the cache is bounded and cleared when it is full.
+ */
+public class PathAccessor implements Function<Object, Collection<?>> {
+    private static final int CACHE_CAPACITY = 1024;
+    private static final Map<String, PathAccessor> accessors = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Function<Object, Object>>[] readers;
+    private final String[] fields;
+    private final String path;
+
+    /**
+     * @param path the path to get an accessor for, fields are delimited by a dot.
+     * @return a compiled accessor for the given path.
+     */
+    public static PathAccessor of(String path) {
+        PathAccessor accessor = accessors.get(path);
+
+        if (accessor == null) {
+            if (accessors.size() >= CACHE_CAPACITY) {
+                // accessors in use are kept by their callers and are compiled again when missed.
+                accessors.clear();
+            }
+            accessor = accessors.computeIfAbsent(path, PathAccessor::new);
+        }
+        return accessor;
+    }
+
+    @SuppressWarnings("unchecked")
+    private PathAccessor(String path) {
+        this.path = path;
+        this.fields = path.replace(STORAGE_ARRAY, "").split("\\.");
+        this.readers = new Map[fields.length];
+
+        for (int i = 0; i < fields.length; i++) {
+            readers[i] = new ConcurrentHashMap<>();
+        }
+    }
+
+    /**
+     * @param object the object to read the value of the path from.
+     * @param <T>    the type of the values at the path.
+     * @return the value at the path, if the value is a collection its elements are returned.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Collection<T> get(Object object) {
+        return (Collection<T>) apply(object);
+    }
+
+    @Override
+    public Collection<?> apply(Object object) {
+        if (object instanceof JsonObject) {
+            return json((JsonObject) object);
+        } else {
+            for (int i = 0; i < fields.length; i++) {
+                if (object == null) {
+                    throw new CoreRuntimeException(CoreStrings.getValueByPathContainsNull(fields[i], fields));
+                } else if (object instanceof Storable && fields[i].equals(Storable.idField)) {
+                    return Collections.singleton(((Storable) object).getId());
+                } else {
+                    int field = i;
+                    object = readers[i].computeIfAbsent(object.getClass(), type -> reader(type, fields[field]))
+                            .apply(object);
+                }
+            }
+            if (object instanceof Collection) {
+                return (Collection<?>) object;
+            } else {
+                return Collections.singleton(object);
+            }
+        }
+    }
+
+    private Collection<?> json(JsonObject json) {
+        for (int i = 0; i < fields.length - 1; i++) {
+            json = json.getJsonObject(fields[i]);
+        }
+
+        Object value = json.getValue(fields[fields.length - 1]);
+        if (value instanceof JsonArray) {
+            JsonArray array = (JsonArray) value;
+            Comparable[] values = new Comparable[array.size()];
+
+            for (int i = 0; i < values.length; i++) {
+                values[i] = (Comparable) array.getValue(i);
+            }
+            return Arrays.asList(values);
+        } else {
+            return Collections.singleton(value);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Function<Object, Object> reader(Class<?> type, String fieldName) {
+        if (Map.class.isAssignableFrom(type)) {
+            return object -> ((Map) object).get(fieldName);
+        } else if (JsonObject.class.isAssignableFrom(type)) {
+            return object -> ((JsonObject) object).getValue(fieldName);
+        } else {
+            MethodHandle handle = getter(type, fieldName);
+            return object -> {
+                try {
+                    return (Object) handle.invokeExact(object);
+                } catch (Throwable e) {
+                    throw new CoreRuntimeException(CoreStrings.getReflectionErrorInSerializer(path));
+                }
+            };
+        }
+    }
+
+    /**
+     * Resolves the declared type of the value at the end of the path.
+     *
+     * @param type the class of the objects the path is read from.
+     * @return the declared type of the field at the end of the path, the element type
+     * if the field is a collection or Object if the type cannot be determined.
+     */
+    public Class<?> typeOf(Class<?> type) {
+        Type declared = type;
+
+        for (String fieldName : fields) {
+            Class<?> owner = raw(declared);
+
+            if (owner == null || Map.class.isAssignableFrom(owner) || JsonObject.class.isAssignableFrom(owner)) {
+                return Object.class;
+            } else if (Storable.class.isAssignableFrom(owner) && fieldName.equals(Storable.idField)) {
+                return String.class;
+            } else {
+                Optional<Field> field = field(owner, fieldName);
+
+                if (field.isPresent()) {
+                    declared = field.get().getGenericType();
+                } else {
+                    return Object.class;
+                }
+            }
+        }
+        Class<?> result = raw(declared);
+
+        if (result != null && Collection.class.isAssignableFrom(result)) {
+            if (declared instanceof ParameterizedType) {
+                result = raw(((ParameterizedType) declared).getActualTypeArguments()[0]);
+            } else {
+                result = null;
+            }
+        }
+        return (result == null) ? Object.class : result;
+    }
+
+    private static Class<?> raw(Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        } else if (type instanceof ParameterizedType) {
+            return raw(((ParameterizedType) type).getRawType());
+        } else {
+            return null;
+        }
+    }
+
+    private static Optional<Field> field(Class<?> type, String fieldName) {
+        for (Class<?> iterator = type; iterator != null && iterator != Object.class; iterator = iterator.getSuperclass()) {
+            for (Field field : iterator.getDeclaredFields()) {
+                if (field.getName().equals(fieldName)) {
+                    return Optional.of(field);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private MethodHandle getter(Class<?> type, String fieldName) {
+        Field field = field(type, fieldName).orElseThrow(() ->
+                new CoreRuntimeException(CoreStrings.getReflectionErrorInSerializer(path)));
+        try {
+            field.setAccessible(true);
+            MethodHandle getter = MethodHandles.lookup().unreflectGetter(field);
+
+            if (Modifier.isStatic(field.getModifiers())) {
+                getter = MethodHandles.dropArguments(getter, 0, Object.class);
+            }
+            return getter.asType(MethodType.methodType(Object.class, Object.class));
+        } catch (Throwable e) {
+            throw new CoreRuntimeException(CoreStrings.getReflectionErrorInSerializer(path));
+        }
+    }
+}
@@ -4,10 +4,16 @@ import com.codingchili.core.context.CoreRuntimeException;
 import io.vertx.core.Future;
 import io.vertx.core.buffer.Buffer;
 
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -35,6 +41,12 @@ import static com.codingchili.core.protocol.RoleMap.*;
  * <p>
  * Aug, 2020 - removed use of reflectasm as method reflection in J11 is 10% faster.
  * If setAccessible(true) is called then J11 reflection is 50% faster.
+ * <p>
+ * Annotated api methods are bound with #{@link LambdaMetafactory} and invoked directly,
+ * reflection is only used for methods that cannot be bound.
+ * <p>
+ * Requests to registered routes that are processed with #{@link #process(Request)} record
+ * latency, throughput, errors and request sizes per route, see #{@link RouteMetrics}.
  */
 public class Protocol<RequestType> {
     private AuthorizationHandler<RequestType> authorizer = new SimpleAuthorizationHandler<>();
@@ -45,6 +57,8 @@ public class Protocol<RequestType> {
     private boolean emitDocumentation = false;
     private Route<RequestType> lastAddedRoute;
     private AtomicBoolean dirty = new AtomicBoolean(true);
+    private final Set<String> routes = ConcurrentHashMap.newKeySet();
+    private final Map<String, RouteMetrics> metrics = new ConcurrentHashMap<>();
     private Class<?> dataModel;
     private Logger logger = new ConsoleLogger(getClass());
     private String target = "";
@@ -221,7 +235,52 @@ public class Protocol<RequestType> {
     }
 
     private void wrap(String route, Receiver<RequestType> handler, Method method, RoleType[] role) {
-        use(route, request -> invokeMethod(method, handler, request), role);
+        RequestHandler<RequestType> bound = bind(method, handler);
+
+        if (bound == null) {
+            use(route, request -> invokeMethod(method, handler, request), role);
+        } else {
+            use(route, bound, role);
+        }
+    }
+
+    /**
+     * Binds the given api method to a request handler with #{@link LambdaMetafactory}, the
+     * method is then invoked directly instead of reflectively for each request.
+     *
+     * @param method   the api method to bind, must accept a request or no arguments.
+     * @param receiver the handler instance that declares the method.
+     * @return a request handler that invokes the method or null if the method could not be bound.
+     */
+    @SuppressWarnings("unchecked")
+    private RequestHandler<RequestType> bind(Method method, Object receiver) {
+        try {
+            Class<?> type = receiver.getClass();
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            MethodHandle target = lookup.unreflect(method);
+
+            if (method.getParameterCount() == 0) {
+                Runnable runnable = (Runnable) LambdaMetafactory.metafactory(lookup, "run",
+                        MethodType.methodType(Runnable.class, type),
+                        MethodType.methodType(void.class),
+                        target,
+                        MethodType.methodType(void.class)
+                ).getTarget().invoke(receiver);
+                return request -> runnable.run();
+            } else if (method.getParameterCount() == 1) {
+                return (RequestHandler<RequestType>) LambdaMetafactory.metafactory(lookup, "submit",
+                        MethodType.methodType(RequestHandler.class, type),
+                        MethodType.methodType(void.class, Object.class),
+                        target,
+                        MethodType.methodType(void.class, method.getParameterTypes()[0])
+                ).getTarget().invoke(receiver);
+            } else {
+                return null;
+            }
+        } catch (Throwable e) {
+            // the method is not accessible to the lookup: fall back to reflection.
+            return null;
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -274,6 +333,7 @@ public class Protocol<RequestType> {
     public Protocol<RequestType> use(String route, RequestHandler<RequestType> handler, RoleType... role) {
         lastAddedRoute = new Route<>(route, handler, role);
         authorizer.use(lastAddedRoute);
+        routes.add(route);
         dirty.set(true);
         return this;
     }
@@ -300,10 +360,14 @@ public class Protocol<RequestType> {
      * @throws HandlerMissingException        when the requested route handler is not registered.
      */
     public RequestHandler<RequestType> get(String route, RoleType role) throws AuthorizationRequiredException, HandlerMissingException {
-        if (authorizer.contains(route)) {
-            return authorizer.get(route, role);
-        } else if (authorizer.contains(ANY)) {
-            return authorizer.get(ANY, role);   // fallback to any route.
+        RequestHandler<RequestType> handler = authorizer.find(route, role);
+
+        if (handler == null) {
+            handler = authorizer.find(ANY, role);   // fallback to any route.
+        }
+
+        if (handler != null) {
+            return handler;
         } else {
             // no route registered, check if protocol emits documentation.
             if (emitDocumentation && route.equals(CoreStrings.PROTOCOL_DOCUMENTATION)) {
@@ -343,11 +407,21 @@ public class Protocol<RequestType> {
         try {
             authenticator.apply(request).setHandler(done -> {
                 if (done.succeeded()) {
+                    String route;
+                    RouteMetrics metrics;
                     try {
-                        get(routeMapper.apply(request), done.result()).submit((RequestType) request);
+                        route = routeMapper.apply(request);
+                        metrics = metrics(route);
                     } catch (Throwable e) {
                         logger.onError(e);
                         request.error(e);
+                        return;
+                    }
+
+                    if (metrics == null) {
+                        submit(route, done.result(), request);
+                    } else {
+                        submit(route, done.result(), request, metrics);
                     }
                 } else {
                     logger.onError(done.cause());
@@ -360,6 +434,55 @@ public class Protocol<RequestType> {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private void submit(String route, RoleType role, Request request) {
+        try {
+            get(route, role).submit((RequestType) request);
+        } catch (Throwable e) {
+            logger.onError(e);
+            request.error(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void submit(String route, RoleType role, Request request, RouteMetrics metrics) {
+        RequestHandler<RequestType> handler;
+        try {
+            handler = get(route, role);
+        } catch (AuthorizationRequiredException e) {
+            metrics.unauthorized();
+            logger.onError(e);
+            request.error(e);
+            return;
+        }
+        Request measured = metrics.measure(request);
+        try {
+            handler.submit((RequestType) measured);
+        } catch (Throwable e) {
+            logger.onError(e);
+            metrics.error(measured, e);
+        }
+    }
+
+    /**
+     * @param route the route of a request.
+     * @return the metrics of the route that handles requests to the given route, null
+     * if the route is not registered, requests that fall back to the #{@link CoreStrings#ANY}
+     * route are recorded for the fallback route.
+     */
+    private RouteMetrics metrics(String route) {
+        if (route == null) {
+            return null;
+        } else if (!routes.contains(route)) {
+            if (routes.contains(ANY)) {
+                route = ANY;
+            } else {
+                return null;
+            }
+        }
+        return metrics.computeIfAbsent(route, key -> new RouteMetrics(target, key));
+    }
+
     /**
      * Set the route mapper used to process requests. A route mapper determines which protocol route
      * that is to be invoked for the given request. The default mapper invokes {@link Request#route()}.
@@ -0,0 +1,152 @@
+package com.codingchili.core.protocol;
+
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+import com.codingchili.core.security.Token;
+
+import static com.codingchili.core.configuration.CoreStrings.*;
+
+/**
+ * The headers of a request: route, target and token.
+ * <p>
+ * Headers are extracted with a streaming parser that stops as soon as all
+ * headers are found, without materializing the rest of the request.
+ */
+public class RequestHeaders {
+    private static final int HEADER_COUNT = 3;
+    private JsonObject token;
+    private Token unpacked;
+    private String route;
+    private String target;
+
+    /**
+     * Creates a new set of headers.
+     *
+     * @param route  the route of the request, may be null.
+     * @param target the target of the request, may be null.
+     * @param token  the serialized token of the request, may be null.
+     */
+    public RequestHeaders(String route, String target, JsonObject token) {
+        this.route = route;
+        this.target = target;
+        this.token = token;
+    }
+
+    /**
+     * Extracts headers from a decoded request.
+     *
+     * @param data the decoded request.
+     * @return the headers of the given request.
+     */
+    public static RequestHeaders of(JsonObject data) {
+        Object token = data.getValue(ID_TOKEN);
+        return new RequestHeaders(
+                string(data.getValue(PROTOCOL_ROUTE)),
+                string(data.getValue(PROTOCOL_TARGET)),
+                (token instanceof JsonObject) ? (JsonObject) token : null);
+    }
+
+    /**
+     * Extracts headers from an encoded request by streaming the top level fields, other
+     * fields are skipped without being materialized.
+     *
+     * @param mapper the mapper of the format the buffer is encoded with.
+     * @param buffer the encoded request.
+     * @return the headers of the given request, headers that are missing or not
+     * possible to parse are set to null.
+     */
+    @SuppressWarnings("unchecked")
+    public static RequestHeaders parse(ObjectMapper mapper, Buffer buffer) {
+        String route = null;
+        String target = null;
+        JsonObject token = null;
+
+        try (JsonParser parser = parser(mapper.getFactory(), buffer)) {
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                int found = 0;
+
+                while (found < HEADER_COUNT && parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.getCurrentName();
+                    JsonToken value = parser.nextToken();
+
+                    if (PROTOCOL_ROUTE.equals(field)) {
+                        route = (value == JsonToken.VALUE_STRING) ? parser.getText() : null;
+                        found++;
+                    } else if (PROTOCOL_TARGET.equals(field)) {
+                        target = (value == JsonToken.VALUE_STRING) ? parser.getText() : null;
+                        found++;
+                    } else if (ID_TOKEN.equals(field) && value == JsonToken.START_OBJECT) {
+                        token = new JsonObject((Map<String, Object>) mapper.readValue(parser, Map.class));
+                        found++;
+                    }
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            // the request body is reported as invalid when it is decoded.
+        }
+        return new RequestHeaders(route, target, token);
+    }
+
+    /**
+     * Creates a parser that reads directly from the backing array of the buffer when
+     * available, to avoid copying the buffer.
+     *
+     * @param factory the factory of the format to parse.
+     * @param buffer  the buffer to parse.
+     * @return a parser that reads from the given buffer.
+     * @throws IOException if the parser fails to initialize.
+     */
+    static JsonParser parser(JsonFactory factory, Buffer buffer) throws IOException {
+        ByteBuf bytes = buffer.getByteBuf();
+        if (bytes.hasArray()) {
+            return factory.createParser(bytes.array(), bytes.arrayOffset() + bytes.readerIndex(),
+                    bytes.readableBytes());
+        } else {
+            return factory.createParser((InputStream) new ByteBufInputStream(bytes));
+        }
+    }
+
+    private static String string(Object value) {
+        return (value instanceof String) ? (String) value : null;
+    }
+
+    /**
+     * @return the route of the request, defaults to #{@link com.codingchili.core.configuration.CoreStrings#ANY}.
+     */
+    public String route() {
+        return (route == null) ? ANY : route;
+    }
+
+    /**
+     * @return the target of the request, defaults to
+     * #{@link com.codingchili.core.configuration.CoreStrings#ID_UNDEFINED}.
+     */
+    public String target() {
+        return (target == null) ? ID_UNDEFINED : target;
+    }
+
+    /**
+     * @return the token of the request, unpacked once on first access. If the
+     * request does not contain a token then an expired token is returned.
+     */
+    public Token token() {
+        if (unpacked == null) {
+            if (token == null) {
+                unpacked = new Token().setExpiry(0);
+            } else {
+                unpacked = Serializer.unpack(token, Token.class);
+            }
+        }
+        return unpacked;
+    }
+}
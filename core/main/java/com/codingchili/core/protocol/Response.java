@@ -60,14 +60,28 @@ public abstract class Response {
      * @return a sendable json object without headers.
      */
     public static Buffer buffer(String target, String route, Object message) {
+        return buffer(WireCodecs.json(), target, route, message);
+    }
+
+    /**
+     * Converts the given message into the wire format of the given codec. Buffers
+     * are assumed to already be encoded and are not converted.
+     *
+     * @param codec   the codec to encode the message with.
+     * @param target  the target header to set for the response.
+     * @param route   the route header to set for the response.
+     * @param message the message to be converted.
+     * @return the encoded message with headers.
+     */
+    public static Buffer buffer(WireCodec codec, String target, String route, Object message) {
         Buffer buffer;
 
         if (message instanceof Buffer) {
             buffer = ((Buffer) message);
         } else if (message instanceof JsonObject) {
-            buffer = addHeaders(target, route, (JsonObject) message).toBuffer();
+            buffer = codec.encode(addHeaders(target, route, (JsonObject) message));
         } else {
-            buffer = addHeaders(target, route, Serializer.json(message)).toBuffer();
+            buffer = codec.encode(addHeaders(target, route, Serializer.json(message)));
         }
         return buffer;
     }
@@ -0,0 +1,130 @@
+package com.codingchili.core.protocol;
+
+import com.codahale.metrics.*;
+
+import java.util.concurrent.TimeUnit;
+
+import com.codingchili.core.listener.Request;
+import com.codingchili.core.listener.RequestWrapper;
+import com.codingchili.core.metrics.HdrReservoir;
+import com.codingchili.core.metrics.MetricSettings;
+
+/**
+ * Metrics recorded for a single route of a #{@link Protocol}.
+ * <p>
+ * Metrics are named [target].[route].[metric] in the shared metric registry:
+ * latency is the time from submitting a request to the handler until a response
+ * is written, requests, errors and unauthorized are meters and size is the
+ * distribution of request sizes. The latency and the errors written by the handler
+ * are not recorded for requests that are wrapped, see #{@link #measure(Request)}.
+ */
+class RouteMetrics {
+    private static final String LATENCY = "latency";
+    private static final String REQUESTS = "requests";
+    private static final String ERRORS = "errors";
+    private static final String UNAUTHORIZED = "unauthorized";
+    private static final String SIZE = "size";
+    private final Timer latency;
+    private final Meter requests;
+    private final Meter errors;
+    private final Meter unauthorized;
+    private final Histogram size;
+
+    /**
+     * @param target the target of the protocol that the route is registered on.
+     * @param route  the route to record metrics for.
+     */
+    RouteMetrics(String target, String route) {
+        MetricRegistry registry = SharedMetricRegistries.getOrCreate(MetricSettings.REGISTRY_NAME);
+        this.latency = HdrReservoir.timer(registry, MetricRegistry.name(target, route, LATENCY));
+        this.requests = registry.meter(MetricRegistry.name(target, route, REQUESTS));
+        this.errors = registry.meter(MetricRegistry.name(target, route, ERRORS));
+        this.unauthorized = registry.meter(MetricRegistry.name(target, route, UNAUTHORIZED));
+        this.size = HdrReservoir.histogram(registry, MetricRegistry.name(target, route, SIZE));
+    }
+
+    /**
+     * Records a request and starts measuring its latency.
+     * <p>
+     * Requests that are wrapped by a handler specific #{@link RequestWrapper} are
+     * passed to the handler as they are, their responses cannot be measured without
+     * changing the type of the request so their latency is not recorded.
+     *
+     * @param request the request that is submitted to the handler of the route.
+     * @return the request to submit to the handler.
+     */
+    Request measure(Request request) {
+        requests.mark();
+        size.update(request.size());
+
+        if (request instanceof RequestWrapper) {
+            return request;
+        } else {
+            return new MeasuredRequest(request);
+        }
+    }
+
+    /**
+     * Writes an error to a request that failed when submitted to the handler.
+     *
+     * @param request   the request returned by #{@link #measure(Request)}.
+     * @param exception the error to write.
+     */
+    void error(Request request, Throwable exception) {
+        if (!(request instanceof MeasuredRequest)) {
+            errors.mark();
+        }
+        request.error(exception);
+    }
+
+    /**
+     * Records a request that was rejected as the role of the request is not authorized for the route.
+     */
+    void unauthorized() {
+        unauthorized.mark();
+    }
+
+    /**
+     * Records the latency of the request when the first response is written.
+     */
+    private class MeasuredRequest implements RequestWrapper {
+        private final long start = System.nanoTime();
+        private final Request request;
+        private boolean completed = false;
+
+        private MeasuredRequest(Request request) {
+            this.request = request;
+        }
+
+        @Override
+        public Request request() {
+            return request;
+        }
+
+        @Override
+        public void write(Object object) {
+            complete();
+            request.write(object);
+        }
+
+        @Override
+        public void accept() {
+            complete();
+            request.accept();
+        }
+
+        @Override
+        public void error(Throwable exception) {
+            errors.mark();
+            complete();
+            request.error(exception);
+        }
+
+        private void complete() {
+            if (!completed) {
+                completed = true;
+                latency.update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
@@ -20,10 +20,8 @@ import java.util.function.Function;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
-import com.codingchili.core.configuration.CoreStrings;
 import com.codingchili.core.context.CoreRuntimeException;
 import com.codingchili.core.protocol.exception.SerializerPayloadException;
-import com.codingchili.core.storage.Storable;
 
 import static com.codingchili.core.configuration.CoreStrings.*;
 
@@ -33,18 +31,21 @@ import static com.codingchili.core.configuration.CoreStrings.*;
 public class Serializer {
     // use vertx's objectmapper, it comes with custom serializer modules.
     public static ObjectMapper json = Json.mapper;
+    // indented json for human readable output, not to be used on the wire.
+    public static ObjectMapper prettyJson;
     public static ObjectMapper yaml = new ObjectMapper(new YAMLFactory()
             .configure(YAMLGenerator.Feature.LITERAL_BLOCK_STYLE, true));
 
     static {
-        // enable pretty printing for all json.
-        Json.mapper.configure(SerializationFeature.INDENT_OUTPUT, true);
-
+        // the vertx mapper is used for all messages on the wire and the event bus: keep it compact.
         json.setSerializationInclusion(JsonInclude.Include.NON_NULL);
         json.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
         json.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
         json.configure(JsonParser.Feature.ALLOW_COMMENTS, true);
-        json.configure(SerializationFeature.INDENT_OUTPUT, true);
+        json.configure(SerializationFeature.INDENT_OUTPUT, false);
+
+        prettyJson = json.copy();
+        prettyJson.configure(SerializationFeature.INDENT_OUTPUT, true);
 
         yaml.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
         yaml.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
@@ -94,7 +95,7 @@ public class Serializer {
     }
 
     /**
-     * Serializes an object as JSON.
+     * Serializes an object as indented JSON.
      *
      * @param object containing JSON transformable types.
      * @return a JSON string representing the object.
@@ -104,7 +105,7 @@ public class Serializer {
             return ((JsonObject) object).encodePrettily();
         } else {
             try {
-                return json.writeValueAsString(object);
+                return prettyJson.writeValueAsString(object);
             } catch (Throwable e) {
                 throw new CoreRuntimeException(e.getMessage());
             }
@@ -131,7 +132,7 @@ public class Serializer {
     }
 
     /**
-     * Converts any object into a buffer in json format.
+     * Converts any object into a buffer in compact json format.
      *
      * @param object the object to serialize.
      * @return a Buffer of the json encoded object.
@@ -144,6 +145,16 @@ public class Serializer {
         }
     }
 
+    /**
+     * Converts any object into a buffer in indented json format.
+     *
+     * @param object the object to serialize.
+     * @return a Buffer of the indented json encoded object.
+     */
+    public static Buffer prettyBuffer(Object object) {
+        return Buffer.buffer(pack(object));
+    }
+
     /**
      * Dematerializes a json-string into a typed object.
      *
@@ -232,32 +243,10 @@ public class Serializer {
      * @param <T>  free class cast.
      * @return the extracted value type casted to the type parameter.
      */
-    @SuppressWarnings("unchecked")
     public static <T> Collection<T> getValueByPath(JsonObject json, String path) {
-        String[] fields = path.replace(STORAGE_ARRAY, "").split("\\.");
-        String targetField = fields[fields.length - 1];
-
-        for (int i = 0; i < fields.length - 1; i++) {
-            json = json.getJsonObject(fields[i]);
-        }
-
-        Object targetValue = json.getValue(targetField);
-        if (targetValue instanceof JsonArray) {
-            Comparable[] objects = new Comparable[((JsonArray) targetValue).size()];
-
-            for (int i = 0; i < objects.length; i++) {
-                objects[i] = (Comparable) ((JsonArray) targetValue).getValue(i);
-            }
-            return Arrays.asList((T[]) objects);
-        } else {
-            return Collections.singleton((T) targetValue);
-        }
+        return PathAccessor.of(path).get(json);
     }
 
-
-    // stores fields that has been set as accessible for the given class.
-    private static Map<Class<?>, Map<String, Field>> reflectCache = new HashMap<>();
-
     /**
      * Gets a value by the given path for an object.
      *
@@ -265,64 +254,10 @@ public class Serializer {
      * @param path   the path to the field to retrieve the value of, may be an object or collection.
      * @param <T>    the type of the field to retrieve.
      * @return a list of values matching the path.
+     * @see PathAccessor for retrieving values without looking up the accessor of the path.
      */
-    @SuppressWarnings("unchecked")
     public static <T> Collection<T> getValueByPath(Object object, String path) {
-        if (object instanceof JsonObject) {
-            return getValueByPath((JsonObject) object, path);
-        } else {
-            String[] fields = path.replace(STORAGE_ARRAY, "").split("\\.");
-
-            for (String fieldName : fields) {
-                if (object == null) {
-                    throw new CoreRuntimeException(CoreStrings.getValueByPathContainsNull(fieldName, fields));
-                }
-
-                if (object instanceof Storable && fieldName.equals(Storable.idField)) {
-                    return Collections.singleton((T) ((Storable) object).getId());
-                } else if (object instanceof Map) {
-                    object = ((Map) object).get(fieldName);
-                } else if (object instanceof JsonObject) {
-                    object = ((JsonObject) object).getValue(fieldName);
-                } else {
-                    try {
-                        Class<?> origin = object.getClass();
-                        boolean found = false;
-
-                        for (Class<?> iterator = origin; iterator != Object.class; iterator = iterator.getSuperclass()) {
-                            Map<String, Field> fieldSet = reflectCache.computeIfAbsent(iterator, (k) -> new TreeMap<>());
-                            Field field = fieldSet.get(fieldName);
-
-                            if (field == null) {
-                                for (Field member : iterator.getDeclaredFields()) {
-                                    if (member.getName().equals(fieldName)) {
-                                        member.setAccessible(true);
-                                        fieldSet.put(fieldName, field);
-                                        field = member;
-                                        found = true;
-                                    }
-                                }
-                            }
-                            if (field != null) {
-                                object = field.get(object);
-                            }
-                        }
-                        if (!found) {
-                            throw new CoreRuntimeException(String.format("Not able to find field '%s' from class '%s'.",
-                                    fieldName, origin.getName()));
-
-                        }
-                    } catch (Throwable e) {
-                        throw new CoreRuntimeException(CoreStrings.getReflectionErrorInSerializer(path));
-                    }
-                }
-            }
-            if (object instanceof Collection) {
-                return (Collection<T>) object;
-            } else {
-                return Collections.singleton((T) object);
-            }
-        }
+        return PathAccessor.of(path).get(object);
     }
 
     /**
@@ -15,57 +15,128 @@ import com.codingchili.core.protocol.exception.HandlerMissingException;
  * <p>
  * A role with a higher access level may execute any route
  * protected by a role with a weaker access level.
+ * <p>
+ * Routes are resolved through an immutable dispatch table that is compiled on
+ * the first lookup after a route is added. Each entry holds the weakest access
+ * level of the route, so resolving a route for a role is a single lookup followed
+ * by a check on the roles of the route and a comparison of access levels. Routes
+ * may be added while requests are handled, adding routes and compiling the table
+ * is guarded by the handler while lookups in a compiled table take no lock.
  */
 public class SimpleAuthorizationHandler<T> implements AuthorizationHandler<T> {
     // holds all handlers grouped on roles => routes => route::handler.
     private final Map<RoleType, HashMap<String, Route<T>>> handlers = new HashMap<>();
-    // holds all existing routes, to allow checking for missing routes vs unauthorized.
-    private final Set<String> routes = new HashSet<>();
+    // compiled from the handlers on first use, discarded whenever a route is added.
+    private volatile Map<String, Dispatch<T>> table;
 
     @Override
-    public void use(Route<T> route) {
+    public synchronized void use(Route<T> route) {
         for (RoleType role : route.getRoles()) {
             if (!handlers.containsKey(role)) {
                 handlers.put(role, new HashMap<>());
             }
             handlers.get(role).put(route.getRoute(), route);
         }
-        routes.add(route.getRoute());
+        table = null;
     }
 
     @Override
     public RequestHandler<T> get(String route, RoleType role) throws AuthorizationRequiredException, HandlerMissingException {
-        if (routes.contains(route)) {
-            if (handlers.containsKey(role)) {
-                Route<T> api = handlers.get(role).get(route);
-                if (api != null) {
-                    return api.getHandler();
-                }
-            }
-            // no exact role match on ID, do a full 2nd level scan to check access level.
-            for (RoleType required : handlers.keySet()) {
-                if (required.getLevel() < role.getLevel()) {
-                    Route<T> api = handlers.get(required).get(route);
-                    if (api != null) {
-                        return api.getHandler();
-                    }
-                }
-            }
-        } else {
+        RequestHandler<T> handler = find(route, role);
+        if (handler == null) {
             throw new HandlerMissingException(route);
+        } else {
+            return handler;
+        }
+    }
+
+    @Override
+    public RequestHandler<T> find(String route, RoleType role) throws AuthorizationRequiredException {
+        Dispatch<T> dispatch = table().get(route);
+        if (dispatch == null) {
+            return null;
+        } else {
+            return dispatch.resolve(role);
         }
-        throw new AuthorizationRequiredException();
     }
 
     @Override
     public boolean contains(String route) {
-        return routes.contains(route);
+        return table().containsKey(route);
     }
 
     @Override
-    public List<Route<T>> list() {
+    public synchronized List<Route<T>> list() {
         Set<Route<T>> routes = new HashSet<>();
         handlers.values().forEach(role -> routes.addAll(role.values()));
         return new ArrayList<>(routes);
     }
+
+    private Map<String, Dispatch<T>> table() {
+        Map<String, Dispatch<T>> table = this.table;
+        if (table == null) {
+            synchronized (this) {
+                // the table may have been compiled while waiting for the lock.
+                table = this.table;
+                if (table == null) {
+                    table = compile();
+                    this.table = table;
+                }
+            }
+        }
+        return table;
+    }
+
+    private Map<String, Dispatch<T>> compile() {
+        Map<String, List<RoleType>> roles = new HashMap<>();
+        Map<String, List<RequestHandler<T>>> routes = new HashMap<>();
+
+        handlers.forEach((role, mapped) -> mapped.forEach((route, api) -> {
+            roles.computeIfAbsent(route, key -> new ArrayList<>()).add(role);
+            routes.computeIfAbsent(route, key -> new ArrayList<>()).add(api.getHandler());
+        }));
+
+        Map<String, Dispatch<T>> table = new HashMap<>();
+        roles.forEach((route, required) -> table.put(route, new Dispatch<>(required, routes.get(route))));
+        return Collections.unmodifiableMap(table);
+    }
+
+    /**
+     * An entry in the dispatch table, holds the handlers of a single route
+     * for each role and the handler of the role with the weakest access level.
+     */
+    private static class Dispatch<T> {
+        private final RoleType[] roles;
+        private final RequestHandler<T>[] handlers;
+        private final RequestHandler<T> weakest;
+        private final int level;
+
+        @SuppressWarnings("unchecked")
+        private Dispatch(List<RoleType> roles, List<RequestHandler<T>> handlers) {
+            this.roles = roles.toArray(new RoleType[0]);
+            this.handlers = handlers.toArray(new RequestHandler[0]);
+
+            int weakest = 0;
+            for (int i = 1; i < this.roles.length; i++) {
+                if (this.roles[i].getLevel() < this.roles[weakest].getLevel()) {
+                    weakest = i;
+                }
+            }
+            this.weakest = this.handlers[weakest];
+            this.level = this.roles[weakest].getLevel();
+        }
+
+        private RequestHandler<T> resolve(RoleType role) {
+            for (int i = 0; i < roles.length; i++) {
+                if (roles[i].equals(role)) {
+                    return handlers[i];
+                }
+            }
+            if (role.getLevel() > level) {
+                return weakest;
+            } else {
+                throw new AuthorizationRequiredException();
+            }
+        }
+    }
 }
@@ -0,0 +1,55 @@
+package com.codingchili.core.protocol;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Encodes and decodes messages that are sent over a transport.
+ * <p>
+ * Requests are always decoded into a json object, so that the request headers
+ * and payload is available regardless of the format used on the wire.
+ */
+public interface WireCodec {
+
+    /**
+     * @return the name of the codec, used to configure the codec on listeners.
+     */
+    String name();
+
+    /**
+     * @param buffer a message in the format of the codec.
+     * @return the decoded message.
+     * @throws DecodeException if the buffer cannot be decoded.
+     */
+    JsonObject decode(Buffer buffer);
+
+    /**
+     * Extracts the request headers from the buffer, implementations may avoid
+     * decoding the full request.
+     *
+     * @param buffer a message in the format of the codec.
+     * @return the headers of the message.
+     */
+    default RequestHeaders headers(Buffer buffer) {
+        try {
+            return RequestHeaders.of(decode(buffer));
+        } catch (DecodeException e) {
+            return new RequestHeaders(null, null, null);
+        }
+    }
+
+    /**
+     * @param message the message to encode.
+     * @return a buffer containing the message in the format of the codec.
+     */
+    Buffer encode(JsonObject message);
+
+    /**
+     * @return true if the encoded format is binary, binary formats cannot be
+     * written as text frames.
+     */
+    default boolean isBinary() {
+        return true;
+    }
+}
@@ -0,0 +1,48 @@
+package com.codingchili.core.protocol;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.codingchili.core.configuration.CoreStrings;
+import com.codingchili.core.context.CoreRuntimeException;
+
+/**
+ * Registry of the wire codecs that are available to listeners.
+ * <p>
+ * Custom codecs may be registered before the listeners that use them are deployed.
+ */
+public abstract class WireCodecs {
+    private static final Map<String, WireCodec> codecs = new ConcurrentHashMap<>();
+    private static final WireCodec json = new JsonWireCodec();
+
+    static {
+        register(json);
+        register(new CborWireCodec());
+    }
+
+    /**
+     * @param codec the codec to register, replaces any existing codec with the same name.
+     */
+    public static void register(WireCodec codec) {
+        codecs.put(codec.name(), codec);
+    }
+
+    /**
+     * @param name the name of the codec to retrieve.
+     * @return the codec registered with the given name.
+     */
+    public static WireCodec get(String name) {
+        WireCodec codec = codecs.get(name);
+        if (codec == null) {
+            throw new CoreRuntimeException(CoreStrings.getWireCodecMissing(name));
+        }
+        return codec;
+    }
+
+    /**
+     * @return the default codec which uses the JSON format.
+     */
+    public static WireCodec json() {
+        return json;
+    }
+}
@@ -3,6 +3,7 @@ package com.codingchili.core.protocol.exception;
 import com.codingchili.core.context.CoreException;
 import com.codingchili.core.listener.Request;
 
+import static com.codingchili.core.configuration.CoreStrings.getResponseTimeout;
 import static com.codingchili.core.configuration.CoreStrings.getTimeOutEcxeption;
 
 /**
@@ -12,4 +13,11 @@ public class RequestTimedOutException extends CoreException {
     public RequestTimedOutException(Request request) {
         super(getTimeOutEcxeption(request.target(), request.timeout()));
     }
+
+    /**
+     * @param timeout the time in ms that was waited for the response.
+     */
+    public RequestTimedOutException(int timeout) {
+        super(getResponseTimeout(timeout));
+    }
 }
@@ -5,6 +5,7 @@ import de.mkammerer.argon2.Argon2Factory;
 import io.vertx.core.*;
 
 import com.codingchili.core.context.CoreContext;
+import com.codingchili.core.context.WorkerPool;
 import com.codingchili.core.files.Configurations;
 import com.codingchili.core.security.exception.HashMismatchException;
 
@@ -18,6 +19,7 @@ import com.codingchili.core.security.exception.HashMismatchException;
  */
 
 public class HashFactory {
+    private static final String COMPONENT = HashFactory.class.getSimpleName();
     private static ArgonSettings settings = Configurations.security().getArgon();
     private static Argon2 argon2;
     private CoreContext context;
@@ -46,10 +48,12 @@ public class HashFactory {
      * @param plaintext the plaintext password to be hashed and compared to expected.
      */
     public void verify(Handler<AsyncResult<Void>> future, String expected, String plaintext) {
-        context.<Boolean>blocking(blocked -> {
+        context.pool(WorkerPool.HASHING).<Boolean>blocking(COMPONENT, blocked -> {
             blocked.complete(argon2.verify(expected, plaintext));
         }, hashed -> {
-            if (hashed.result()) {
+            if (hashed.failed()) {
+                future.handle(Future.failedFuture(hashed.cause()));
+            } else if (hashed.result()) {
                 future.handle(Future.succeededFuture());
             } else {
                 future.handle(Future.failedFuture(new HashMismatchException()));
@@ -65,7 +69,7 @@ public class HashFactory {
      */
     public Future<String> hash(String plaintext) {
         Future<String> future = Future.future();
-        context.<String>blocking(blocking -> {
+        context.pool(WorkerPool.HASHING).<String>blocking(COMPONENT, blocking -> {
             blocking.complete(argon2.hash(
                     settings.getIterations(),
                     settings.getMemory(),
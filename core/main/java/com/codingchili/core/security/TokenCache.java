@@ -0,0 +1,64 @@
+package com.codingchili.core.security;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded cache of tokens that have been verified.
+ * <p>
+ * Entries are keyed on the key of the token and a digest of its canonical form,
+ * so that any change to a token is a cache miss. Entries expire together with
+ * the token and the least recently used entry is evicted when the cache is full.
+ */
+class TokenCache {
+    private final Map<String, Long> entries;
+    private final int capacity;
+
+    /**
+     * @param capacity the max number of verified tokens to cache, if zero nothing is cached.
+     */
+    TokenCache(int capacity) {
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * @param key the cache key of a token.
+     * @param now the current time in epoch seconds.
+     * @return true if a token with the given cache key is verified and not expired.
+     */
+    synchronized boolean contains(String key, long now) {
+        Long expiry = entries.get(key);
+
+        if (expiry == null) {
+            return false;
+        } else if (expiry <= now) {
+            entries.remove(key);
+            return false;
+        } else {
+            return true;
+        }
+    }
+
+    /**
+     * @param key    the cache key of a verified token.
+     * @param expiry the time of expiry of the token in epoch seconds.
+     */
+    synchronized void add(String key, long expiry) {
+        if (capacity > 0) {
+            entries.put(key, expiry);
+        }
+    }
+
+    /**
+     * @return true if tokens are cached.
+     */
+    boolean isEnabled() {
+        return capacity > 0;
+    }
+}
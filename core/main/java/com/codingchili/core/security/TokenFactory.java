@@ -7,6 +7,8 @@ import javax.crypto.spec.SecretKeySpec;
 import java.security.*;
 import java.time.Instant;
 import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 import com.codingchili.core.configuration.system.SecuritySettings;
@@ -19,10 +21,26 @@ import static com.codingchili.core.configuration.CoreStrings.ERROR_TOKEN_FACTORY
 
 /**
  * Verifies and generates tokens for access.
+ * <p>
+ * HMAC tokens are verified on the calling thread, signed tokens are verified
+ * on a worker thread. Verified tokens are cached until they expire, see
+ * #{@link SecuritySettings#getTokenCache()}.
  */
 public class TokenFactory {
     private static final String CRYPTO_TYPE = "type";
     private static final String ALIAS = "alias";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final String COMPONENT = TokenFactory.class.getSimpleName();
+    private static final ThreadLocal<Map<String, Signature>> signatures = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<MessageDigest> digests = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new CoreRuntimeException(e);
+        }
+    });
+    private final ThreadLocal<Mac> macs = new ThreadLocal<>();
+    private final TokenCache cache;
     private final byte[] secret;
     private CoreContext core;
 
@@ -31,9 +49,19 @@ public class TokenFactory {
      * @param secret the secret to use to generate HMAC tokens, must not be null.
      */
     public TokenFactory(CoreContext core, byte[] secret) {
+        this(core, secret, Configurations.security().getTokenCache());
+    }
+
+    /**
+     * @param core      the core context to run async operations on.
+     * @param secret    the secret to use to generate HMAC tokens, must not be null.
+     * @param cacheSize the max number of verified tokens to cache, zero disables the cache.
+     */
+    public TokenFactory(CoreContext core, byte[] secret, int cacheSize) {
         Objects.requireNonNull(secret, "Cannot create TokenFactory with 'null' secret.");
         this.secret = secret;
         this.core = core;
+        this.cache = new TokenCache(cacheSize);
     }
 
     /**
@@ -43,17 +71,32 @@ public class TokenFactory {
      * @return true if the token is accepted.
      */
     public Future<Void> verify(Token token) {
+        long now = Instant.now().getEpochSecond();
+
         // verify token not null and token is still valid.
-        if (token != null && token.getExpiry() > Instant.now().getEpochSecond()) {
+        if (token != null && token.getExpiry() > now) {
             if (token.getProperties().containsKey(CRYPTO_TYPE)) {
                 String algorithm = token.getProperty(CRYPTO_TYPE);
                 SecuritySettings security = Configurations.security();
+                byte[][] canonical;
+                String cached;
+
+                try {
+                    canonical = canonicalize(token);
+                    cached = (cache.isEnabled()) ? cacheKey(token, canonical) : null;
+                } catch (Throwable e) {
+                    return Future.failedFuture(e);
+                }
+
+                if (cached != null && cache.contains(cached, now)) {
+                    return Future.succeededFuture();
+                }
 
                 // don't trust the algorithm in the token - match existing algorithms only.
                 if (algorithm.equals(security.getHmacAlgorithm())) {
-                    return verifyHmac(token);
+                    return cache(verifyHmac(token, canonical), cached, token);
                 } else if (algorithm.equals(security.getSignatureAlgorithm())) {
-                    return verifySignature(token);
+                    return cache(verifySignature(token, canonical), cached, token);
                 } else {
                     return Future.failedFuture(
                             String.format("Token algorithm '%s' - not enabled/trusted.", algorithm));
@@ -67,34 +110,69 @@ public class TokenFactory {
         return Future.failedFuture("Token is not valid.");
     }
 
-    private Future<Void> verifyHmac(Token token) {
-        Future<Void> future = Future.future();
-        core.blocking((blocking) -> {
-            try {
-                byte[] result = Base64.getEncoder().encode(hmacKey(token));
-                if (ByteComparator.compare(result, token.getKey().getBytes())) {
-                    blocking.complete();
-                } else {
-                    blocking.fail("Failed to verify HMAC token.");
-                }
-            } catch (Exception e) {
-                blocking.fail(e);
+    private Future<Void> cache(Future<Void> verified, String cached, Token token) {
+        if (cached != null) {
+            verified.onSuccess(done -> cache.add(cached, token.getExpiry()));
+        }
+        return verified;
+    }
+
+    /**
+     * @return the key of the token followed by a digest of its canonical form.
+     */
+    private String cacheKey(Token token, byte[][] canonical) {
+        MessageDigest digest = digests.get();
+        digest.reset();
+
+        for (byte[] part : canonical) {
+            digest.update(part);
+        }
+        return token.getKey() + Base64.getEncoder().encodeToString(digest.digest());
+    }
+
+    private Future<Void> verifyHmac(Token token, byte[][] canonical) {
+        // computing a HMAC takes microseconds: verified on the calling thread.
+        try {
+            byte[] result = Base64.getEncoder().encode(hmacKey(canonical));
+            if (ByteComparator.compare(result, token.getKey().getBytes())) {
+                return Future.succeededFuture();
+            } else {
+                return Future.failedFuture("Failed to verify HMAC token.");
             }
-        }, future);
-        return future;
+        } catch (Exception e) {
+            return Future.failedFuture(e);
+        }
     }
 
-    private byte[] hmacKey(Token token) throws NoSuchAlgorithmException, InvalidKeyException {
+    private byte[] hmacKey(byte[][] canonical) throws NoSuchAlgorithmException, InvalidKeyException {
         String algorithm = Configurations.security().getHmacAlgorithm();
-        Mac mac = Mac.getInstance(algorithm);
-
-        SecretKeySpec spec = new SecretKeySpec(secret, algorithm);
-        mac.init(spec);
-        canonicalizeTokenWithCrypto(token, mac::update);
+        Mac mac = macs.get();
 
+        if (mac == null || !mac.getAlgorithm().equals(algorithm)) {
+            mac = Mac.getInstance(algorithm);
+            mac.init(new SecretKeySpec(secret, algorithm));
+            macs.set(mac);
+        } else {
+            mac.reset();
+        }
+        for (byte[] part : canonical) {
+            mac.update(part);
+        }
         return mac.doFinal();
     }
 
+    private static Signature signature() throws NoSuchAlgorithmException {
+        String algorithm = Configurations.security().getSignatureAlgorithm();
+        Map<String, Signature> instances = signatures.get();
+        Signature signature = instances.get(algorithm);
+
+        if (signature == null) {
+            signature = Signature.getInstance(algorithm);
+            instances.put(algorithm, signature);
+        }
+        return signature;
+    }
+
     /**
      * Signs the given token using HMAC.
      *
@@ -103,10 +181,10 @@ public class TokenFactory {
      */
     public Future<Void> hmac(Token token) {
         Future<Void> future = Future.future();
-        core.blocking((blocking) -> {
+        core.blocking(COMPONENT, (blocking) -> {
             try {
                 token.addProperty(CRYPTO_TYPE, Configurations.security().getHmacAlgorithm());
-                token.setKey(Base64.getEncoder().encodeToString(hmacKey(token)));
+                token.setKey(Base64.getEncoder().encodeToString(hmacKey(canonicalize(token))));
                 blocking.complete();
             } catch (InvalidKeyException | NoSuchAlgorithmException e) {
                 blocking.fail(ERROR_TOKEN_FACTORY);
@@ -125,7 +203,7 @@ public class TokenFactory {
      */
     public Future<Void> sign(Token token, String keystore) {
         Future<Void> future = Future.future();
-        core.blocking((blocking) -> {
+        core.blocking(COMPONENT, (blocking) -> {
             try {
                 byte[] key = signedKey(token, keystore);
                 token.setKey(Base64.getEncoder().encodeToString(key));
@@ -140,12 +218,15 @@ public class TokenFactory {
     private byte[] signedKey(Token token, String keystore) {
         try {
             TrustAndKeyProvider provider = Configurations.security().getKeystore(keystore);
-            Signature signature = Signature.getInstance(Configurations.security().getSignatureAlgorithm());
+            Signature signature = signature();
             signature.initSign(provider.getPrivateKey());
 
             token.addProperty(CRYPTO_TYPE, Configurations.security().getSignatureAlgorithm());
             token.addProperty(ALIAS, keystore);
-            canonicalizeTokenWithCrypto(token, signature::update);
+
+            for (byte[] part : canonicalize(token)) {
+                signature.update(part);
+            }
 
             return signature.sign();
         } catch (Exception e) {
@@ -153,19 +234,22 @@ public class TokenFactory {
         }
     }
 
-    private Future<Void> verifySignature(Token token) {
+    private Future<Void> verifySignature(Token token, byte[][] canonical) {
         Future<Void> future = Future.future();
         String alias = token.getProperty(ALIAS);
 
         if (alias == null) {
             future.fail(String.format("token is missing property '%s' - unable to verify.", ALIAS));
         } else {
-            core.blocking((blocking) -> {
+            core.blocking(COMPONENT, (blocking) -> {
                 TrustAndKeyProvider provider = Configurations.security().getKeystore(alias);
                 try {
-                    Signature signature = Signature.getInstance(Configurations.security().getSignatureAlgorithm());
+                    Signature signature = signature();
                     signature.initVerify(provider.getPublicKey());
-                    canonicalizeTokenWithCrypto(token, signature::update);
+
+                    for (byte[] part : canonical) {
+                        signature.update(part);
+                    }
                     if (signature.verify(Base64.getDecoder().decode(token.getKey()))) {
                         blocking.complete();
                     } else {
@@ -180,30 +264,18 @@ public class TokenFactory {
     }
 
     /**
-     * Serializes a token and its properties and calls the given crypto function.
-     * All data included in the canonicalization is secured.
+     * Serializes a token and its properties into the parts that are processed
+     * by a crypto function. All data included in the canonicalization is secured.
      *
-     * @param token    the token to canonicalize and process with a crypto function.
-     * @param function the crypto function to apply to the serialized token parts.
+     * @param token the token to canonicalize.
+     * @return the serialized parts of the token.
      */
-    private void canonicalizeTokenWithCrypto(Token token, CryptoFunction function) {
-        try {
-            function.update(Serializer.buffer(token.getProperties()).getBytes());
-            function.update(token.getDomain().getBytes());
-            function.update((token.getExpiry() + "").getBytes());
-        } catch (SignatureException e) {
-            throw new CoreRuntimeException(e.getMessage());
-        }
-    }
-
-    @FunctionalInterface
-    private interface CryptoFunction {
-        /**
-         * processes a data part with a crypto function - this could be a HMAC or signature.
-         *
-         * @param data the data to be processed.
-         */
-        void update(byte[] data) throws SignatureException;
-
+    private byte[][] canonicalize(Token token) {
+        return new byte[][]{
+                // the indented form is kept so that previously issued tokens remain valid.
+                Serializer.prettyBuffer(token.getProperties()).getBytes(),
+                token.getDomain().getBytes(),
+                (token.getExpiry() + "").getBytes()
+        };
     }
-}
\ No newline at end of file
+}
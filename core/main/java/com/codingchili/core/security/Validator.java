@@ -2,7 +2,7 @@ package com.codingchili.core.security;
 
 import java.util.HashSet;
 import java.util.Set;
-import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import com.codingchili.core.configuration.Configurable;
 import com.codingchili.core.configuration.RegexComponent;
@@ -20,8 +20,8 @@ import io.vertx.core.json.JsonObject;
  */
 public class Validator implements Configurable {
     private static final String VALIDATION_FAILED_FOR_VALIDATOR = "Validation failed for validator '%s'.";
-    private static final String REGEX_PLAINTEXT = "[A-Za-z0-9 ]*";
-    private static final String REGEX_SPECIAL_CHARS = "[^A-Za-z0-9 ]";
+    private static final Pattern REGEX_PLAINTEXT = Pattern.compile("[A-Za-z0-9 ]*");
+    private static final Pattern REGEX_SPECIAL_CHARS = Pattern.compile("[^A-Za-z0-9 ]");
     private Set<ValidatorSettings> settings = new HashSet<>();
 
     public Validator() {
@@ -74,7 +74,7 @@ public class Validator implements Configurable {
      * @return true if the value is plaintext.
      */
     public static boolean plainText(Comparable value) {
-        return value != null && value.toString().matches(REGEX_PLAINTEXT);
+        return value != null && REGEX_PLAINTEXT.matcher(value.toString()).matches();
     }
 
     /**
@@ -84,7 +84,7 @@ public class Validator implements Configurable {
      * @return a plaintext string consisting of only A-Z, a-z, 0-9, whitespace.
      */
     public static String toPlainText(String input) {
-        return input.replaceAll(REGEX_SPECIAL_CHARS, "");
+        return REGEX_SPECIAL_CHARS.matcher(input).replaceAll("");
     }
 
     /**
@@ -92,55 +92,55 @@ public class Validator implements Configurable {
      * field names. Validation fails if evaluation is set to REJECT and the field value
      * is matching, if evaluation mode is set to REPLACE then the matching substring will be
      * replaced.
+     * <p>
+     * The json object is traversed once, all validators that match a field are applied
+     * to its value in turn.
      *
      * @param json the json object to check field values on.
      * @return the json object with values that have failed validation replaced.
      * @throws RequestValidationException when the evaluation is configured to reject a value.
      */
     public JsonObject validate(JsonObject json) throws RequestValidationException {
-        for (ValidatorSettings settings : settings) {
-            validateJsonObject(settings, json);
-        }
-        return json;
+        return validateJsonObject(json);
     }
 
-    private Object validateFieldByType(ValidatorSettings settings, String fieldName, Object value) {
+    private Object validateFieldByType(String fieldName, Object value) {
         if (value instanceof JsonObject) {
-            return validateJsonObject(settings, (JsonObject) value);
+            return validateJsonObject((JsonObject) value);
         } else if (value instanceof JsonArray) {
-            return validateJsonArray(settings, fieldName, (JsonArray) value);
+            return validateJsonArray(fieldName, (JsonArray) value);
         } else {
-            return validateSimpleType(settings, fieldName, value);
+            return validateSimpleType(fieldName, value);
         }
     }
 
     @SuppressWarnings("unchecked")
-    private JsonArray validateJsonArray(ValidatorSettings settings, String fieldName, JsonArray value) {
+    private JsonArray validateJsonArray(String fieldName, JsonArray value) {
         for (int i = 0; i < value.size(); i++) {
-            value.getList().set(i, validateFieldByType(settings, fieldName, value.getValue(i)));
+            value.getList().set(i, validateFieldByType(fieldName, value.getValue(i)));
         }
         return value;
     }
 
-    private JsonObject validateJsonObject(ValidatorSettings settings, JsonObject value) {
+    private JsonObject validateJsonObject(JsonObject value) {
         for (String fieldName : value.fieldNames()) {
-            value.put(fieldName, validateFieldByType(settings, fieldName, value.getValue(fieldName)));
+            value.put(fieldName, validateFieldByType(fieldName, value.getValue(fieldName)));
         }
         return value;
     }
 
-    private Object validateSimpleType(ValidatorSettings settings, String fieldName, Object value) {
-        if (settings.isFieldValidated(fieldName)) {
-            if (value instanceof String) {
-                return validateString(settings, (String) value);
-            } else {
-                // only string type supports substitution.
-                validateString(settings, value.toString());
-                return value;
+    private Object validateSimpleType(String fieldName, Object value) {
+        for (ValidatorSettings settings : settings) {
+            if (settings.isFieldValidated(fieldName)) {
+                if (value instanceof String) {
+                    value = validateString(settings, (String) value);
+                } else {
+                    // only string type supports substitution.
+                    validateString(settings, value.toString());
+                }
             }
-        } else {
-            return value;
         }
+        return value;
     }
 
     private String validateString(ValidatorSettings settings, String text) {
@@ -151,18 +151,17 @@ public class Validator implements Configurable {
         for (RegexComponent regex : settings.getRegex()) {
             switch (regex.getAction()) {
                 case SUBSTITUTE:
-                    text = text.replaceAll(regex.getExpression(),
-                        Matcher.quoteReplacement(regex.getSubstitution()));
+                    text = regex.getPattern().matcher(text).replaceAll(regex.getReplacement());
 
                     text = text.trim();
                     break;
                 case REJECT:
-                    if (text.matches(regex.getExpression())) {
+                    if (regex.getPattern().matcher(text).matches()) {
                         fail(settings);
                     }
                     break;
                 case ACCEPT:
-                    if (!text.matches(regex.getExpression())) {
+                    if (!regex.getPattern().matcher(text).matches()) {
                         fail(settings);
                     }
                     break;
@@ -3,13 +3,14 @@ package com.codingchili.core.storage;
 import java.util.Collection;
 import java.util.UUID;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import com.codingchili.core.configuration.CoreStrings;
 import com.codingchili.core.context.TimerSource;
 import com.codingchili.core.files.Configurations;
+import com.codingchili.core.protocol.PathAccessor;
 
 import static com.codingchili.core.configuration.CoreStrings.STORAGE_ARRAY;
-import static com.codingchili.core.protocol.Serializer.getValueByPath;
 
 /**
  * Base class for the query builder.
@@ -125,15 +126,13 @@ public abstract class AbstractQueryBuilder<Value extends Storable> implements Qu
         return this;
     }
 
-    int sortByAttribute(Object first, Object second) {
-        if (isOrdered) {
-            return getSortValue(first).compareTo(getSortValue(second)) * getSortDirection();
-        } else
-            return 0;
-    }
-
-    private String getSortValue(Object object) {
-        return getValueByPath(object, getOrderByAttribute()).iterator().next().toString();
+    /**
+     * @return a function that gets the value to sort an object by, the accessor of the
+     * order by attribute is resolved once for all objects sorted with the function.
+     */
+    Function<Object, String> getSortValue() {
+        PathAccessor accessor = PathAccessor.of(getOrderByAttribute());
+        return object -> accessor.apply(object).iterator().next().toString();
     }
 
     int getSortDirection() {
@@ -1,11 +1,13 @@
 package com.codingchili.core.storage;
 
-import io.vertx.core.AsyncResult;
-import io.vertx.core.Handler;
+import io.vertx.core.*;
+import io.vertx.core.streams.ReadStream;
 
+import java.util.*;
 import java.util.stream.Stream;
 
 import com.codingchili.core.context.StorageContext;
+import com.codingchili.core.storage.exception.NothingToRemoveException;
 import com.codingchili.core.storage.exception.ValueMissingException;
 
 import static com.codingchili.core.context.FutureHelper.*;
@@ -56,6 +58,72 @@ public interface AsyncStorage<Value extends Storable> {
     void put(Value value, Handler<AsyncResult<Void>> handler);
 
 
+    /**
+     * get the entries of all the given keys, keys that do not match a value are
+     * not included in the result. Storages that support bulk operations retrieve
+     * all the values in a single operation.
+     *
+     * @param keys    the keys identifying the entries to retrieve
+     * @param handler callback with the values that was found
+     */
+    @SuppressWarnings("rawtypes")
+    default void getAll(Collection<String> keys, Handler<AsyncResult<Collection<Value>>> handler) {
+        List<Future> futures = new ArrayList<>(keys.size());
+
+        for (String key : keys) {
+            Future<Value> future = Future.future();
+            get(key, get -> {
+                if (get.failed() && get.cause() instanceof ValueMissingException) {
+                    future.complete(null);
+                } else {
+                    future.handle(get);
+                }
+            });
+            futures.add(future);
+        }
+
+        CompositeFuture.all(futures).setHandler(done -> {
+            if (done.succeeded()) {
+                List<Value> values = new ArrayList<>(keys.size());
+                for (int i = 0; i < futures.size(); i++) {
+                    Value value = done.result().resultAt(i);
+                    if (value != null) {
+                        values.add(value);
+                    }
+                }
+                handler.handle(result(values));
+            } else {
+                handler.handle(error(done.cause()));
+            }
+        });
+    }
+
+    /**
+     * set the entries of all the given values. Storages that support bulk operations
+     * store all the values in a single operation.
+     *
+     * @param values  the values to be set for their keys
+     * @param handler callback
+     */
+    @SuppressWarnings("rawtypes")
+    default void putAll(Collection<Value> values, Handler<AsyncResult<Void>> handler) {
+        List<Future> futures = new ArrayList<>(values.size());
+
+        for (Value value : values) {
+            Future<Void> future = Future.future();
+            put(value, future);
+            futures.add(future);
+        }
+
+        CompositeFuture.all(futures).setHandler(done -> {
+            if (done.succeeded()) {
+                handler.handle(result());
+            } else {
+                handler.handle(error(done.cause()));
+            }
+        });
+    }
+
     /**
      * set the entry if it does not already exists. fails with
      * #{@link com.codingchili.core.storage.exception.ValueAlreadyPresentException}
@@ -74,6 +142,39 @@ public interface AsyncStorage<Value extends Storable> {
      */
     void remove(String key, Handler<AsyncResult<Void>> handler);
 
+    /**
+     * Removes the entries of all the given keys, keys that do not match a value are
+     * ignored. Storages that support bulk operations remove all the entries in a single
+     * operation.
+     *
+     * @param keys    identifies the entries to be removed.
+     * @param handler callback
+     */
+    @SuppressWarnings("rawtypes")
+    default void removeAll(Collection<String> keys, Handler<AsyncResult<Void>> handler) {
+        List<Future> futures = new ArrayList<>(keys.size());
+
+        for (String key : keys) {
+            Future<Void> future = Future.future();
+            remove(key, remove -> {
+                if (remove.failed() && remove.cause() instanceof NothingToRemoveException) {
+                    future.complete();
+                } else {
+                    future.handle(remove);
+                }
+            });
+            futures.add(future);
+        }
+
+        CompositeFuture.all(futures).setHandler(done -> {
+            if (done.succeeded()) {
+                handler.handle(result());
+            } else {
+                handler.handle(error(done.cause()));
+            }
+        });
+    }
+
     /**
      * updates the value of the given key if a value already exists.
      *
@@ -84,12 +185,25 @@ public interface AsyncStorage<Value extends Storable> {
 
     /**
      * Get all values contained within the storage as a stream.
-     * Not recommended to use on large maps.
+     * Not recommended to use on large maps, see #{@link #stream()}.
      *
      * @param handler callback
      */
     void values(Handler<AsyncResult<Stream<Value>>> handler);
 
+    /**
+     * Streams all values contained within the storage. Values are read in batches
+     * when the stream has demand, storages that support cursors read the values
+     * in constant memory. Pause the stream to apply backpressure.
+     * <p>
+     * The values are emitted on the context that called this method.
+     *
+     * @return a stream of all values in the storage.
+     */
+    default ReadStream<Value> stream() {
+        return new BatchReadStream<>(context().vertx(), BatchReadStream.of(this::values));
+    }
+
     /**
      * removes all existing entries from the storage.
      *
@@ -117,6 +231,17 @@ public interface AsyncStorage<Value extends Storable> {
      */
     void addIndex(String field);
 
+    /**
+     * @param field the path to the attribute to index, must include the array token in
+     *              #{@link com.codingchili.core.configuration.CoreStrings#STORAGE_ARRAY}.
+     * @param type  the type of the values of the field, storages that support typed
+     *              indexes store numeric fields as numbers. If the field type is not
+     *              declared it is inferred from the field when supported.
+     */
+    default void addIndex(String field, Class<?> type) {
+        addIndex(field);
+    }
+
     /**
      * initialize the construction of a query.
      *
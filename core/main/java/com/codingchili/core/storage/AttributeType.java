@@ -0,0 +1,96 @@
+package com.codingchili.core.storage;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The types that attributes of indexed collections are stored as.
+ * <p>
+ * Numeric fields are stored as numbers so that range queries and ordering
+ * compare them by value, all other fields are stored as text.
+ */
+enum AttributeType {
+    LONG(Long.class, Long.class, Integer.class, Short.class, Byte.class,
+            long.class, int.class, short.class, byte.class) {
+        @Override
+        Comparable convert(Object value) {
+            if (value instanceof Double || value instanceof Float) {
+                // truncating would make 1.5 match 1, non-integral values match nothing.
+                double number = ((Number) value).doubleValue();
+                if (number % 1 != 0 || number < Long.MIN_VALUE || number > Long.MAX_VALUE) {
+                    return null;
+                }
+                return (long) number;
+            } else if (value instanceof BigDecimal) {
+                try {
+                    return ((BigDecimal) value).longValueExact();
+                } catch (ArithmeticException e) {
+                    return null;
+                }
+            } else if (value instanceof Number) {
+                return ((Number) value).longValue();
+            } else {
+                try {
+                    return Long.parseLong(String.valueOf(value));
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+        }
+    },
+    DOUBLE(Double.class, Double.class, Float.class, double.class, float.class) {
+        @Override
+        Comparable convert(Object value) {
+            if (value instanceof Number) {
+                return ((Number) value).doubleValue();
+            } else {
+                try {
+                    return Double.parseDouble(String.valueOf(value));
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+        }
+    },
+    TEXT(String.class) {
+        @Override
+        Comparable convert(Object value) {
+            return value + "";
+        }
+    };
+
+    private final Class<? extends Comparable> type;
+    private final List<Class<?>> types;
+
+    AttributeType(Class<? extends Comparable> type, Class<?>... types) {
+        this.type = type;
+        this.types = Arrays.asList(types);
+    }
+
+    /**
+     * @return the class of the values stored for attributes of this type.
+     */
+    Class<? extends Comparable> type() {
+        return type;
+    }
+
+    /**
+     * @param value the value of a field or a query parameter.
+     * @return the value converted to the attribute type or null if not convertible.
+     */
+    abstract Comparable convert(Object value);
+
+    /**
+     * @param type the declared type of a field.
+     * @return the attribute type used to store values of the given type.
+     */
+    static AttributeType of(Class<?> type) {
+        for (AttributeType attribute : values()) {
+            if (attribute.types.contains(type)) {
+                return attribute;
+            }
+        }
+        return TEXT;
+    }
+}
@@ -0,0 +1,219 @@
+package com.codingchili.core.storage;
+
+import io.vertx.core.*;
+import io.vertx.core.streams.ReadStream;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * A read stream of values that are read from a source in batches.
+ * <p>
+ * A batch is only read when all values of the previous batch have been emitted
+ * and the stream has demand for more values, so at most one batch is held in
+ * memory regardless of the size of the source. Values are emitted on the context
+ * that created the stream. Setting the handler to null cancels the stream and
+ * closes the source, a cancelled stream does not call its end handler.
+ *
+ * @param <T> the type of the values in the stream.
+ */
+class BatchReadStream<T> implements ReadStream<T> {
+    /**
+     * The number of values that sources are recommended to read in a single batch.
+     */
+    static final int BATCH_SIZE = 256;
+    private final Deque<T> buffer = new ArrayDeque<>();
+    private final BatchSource<T> source;
+    private final Context context;
+    private Handler<T> handler;
+    private Handler<Throwable> exceptionHandler;
+    private Handler<Void> endHandler;
+    private long demand = Long.MAX_VALUE;
+    private boolean reading = false;
+    private boolean exhausted = false;
+    private boolean ended = false;
+
+    /**
+     * Reads the batches of a stream.
+     *
+     * @param <T> the type of the values read.
+     */
+    interface BatchSource<T> {
+        /**
+         * Reads the next batch of values, called when the previous batch is completed.
+         *
+         * @param handler completed with the next batch, an empty batch ends the stream.
+         */
+        void next(Handler<AsyncResult<List<T>>> handler);
+
+        /**
+         * Called once when the stream has ended, failed or was cancelled, releases any
+         * resources held by the source. Never called while a batch is being read.
+         */
+        default void close() {
+        }
+    }
+
+    /**
+     * @param vertx  the vertx instance to emit values on.
+     * @param source the source to read batches of values from.
+     */
+    BatchReadStream(Vertx vertx, BatchSource<T> source) {
+        this.context = vertx.getOrCreateContext();
+        this.source = source;
+    }
+
+    /**
+     * Creates a source that reads batches from a stream of values, used by storages
+     * that hold all values in memory.
+     *
+     * @param values provides the stream of values on the first read.
+     * @param <T>    the type of the values read.
+     * @return a source of batches read from the provided stream.
+     */
+    static <T> BatchSource<T> of(Handler<Handler<AsyncResult<Stream<T>>>> values) {
+        return new BatchSource<>() {
+            private Iterator<T> iterator;
+
+            @Override
+            public void next(Handler<AsyncResult<List<T>>> handler) {
+                if (iterator == null) {
+                    values.handle(stream -> {
+                        if (stream.succeeded()) {
+                            iterator = stream.result().iterator();
+                            handler.handle(Future.succeededFuture(batch(iterator)));
+                        } else {
+                            handler.handle(Future.failedFuture(stream.cause()));
+                        }
+                    });
+                } else {
+                    handler.handle(Future.succeededFuture(batch(iterator)));
+                }
+            }
+        };
+    }
+
+    /**
+     * @param iterator the iterator to read values from.
+     * @param <T>      the type of the values read.
+     * @return the next batch of values of the given iterator, empty if the iterator has no more values.
+     */
+    static <T> List<T> batch(Iterator<T> iterator) {
+        List<T> batch = new ArrayList<>(BATCH_SIZE);
+        while (batch.size() < BATCH_SIZE && iterator.hasNext()) {
+            batch.add(iterator.next());
+        }
+        return batch;
+    }
+
+    @Override
+    public ReadStream<T> exceptionHandler(Handler<Throwable> handler) {
+        this.exceptionHandler = handler;
+        return this;
+    }
+
+    @Override
+    public ReadStream<T> handler(Handler<T> handler) {
+        this.handler = handler;
+        if (handler == null) {
+            context.runOnContext(v -> cancel());
+        } else {
+            context.runOnContext(v -> drain());
+        }
+        return this;
+    }
+
+    @Override
+    public ReadStream<T> pause() {
+        demand = 0;
+        return this;
+    }
+
+    @Override
+    public ReadStream<T> resume() {
+        return fetch(Long.MAX_VALUE);
+    }
+
+    @Override
+    public ReadStream<T> fetch(long amount) {
+        demand += amount;
+        if (demand < 0) {
+            demand = Long.MAX_VALUE;
+        }
+        context.runOnContext(v -> drain());
+        return this;
+    }
+
+    @Override
+    public ReadStream<T> endHandler(Handler<Void> handler) {
+        this.endHandler = handler;
+        return this;
+    }
+
+    private void drain() {
+        while (demand > 0 && handler != null && !buffer.isEmpty()) {
+            if (demand != Long.MAX_VALUE) {
+                demand--;
+            }
+            handler.handle(buffer.poll());
+        }
+        if (buffer.isEmpty() && handler != null) {
+            if (exhausted) {
+                end();
+            } else if (demand > 0 && !reading) {
+                read();
+            }
+        }
+    }
+
+    private void read() {
+        reading = true;
+        source.next(batch -> context.runOnContext(v -> {
+            reading = false;
+
+            if (ended) {
+                // cancelled while the batch was read.
+                source.close();
+            } else if (batch.succeeded()) {
+                if (batch.result().isEmpty()) {
+                    exhausted = true;
+                } else {
+                    buffer.addAll(batch.result());
+                }
+                drain();
+            } else {
+                exhausted = true;
+                ended = true;
+                source.close();
+
+                if (exceptionHandler != null) {
+                    exceptionHandler.handle(batch.cause());
+                }
+            }
+        }));
+    }
+
+    private void cancel() {
+        if (handler == null && !ended) {
+            ended = true;
+            exhausted = true;
+            buffer.clear();
+
+            // the source is closed when a batch that is being read completes.
+            if (!reading) {
+                source.close();
+            }
+        }
+    }
+
+    private void end() {
+        if (!ended) {
+            ended = true;
+            source.close();
+
+            if (endHandler != null) {
+                endHandler.handle(null);
+            }
+        }
+    }
+}
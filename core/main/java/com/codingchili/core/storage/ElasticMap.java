@@ -2,24 +2,30 @@ package com.codingchili.core.storage;
 
 import io.vertx.core.*;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
 import org.apache.http.HttpHost;
 import org.elasticsearch.ElasticsearchStatusException;
 import org.elasticsearch.action.*;
 import org.elasticsearch.action.admin.indices.delete.DeleteIndexRequest;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkResponse;
 import org.elasticsearch.action.delete.DeleteRequest;
 import org.elasticsearch.action.delete.DeleteResponse;
 import org.elasticsearch.action.get.GetRequest;
 import org.elasticsearch.action.get.GetResponse;
+import org.elasticsearch.action.get.MultiGetItemResponse;
+import org.elasticsearch.action.get.MultiGetRequest;
+import org.elasticsearch.action.get.MultiGetResponse;
 import org.elasticsearch.action.index.IndexRequest;
 import org.elasticsearch.action.index.IndexResponse;
-import org.elasticsearch.action.search.SearchRequest;
-import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.action.search.*;
 import org.elasticsearch.action.support.master.AcknowledgedResponse;
 import org.elasticsearch.action.update.UpdateRequest;
 import org.elasticsearch.action.update.UpdateResponse;
 import org.elasticsearch.client.*;
 import org.elasticsearch.client.indices.*;
 import org.elasticsearch.common.bytes.BytesReference;
+import org.elasticsearch.common.unit.TimeValue;
 import org.elasticsearch.common.xcontent.XContentType;
 import org.elasticsearch.index.IndexNotFoundException;
 import org.elasticsearch.index.query.*;
@@ -49,6 +55,7 @@ public class ElasticMap<Value extends Storable> implements AsyncStorage<Value> {
     private static final String ID_MAPPINGS = "mappings";
     private static final String ID_SETTINGS = "settings";
     private static final int MAX_RESULTS = 10000;
+    private static final TimeValue SCROLL_KEEP_ALIVE = TimeValue.timeValueMinutes(1);
     public static final String ARRAY_NOTATION = "";
     private StorageContext<Value> context;
     private RestHighLevelClient client;
@@ -192,6 +199,69 @@ public class ElasticMap<Value extends Storable> implements AsyncStorage<Value> {
         });
     }
 
+    @Override
+    public void getAll(Collection<String> keys, Handler<AsyncResult<Collection<Value>>> handler) {
+        if (keys.isEmpty()) {
+            handler.handle(result(new ArrayList<>()));
+        } else {
+            MultiGetRequest request = new MultiGetRequest();
+            keys.forEach(key -> request.add(index, key));
+
+            client.mgetAsync(request, RequestOptions.DEFAULT, new ActionListener<>() {
+                @Override
+                public void onResponse(MultiGetResponse response) {
+                    List<Value> values = new ArrayList<>(keys.size());
+                    for (MultiGetItemResponse item : response.getResponses()) {
+                        if (!item.isFailed() && item.getResponse().isExists()) {
+                            values.add(context.toValue(item.getResponse().getSourceAsString()));
+                        }
+                    }
+                    handler.handle(result(values));
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    handler.handle(error(e));
+                }
+            });
+        }
+    }
+
+    @Override
+    public void putAll(Collection<Value> values, Handler<AsyncResult<Void>> handler) {
+        BulkRequest request = new BulkRequest();
+
+        for (Value value : values) {
+            request.add(new IndexRequest()
+                    .index(index)
+                    .source(Serializer.buffer(value).getBytes(), XContentType.JSON)
+                    .id(value.getId()));
+        }
+        bulk(request, handler);
+    }
+
+    private void bulk(BulkRequest request, Handler<AsyncResult<Void>> handler) {
+        if (request.numberOfActions() == 0) {
+            handler.handle(result());
+        } else {
+            client.bulkAsync(request, RequestOptions.DEFAULT, new ActionListener<>() {
+                @Override
+                public void onResponse(BulkResponse response) {
+                    if (response.hasFailures()) {
+                        handler.handle(error(new StorageFailureException(response.buildFailureMessage())));
+                    } else {
+                        handler.handle(result());
+                    }
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    handler.handle(error(e));
+                }
+            });
+        }
+    }
+
     @Override
     public void putIfAbsent(Value value, Handler<AsyncResult<Void>> handler) {
         IndexRequest request = new IndexRequest()
@@ -245,6 +315,13 @@ public class ElasticMap<Value extends Storable> implements AsyncStorage<Value> {
         });
     }
 
+    @Override
+    public void removeAll(Collection<String> keys, Handler<AsyncResult<Void>> handler) {
+        BulkRequest request = new BulkRequest();
+        keys.forEach(key -> request.add(new DeleteRequest().index(index).id(key)));
+        bulk(request, handler);
+    }
+
     @Override
     public void update(Value value, Handler<AsyncResult<Void>> handler) {
         UpdateRequest request = new UpdateRequest()
@@ -306,6 +383,69 @@ public class ElasticMap<Value extends Storable> implements AsyncStorage<Value> {
         });
     }
 
+    @Override
+    public ReadStream<Value> stream() {
+        return new BatchReadStream<>(context.vertx(), new BatchReadStream.BatchSource<>() {
+            private String scrollId;
+
+            @Override
+            public void next(Handler<AsyncResult<List<Value>>> handler) {
+                ActionListener<SearchResponse> listener = new ActionListener<>() {
+                    @Override
+                    public void onResponse(SearchResponse search) {
+                        List<Value> batch = new ArrayList<>();
+                        scrollId = search.getScrollId();
+
+                        for (SearchHit hit : search.getHits()) {
+                            batch.add(context.toValue(hit.getSourceAsString()));
+                        }
+                        handler.handle(result(batch));
+                    }
+
+                    @Override
+                    public void onFailure(Exception e) {
+                        handler.handle(error(e));
+                    }
+                };
+
+                if (scrollId == null) {
+                    SearchRequest request = new SearchRequest()
+                            .indices(index)
+                            .scroll(SCROLL_KEEP_ALIVE)
+                            .source(new SearchSourceBuilder()
+                                    .query(QueryBuilders.matchAllQuery())
+                                    .size(BatchReadStream.BATCH_SIZE)
+                                    .fetchSource(true));
+
+                    client.searchAsync(request, RequestOptions.DEFAULT, listener);
+                } else {
+                    client.scrollAsync(new SearchScrollRequest(scrollId).scroll(SCROLL_KEEP_ALIVE),
+                            RequestOptions.DEFAULT, listener);
+                }
+            }
+
+            @Override
+            public void close() {
+                if (scrollId != null) {
+                    ClearScrollRequest request = new ClearScrollRequest();
+                    request.addScrollId(scrollId);
+
+                    client.clearScrollAsync(request, RequestOptions.DEFAULT, new ActionListener<>() {
+                        @Override
+                        public void onResponse(ClearScrollResponse response) {
+                            // the scroll context is released.
+                        }
+
+                        @Override
+                        public void onFailure(Exception e) {
+                            // the scroll context expires after the keep alive.
+                        }
+                    });
+                }
+            }
+        });
+    }
+
     @Override
     public void clear(Handler<AsyncResult<Void>> handler) {
 
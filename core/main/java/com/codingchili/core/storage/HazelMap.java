@@ -1,6 +1,7 @@
 package com.codingchili.core.storage;
 
 import com.hazelcast.core.*;
+import com.hazelcast.map.listener.*;
 import com.hazelcast.query.*;
 import io.vertx.core.*;
 import io.vertx.core.impl.ConcurrentHashSet;
@@ -13,6 +14,7 @@ import java.util.stream.Stream;
 import com.codingchili.core.configuration.CoreStrings;
 import com.codingchili.core.context.FutureHelper;
 import com.codingchili.core.context.StorageContext;
+import com.codingchili.core.protocol.Serializer;
 import com.codingchili.core.storage.exception.*;
 
 import static com.codingchili.core.configuration.CoreStrings.STORAGE_ARRAY;
@@ -20,10 +22,26 @@ import static com.codingchili.core.context.FutureHelper.*;
 
 /**
  * Initializes a new hazel async map.
+ * <p>
+ * Reads may be served from a local near-cache by setting the #{@link #NEAR_CACHE}
+ * property to the max number of values to cache. Cached values are invalidated
+ * when they are modified on any node in the cluster and expire after the time
+ * set in the #{@link #NEAR_CACHE_TTL} property. Values are copied when read
+ * from the near-cache unless they implement #{@link Immutable}.
  */
 public class HazelMap<Value extends Storable> implements AsyncStorage<Value> {
+    /**
+     * Storage property that sets the max number of values in the near-cache, zero disables it.
+     */
+    public static final String NEAR_CACHE = "nearCache";
+    /**
+     * Storage property that sets the time in milliseconds values are kept in the near-cache.
+     */
+    public static final String NEAR_CACHE_TTL = "nearCacheTtl";
+    private static final long DEFAULT_NEAR_CACHE_TTL = 30000;
     private static final String HAZEL_ARRAY = "[any]";
     private Set<String> indexed = new ConcurrentHashSet<>();
+    private NearCache<Value> cache;
     private StorageContext<Value> context;
     private AsyncMap<String, Value> map;
     private IMap<String, Value> imap;
@@ -47,6 +65,7 @@ public class HazelMap<Value extends Storable> implements AsyncStorage<Value> {
                     HazelcastInstance instance = hazel.get();
                     imap = instance.getMap(context.collection());
                     addIndex(Storable.idField);
+                    addNearCache();
                     future.complete(this);
                 } else {
                     future.fail(CoreStrings.ERROR_NOT_CLUSTERED);
@@ -57,11 +76,121 @@ public class HazelMap<Value extends Storable> implements AsyncStorage<Value> {
         });
     }
 
+    private void addNearCache() {
+        int capacity = context.properties().getInteger(NEAR_CACHE, 0);
+
+        if (capacity > 0) {
+            long ttl = context.properties().getLong(NEAR_CACHE_TTL, DEFAULT_NEAR_CACHE_TTL);
+            cache = new NearCache<>(context.collection(), capacity, ttl);
+            imap.addEntryListener(new Invalidator(), false);
+        }
+    }
+
+    /**
+     * Invalidates entries in the near-cache when they are modified on any node.
+     */
+    private class Invalidator implements EntryUpdatedListener<String, Value>, EntryRemovedListener<String, Value>,
+            EntryEvictedListener<String, Value>, EntryExpiredListener<String, Value>,
+            EntryMergedListener<String, Value>, MapClearedListener, MapEvictedListener {
+
+        @Override
+        public void entryUpdated(EntryEvent<String, Value> event) {
+            cache.invalidate(event.getKey());
+        }
+
+        @Override
+        public void entryRemoved(EntryEvent<String, Value> event) {
+            cache.invalidate(event.getKey());
+        }
+
+        @Override
+        public void entryEvicted(EntryEvent<String, Value> event) {
+            cache.invalidate(event.getKey());
+        }
+
+        @Override
+        public void entryExpired(EntryEvent<String, Value> event) {
+            cache.invalidate(event.getKey());
+        }
+
+        @Override
+        public void entryMerged(EntryEvent<String, Value> event) {
+            cache.invalidate(event.getKey());
+        }
+
+        @Override
+        public void mapCleared(MapEvent event) {
+            cache.clear();
+        }
+
+        @Override
+        public void mapEvicted(MapEvent event) {
+            cache.clear();
+        }
+    }
+
+    private Value cached(String key) {
+        if (cache == null) {
+            return null;
+        } else {
+            return cache.get(key);
+        }
+    }
+
+    private void invalidate(String key) {
+        if (cache != null) {
+            cache.invalidate(key);
+        }
+    }
+
+    private static <Value> Value copy(Value value) {
+        if (value instanceof Immutable) {
+            return value;
+        } else {
+            return Serializer.kryo((kryo) -> {
+                Serializer.skipTransient(kryo, value.getClass());
+                return kryo.copy(value);
+            });
+        }
+    }
+
     @Override
     public void get(String key, Handler<AsyncResult<Value>> handler) {
+        Value cached = cached(key);
+
+        if (cached != null) {
+            handler.handle(result(copy(cached)));
+        } else {
+            load(key, handler);
+        }
+    }
+
+    @Override
+    public void contains(String key, Handler<AsyncResult<Boolean>> handler) {
+        if (cached(key) != null) {
+            handler.handle(result(true));
+        } else {
+            load(key, load -> {
+                if (load.succeeded()) {
+                    handler.handle(result(true));
+                } else if (load.cause() instanceof ValueMissingException) {
+                    handler.handle(result(false));
+                } else {
+                    handler.handle(error(load.cause()));
+                }
+            });
+        }
+    }
+
+    private void load(String key, Handler<AsyncResult<Value>> handler) {
+        long version = (cache == null) ? 0 : cache.version();
+
         map.get(key, get -> {
             if (get.succeeded()) {
                 if (get.result() != null) {
+                    if (cache != null) {
+                        cache.put(key, copy(get.result()), version);
+                    }
                     handler.handle(result(get.result()));
                 } else {
                     handler.handle(error(new ValueMissingException(key)));
@@ -74,12 +203,69 @@ public class HazelMap<Value extends Storable> implements AsyncStorage<Value> {
 
     @Override
     public void put(Value value, Handler<AsyncResult<Void>> handler) {
-        map.put(value.getId(), value, handler);
+        invalidate(value.getId());
+        map.put(value.getId(), value, put -> {
+            invalidate(value.getId());
+            handler.handle(put);
+        });
+    }
+
+    @Override
+    public void getAll(Collection<String> keys, Handler<AsyncResult<Collection<Value>>> handler) {
+        List<Value> values = new ArrayList<>(keys.size());
+        Set<String> missing = new HashSet<>();
+
+        for (String key : keys) {
+            Value cached = cached(key);
+            if (cached != null) {
+                values.add(copy(cached));
+            } else {
+                missing.add(key);
+            }
+        }
+
+        if (missing.isEmpty()) {
+            handler.handle(result(values));
+        } else {
+            long version = (cache == null) ? 0 : cache.version();
+
+            context.<Map<String, Value>>blocking(blocking -> {
+                blocking.complete(imap.getAll(missing));
+            }, get -> {
+                if (get.succeeded()) {
+                    get.result().forEach((key, value) -> {
+                        if (cache != null) {
+                            cache.put(key, copy(value), version);
+                        }
+                        values.add(value);
+                    });
+                    handler.handle(result(values));
+                } else {
+                    handler.handle(error(get.cause()));
+                }
+            });
+        }
+    }
+
+    @Override
+    public void putAll(Collection<Value> values, Handler<AsyncResult<Void>> handler) {
+        Map<String, Value> entries = new HashMap<>();
+        values.forEach(value -> entries.put(value.getId(), value));
+        entries.keySet().forEach(this::invalidate);
+
+        context.<Void>blocking(blocking -> {
+            imap.putAll(entries);
+            blocking.complete();
+        }, put -> {
+            entries.keySet().forEach(this::invalidate);
+            handler.handle(put);
+        });
     }
 
     @Override
     public void putIfAbsent(Value value, Handler<AsyncResult<Void>> handler) {
         map.putIfAbsent(value.getId(), value, put -> {
+            invalidate(value.getId());
             if (put.succeeded()) {
                 if (put.result() == null) {
                     handler.handle(FutureHelper.result());
@@ -94,7 +280,9 @@ public class HazelMap<Value extends Storable> implements AsyncStorage<Value> {
 
     @Override
     public void remove(String key, Handler<AsyncResult<Void>> handler) {
+        invalidate(key);
         map.remove(key, remove -> {
+            invalidate(key);
             if (remove.succeeded()) {
                 if (remove.result() == null) {
                     handler.handle(error(new NothingToRemoveException(key)));
@@ -107,9 +295,24 @@ public class HazelMap<Value extends Storable> implements AsyncStorage<Value> {
         });
     }
 
+    @Override
+    public void removeAll(Collection<String> keys, Handler<AsyncResult<Void>> handler) {
+        keys.forEach(this::invalidate);
+
+        context.<Void>blocking(blocking -> {
+            imap.removeAll(Predicates.in(QueryConstants.KEY_ATTRIBUTE_NAME.value(), keys.toArray(new String[0])));
+            blocking.complete();
+        }, remove -> {
+            keys.forEach(this::invalidate);
+            handler.handle(remove);
+        });
+    }
+
     @Override
     public void update(Value value, Handler<AsyncResult<Void>> handler) {
+        invalidate(value.getId());
         map.replace(value.getId(), value, replace -> {
+            invalidate(value.getId());
             if (replace.succeeded()) {
                 if (replace.result() == null) {
                     handler.handle(error(new NothingToUpdateException(value.getId())));
@@ -135,6 +338,9 @@ public class HazelMap<Value extends Storable> implements AsyncStorage<Value> {
     @Override
     public void clear(Handler<AsyncResult<Void>> handler) {
         map.clear(clear -> {
+            if (cache != null) {
+                cache.clear();
+            }
             if (clear.succeeded()) {
                 handler.handle(FutureHelper.result());
             } else {
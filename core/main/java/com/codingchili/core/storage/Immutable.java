@@ -0,0 +1,11 @@
+package com.codingchili.core.storage;
+
+/**
+ * Marker for storables that are not modified after they have been created.
+ * <p>
+ * Storages that copy values to isolate callers from the stored instances,
+ * such as #{@link IndexedMapVolatile}, may be configured to share instances of
+ * immutable values without copying them.
+ */
+public interface Immutable extends Storable {
+}
@@ -7,13 +7,14 @@ import com.googlecode.cqengine.query.option.QueryOptions;
 import com.googlecode.cqengine.resultset.ResultSet;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
+import io.vertx.core.streams.ReadStream;
 
 import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
 import com.codingchili.core.context.StorageContext;
-import com.codingchili.core.protocol.Serializer;
+import com.codingchili.core.protocol.PathAccessor;
 import com.codingchili.core.storage.exception.*;
 
 import static com.codingchili.core.configuration.CoreStrings.STORAGE_ARRAY;
@@ -62,29 +63,103 @@ public abstract class IndexedMap<Value extends Storable> implements AsyncStorage
         return db;
     }
 
-    public Attribute<Value, String> getAttribute(String fieldName, boolean multiValue) {
-        if (holder.attributes.containsKey(fieldName)) {
-            return holder.attributes.get(fieldName);
+    /**
+     * @param fieldName  the path of the field to get an attribute for.
+     * @param multiValue true if the field contains a collection of values.
+     * @return an attribute that stores the field as a Long, Double or String depending
+     * on the type declared in #{@link #addIndex(String, Class)} or the type of the field.
+     */
+    public Attribute<Value, ? extends Comparable> getAttribute(String fieldName, boolean multiValue) {
+        Attribute<Value, ? extends Comparable> attribute = holder.attributes.get(fieldName);
+
+        if (attribute == null) {
+            attribute = createAttribute(fieldName, multiValue, attributeType(fieldName));
+            holder.attributes.put(fieldName, attribute);
+        }
+        return attribute;
+    }
+
+    /**
+     * @param fieldName  the path of the field to get an attribute for.
+     * @param multiValue true if the field contains a collection of values.
+     * @return an attribute that stores the field as text, used for text matching on
+     * fields of any type.
+     */
+    @SuppressWarnings("unchecked")
+    public Attribute<Value, String> getTextAttribute(String fieldName, boolean multiValue) {
+        Attribute<Value, ? extends Comparable> attribute = getAttribute(fieldName, multiValue);
+
+        if (attribute.getAttributeType().equals(String.class)) {
+            return (Attribute<Value, String>) attribute;
         } else {
-            Attribute<Value, String> attribute;
-
-            if (multiValue) {
-                attribute = new MultiValueAttribute<>(context.valueClass(), String.class, fieldName) {
-                    @Override
-                    public Iterable<String> getValues(Value indexing, QueryOptions queryOptions) {
-                        return Serializer.getValueByPath(indexing, fieldName).stream()
-                                .map(item -> (item + ""))::iterator;
-                    }
-                };
-            } else {
-                attribute = attribute(context.valueClass(), String.class, fieldName,
-                        (SimpleFunction<Value, String>) (indexing) ->
-                                Serializer.getValueByPath(indexing, fieldName).iterator().next() + ""
-                );
+            return holder.text.computeIfAbsent(fieldName, (key) ->
+                    createAttribute(fieldName, multiValue, AttributeType.TEXT));
+        }
+    }
+
+    private AttributeType attributeType(String fieldName) {
+        Class<?> type = holder.types.get(fieldName.replace(STORAGE_ARRAY, ""));
+
+        if (type == null) {
+            type = PathAccessor.of(fieldName).typeOf(context.valueClass());
+        }
+        return AttributeType.of(type);
+    }
+
+    /**
+     * @param fieldName the path of the field the attribute is created for.
+     * @param type      the type the values of the field are stored as.
+     * @return the name of the attribute, indexes are identified by this name.
+     */
+    protected String attributeName(String fieldName, AttributeType type) {
+        return fieldName;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <A extends Comparable<A>> Attribute<Value, A> createAttribute(String fieldName, boolean multiValue,
+                                                                            AttributeType type) {
+        Class<A> attributeType = (Class<A>) type.type();
+        PathAccessor accessor = PathAccessor.of(fieldName);
+        String attributeName = attributeName(fieldName, type);
+
+        if (multiValue) {
+            return new MultiValueAttribute<>(context.valueClass(), attributeType, attributeName) {
+                @Override
+                public Iterable<A> getValues(Value indexing, QueryOptions queryOptions) {
+                    return accessor.apply(indexing).stream()
+                            .map(item -> (A) type.convert(item))
+                            .filter(Objects::nonNull)::iterator;
+                }
+            };
+        } else if (type.equals(AttributeType.TEXT)) {
+            return attribute(context.valueClass(), attributeType, attributeName,
+                    (SimpleFunction<Value, A>) (indexing) ->
+                            (A) type.convert(accessor.apply(indexing).iterator().next())
+            );
+        } else {
+            // numeric fields may be null, these are not indexed.
+            return new SimpleNullableAttribute<>(context.valueClass(), attributeType, attributeName) {
+                @Override
+                public A getValue(Value indexing, QueryOptions queryOptions) {
+                    return (A) type.convert(accessor.apply(indexing).iterator().next());
+                }
+            };
+        }
+    }
+
+    @Override
+    public void addIndex(String fieldName, Class<?> type) {
+        String field = fieldName.replace(STORAGE_ARRAY, "");
+
+        synchronized (maps) {
+            if (!holder.indexed.contains(field)) {
+                // attributes created before the type was declared are replaced.
+                holder.types.put(field, type);
+                holder.attributes.remove(field);
+                holder.text.remove(field);
             }
-            holder.attributes.put(fieldName, attribute);
-            return attribute;
         }
+        addIndex(fieldName);
     }
 
     @Override
@@ -95,9 +170,7 @@ public abstract class IndexedMap<Value extends Storable> implements AsyncStorage
                     boolean multiValued = fieldName.contains(STORAGE_ARRAY);
                     fieldName = fieldName.replace(STORAGE_ARRAY, "");
                     try {
-                        Attribute<Value, String> attribute = getAttribute(fieldName, multiValued);
-                        holder.attributes.put(fieldName, attribute);
-                        addIndexesForAttribute(attribute);
+                        addIndexesForAttribute(getAttribute(fieldName, multiValued));
                     } catch (Throwable e) {
                         context.logger(getClass()).onError(e);
                     } finally {
@@ -112,10 +185,10 @@ public abstract class IndexedMap<Value extends Storable> implements AsyncStorage
     /**
      * @param attribute the attribute to add an index for based on implementation.
      */
-    protected abstract void addIndexesForAttribute(Attribute<Value, String> attribute);
+    protected abstract void addIndexesForAttribute(Attribute<Value, ? extends Comparable> attribute);
 
     /**
-     * @param mapper a mapper that is executed on all values returned from the map.
+     * @param mapper a mapper that is executed on all values stored in and returned from the map.
      */
     public void setMapper(Function<Value, Value> mapper) {
         this.mapper = mapper;
@@ -155,6 +228,33 @@ public abstract class IndexedMap<Value extends Storable> implements AsyncStorage
         }, handler);
     }
 
+    @Override
+    public void getAll(Collection<String> keys, Handler<AsyncResult<Collection<Value>>> handler) {
+        context.blocking(blocking -> {
+            try (ResultSet<Value> result = db.retrieve(in(FIELD_ID, keys))) {
+                List<Value> values = new ArrayList<>(keys.size());
+                result.forEach(value -> values.add(mapper.apply(value)));
+                blocking.complete(values);
+            }
+        }, handler);
+    }
+
+    @Override
+    public void putAll(Collection<Value> values, Handler<AsyncResult<Void>> handler) {
+        context.blocking(blocking -> {
+            // the last value of each key is stored, existing values are replaced in a single update.
+            Map<String, Value> updates = new LinkedHashMap<>();
+            values.forEach(value -> updates.put(value.getId(), mapper.apply(value)));
+
+            try (ResultSet<Value> result = db.retrieve(in(FIELD_ID, updates.keySet()))) {
+                List<Value> existing = new ArrayList<>();
+                result.forEach(existing::add);
+                db.update(existing, updates.values());
+                blocking.complete();
+            }
+        }, handler);
+    }
+
     @Override
     public void putIfAbsent(Value value, Handler<AsyncResult<Void>> handler) {
         context.blocking(blocking -> {
@@ -187,6 +287,18 @@ public abstract class IndexedMap<Value extends Storable> implements AsyncStorage
         }, handler);
     }
 
+    @Override
+    public void removeAll(Collection<String> keys, Handler<AsyncResult<Void>> handler) {
+        context.blocking(blocking -> {
+            try (ResultSet<Value> result = db.retrieve(in(FIELD_ID, keys))) {
+                List<Value> existing = new ArrayList<>();
+                result.forEach(existing::add);
+                db.update(existing, Collections.emptyList());
+                blocking.complete();
+            }
+        }, handler);
+    }
+
     @Override
     public void update(Value value, Handler<AsyncResult<Void>> handler) {
         context.blocking(blocking -> {
@@ -211,6 +323,35 @@ public abstract class IndexedMap<Value extends Storable> implements AsyncStorage
         handler.handle(succeededFuture(db.stream()));
     }
 
+    @Override
+    public ReadStream<Value> stream() {
+        return new BatchReadStream<>(context.vertx(), new BatchReadStream.BatchSource<>() {
+            private ResultSet<Value> result;
+            private Iterator<Value> iterator;
+
+            @Override
+            public void next(Handler<AsyncResult<List<Value>>> handler) {
+                // iterating the results may read from disk: read the batches on a worker.
+                context.blocking(blocking -> {
+                    if (result == null) {
+                        result = db.retrieve(all(context.valueClass()));
+                        iterator = result.iterator();
+                    }
+                    List<Value> batch = BatchReadStream.batch(iterator);
+                    batch.replaceAll(mapper::apply);
+                    blocking.complete(batch);
+                }, handler);
+            }
+
+            @Override
+            public void close() {
+                if (result != null) {
+                    result.close();
+                }
+            }
+        });
+    }
+
     @Override
     public void clear(Handler<AsyncResult<Void>> handler) {
         context.blocking(blocking -> {
@@ -11,7 +11,9 @@ import java.util.*;
 public class IndexedMapHolder<Value> {
     public final Set<String> indexed = new HashSet<>(Collections.singleton(Storable.idField));
     public final IndexedCollection<Value> db;
-    public Map<String, Attribute<Value, String>> attributes = new HashMap<>();
+    public Map<String, Attribute<Value, ? extends Comparable>> attributes = new HashMap<>();
+    public Map<String, Attribute<Value, String>> text = new HashMap<>();
+    public Map<String, Class<?>> types = new HashMap<>();
 
     public IndexedMapHolder(IndexedCollection<Value> db) {
         this.db = db;
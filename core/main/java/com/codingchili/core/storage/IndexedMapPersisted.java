@@ -54,9 +54,24 @@ public class IndexedMapPersisted<Value extends Storable> extends IndexedMap<Valu
         return String.format("%s/%s.sqlite", ctx.database(), ctx.collection());
     }
 
+    /**
+     * Disk indexes are stored in a table named by the attribute. Indexes of numeric
+     * attributes are named by their type, so that text indexes created for the same field
+     * by earlier versions are not reused and the numeric index is built from the collection.
+     */
+    @Override
+    protected String attributeName(String fieldName, AttributeType type) {
+        if (type == AttributeType.TEXT) {
+            return fieldName;
+        } else {
+            return fieldName + "_" + type.name().toLowerCase();
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
-    public void addIndexesForAttribute(Attribute<Value, String> attribute) {
-        db.addIndex(DiskIndex.onAttribute(attribute));
+    public void addIndexesForAttribute(Attribute<Value, ? extends Comparable> attribute) {
+        db.addIndex(DiskIndex.onAttribute((Attribute) attribute));
     }
 
     /**
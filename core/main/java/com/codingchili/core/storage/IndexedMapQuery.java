@@ -21,7 +21,10 @@ import static com.googlecode.cqengine.query.QueryFactory.*;
  * @param <Value> the value that is being queried.
  */
 public class IndexedMapQuery<Value extends Storable> extends AbstractQueryBuilder<Value> {
-    private Attribute<Value, String> field;
+    private Attribute<Value, ? extends Comparable> field;
+    private AttributeType type;
+    private boolean multiValue;
+    private String fieldName;
     private List<Query<Value>> statements = new ArrayList<>();
     private IndexedMap<Value> storage;
     private Query<Value> builder;
@@ -53,7 +56,15 @@ public class IndexedMapQuery<Value extends Storable> extends AbstractQueryBuilde
 
     private void prepareField(String attribute) {
         setAttribute(attribute);
-        field = storage.getAttribute(attribute, isAttributeArray());
+        fieldName = attribute;
+        multiValue = isAttributeArray();
+        field = storage.getAttribute(fieldName, multiValue);
+        type = AttributeType.of(field.getAttributeType());
+    }
+
+    // text matching is performed on the text representation of fields of any type.
+    private Attribute<Value, String> text() {
+        return storage.getTextAttribute(fieldName, multiValue);
     }
 
     private void next() {
@@ -75,42 +86,60 @@ public class IndexedMapQuery<Value extends Storable> extends AbstractQueryBuilde
         statements.clear();
     }
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
     public QueryBuilder<Value> between(Long minimum, Long maximum) {
-        statements.add(QueryFactory.between(field, minimum + "", maximum + ""));
+        statements.add(QueryFactory.between((Attribute) field, type.convert(minimum), type.convert(maximum)));
         return this;
     }
 
     @Override
     public QueryBuilder<Value> like(String text) {
-        statements.add(QueryFactory.contains(field, text));
+        statements.add(QueryFactory.contains(text(), text));
         return this;
     }
 
     @Override
     public QueryBuilder<Value> startsWith(String text) {
-        statements.add(QueryFactory.startsWith(field, text));
+        statements.add(QueryFactory.startsWith(text(), text));
         return this;
     }
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
     public QueryBuilder<Value> in(Comparable... list) {
-        statements.add(QueryFactory.in(field,
-                Arrays.stream(list)
-                        .map(Object::toString)
-                        .collect(Collectors.toList())));
+        List<Comparable> values = Arrays.stream(list)
+                .map(type::convert)
+                .collect(Collectors.toList());
+
+        if (values.contains(null)) {
+            statements.add(QueryFactory.in(text(),
+                    Arrays.stream(list)
+                            .map(Object::toString)
+                            .collect(Collectors.toList())));
+        } else {
+            statements.add(QueryFactory.in((Attribute) field, values));
+        }
         return this;
     }
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
     public QueryBuilder<Value> equalTo(Comparable match) {
-        statements.add(QueryFactory.equal(field, (match + "")));
+        Comparable value = type.convert(match);
+
+        if (value == null) {
+            // the value cannot be converted to the type of the field.
+            statements.add(QueryFactory.equal(text(), (match + "")));
+        } else {
+            statements.add(QueryFactory.equal((Attribute) field, value));
+        }
         return this;
     }
 
     @Override
     public QueryBuilder<Value> matches(String regex) {
-        statements.add(QueryFactory.matchesRegex(field, regex));
+        statements.add(QueryFactory.matchesRegex(text(), regex));
         return this;
     }
 
@@ -16,8 +16,33 @@ import com.codingchili.core.protocol.Serializer;
  * A storage implementation that is local and indexed. Always use this when using queries.
  * The indexing is fully based on CQEngine. see http://github.com/npgall/cqengine
  * The db/collection is shared over multiple instances.
+ * <p>
+ * Values are copied when stored and when returned so that callers never share the
+ * stored instances, modifying a shared instance would change its indexed attributes
+ * without updating the indexes. The #{@link #READ_MODE} property set to
+ * #{@link ReadMode#IMMUTABLE} shares values that implement #{@link Immutable} without
+ * copying them, all other values are still copied.
  */
 public class IndexedMapVolatile<Value extends Storable> extends IndexedMap<Value> {
+    /**
+     * Storage property that selects the #{@link ReadMode} of the storage.
+     */
+    public static final String READ_MODE = "readMode";
+
+    /**
+     * Determines which values are copied when stored in and returned from the storage.
+     */
+    public enum ReadMode {
+        /**
+         * all values are copied, callers may modify returned values freely.
+         */
+        COPY,
+        /**
+         * values that implement #{@link Immutable} are stored and returned without
+         * copying them, all other values are copied.
+         */
+        IMMUTABLE
+    }
 
     @SuppressWarnings("unchecked")
     public IndexedMapVolatile(Future<AsyncStorage<Value>> future, StorageContext<Value> context) {
@@ -26,20 +51,38 @@ public class IndexedMapVolatile<Value extends Storable> extends IndexedMap<Value
             db.addIndex(UniqueIndex.onAttribute(idField));
             return db;
         }, context);
-        future.complete(this);
 
         // we perform this expensive operation to simplify clients - otherwise
         // clients would need to copy objects when using this storage and not
-        // others for updates. Should probably be removed later and documented instead.
-        setMapper((value) -> Serializer.kryo((kryo) -> {
-            Serializer.skipTransient(kryo, value.getClass());
-            return kryo.copy(value);
-        }));
+        // others for updates. Immutable values may be shared when opted in.
+        boolean shared = readMode(context).equals(ReadMode.IMMUTABLE);
+
+        setMapper((value) -> {
+            if (shared && value instanceof Immutable) {
+                return value;
+            } else {
+                return Serializer.kryo((kryo) -> {
+                    Serializer.skipTransient(kryo, value.getClass());
+                    return kryo.copy(value);
+                });
+            }
+        });
+        future.complete(this);
+    }
+
+    private static ReadMode readMode(StorageContext<?> context) {
+        String mode = context.properties().getString(READ_MODE, ReadMode.COPY.name());
+        return ReadMode.valueOf(mode.toUpperCase());
     }
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
-    public void addIndexesForAttribute(Attribute<Value, String> attribute) {
-        db.addIndex(NavigableIndex.onAttribute(attribute));
-        db.addIndex(RadixTreeIndex.onAttribute(attribute));
+    public void addIndexesForAttribute(Attribute<Value, ? extends Comparable> attribute) {
+        db.addIndex(NavigableIndex.onAttribute((Attribute) attribute));
+
+        // radix trees are only used for text matching: avoid the memory cost for numeric fields.
+        if (attribute.getAttributeType().equals(String.class)) {
+            db.addIndex(RadixTreeIndex.onAttribute((Attribute<Value, String>) attribute));
+        }
     }
 }
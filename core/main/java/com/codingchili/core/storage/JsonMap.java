@@ -6,13 +6,9 @@ import io.vertx.core.json.JsonObject;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
 import com.codingchili.core.context.*;
-import com.codingchili.core.files.ConfigurationFactory;
-import com.codingchili.core.files.exception.NoSuchResourceException;
-import com.codingchili.core.logging.Logger;
 import com.codingchili.core.storage.exception.*;
 
 import static com.codingchili.core.configuration.CoreStrings.*;
@@ -21,18 +17,16 @@ import static com.codingchili.core.context.FutureHelper.*;
 /**
  * Map backed by a json-file.
  * <p>
- * Do not use for data that is changing frequently, as this is extremely inefficient.
- * The dirty-state of the map will be checked to determine when the map should be
- * persisted. This is done in intervals specified in plugin configuration.
- * <p>
- * this map flushes its contents to disk every now and then.
+ * Changes are appended to a change log in intervals specified in the plugin configuration,
+ * only collections with changes are persisted. The log is compacted into the json-file
+ * when it grows larger than the collection, see #{@link JsonMapLog}.
  */
 public class JsonMap<Value extends Storable> implements AsyncStorage<Value> {
     private static final String JSONMAP_WORKERS = "asyncjsonmap.workers";
-    private static Map<String, JsonObject> maps = new ConcurrentHashMap<>();
-    private static AtomicBoolean dirty = new AtomicBoolean(false);
+    private static Map<String, JsonMapLog> maps = new ConcurrentHashMap<>();
     private WorkerExecutor fileWriter;
-    private JsonObject db = new JsonObject();
+    private JsonMapLog log;
+    private JsonObject db;
     private StorageContext<Value> context;
 
     /**
@@ -44,18 +38,8 @@ public class JsonMap<Value extends Storable> implements AsyncStorage<Value> {
      */
     public JsonMap(Future<AsyncStorage<Value>> future, StorageContext<Value> context) {
         this.context = context;
-        Logger logger = context.logger(getClass());
-
-        if (maps.containsKey(context.identifier())) {
-            this.db = maps.get(context.identifier());
-        } else {
-            try {
-                this.db = ConfigurationFactory.readObject(dbPath());
-            } catch (NoSuchResourceException e) {
-                logger.log(getFileReadError(dbPath()));
-            }
-            maps.put(context.identifier(), db);
-        }
+        this.log = maps.computeIfAbsent(context.identifier(), identifier -> new JsonMapLog(dbPath()));
+        this.db = log.db();
         this.fileWriter = context.vertx().createSharedWorkerExecutor(JSONMAP_WORKERS);
         this.enableSave();
         future.complete(this);
@@ -74,9 +58,8 @@ public class JsonMap<Value extends Storable> implements AsyncStorage<Value> {
                 .setName(context.identifier());
 
         context.periodic(timer, event -> {
-            if (dirty.get()) {
+            if (log.isDirty()) {
                 save();
-                dirty.set(false);
             }
         });
     }
@@ -122,7 +105,6 @@ public class JsonMap<Value extends Storable> implements AsyncStorage<Value> {
         if (current.isPresent()) {
             remove(key);
             handler.handle(FutureHelper.result());
-            dirty();
         } else {
             handler.handle(error(new NothingToRemoveException(key)));
         }
@@ -152,9 +134,8 @@ public class JsonMap<Value extends Storable> implements AsyncStorage<Value> {
 
     @Override
     public void clear(Handler<AsyncResult<Void>> handler) {
-        db.clear();
+        log.clear();
         handler.handle(FutureHelper.result());
-        dirty();
     }
 
     @Override
@@ -191,25 +172,25 @@ public class JsonMap<Value extends Storable> implements AsyncStorage<Value> {
     }
 
     private void put(Value value) {
-        db.put(value.getId(), context.toJson(value));
-        dirty();
+        log.put(value.getId(), context.toJson(value));
     }
 
     private void remove(String key) {
-        db.remove(key);
-        dirty();
+        log.remove(key);
     }
 
     private void save() {
         if (context.storage().isPersisted()) {
             fileWriter.executeBlocking(execute -> {
-                ConfigurationFactory.writeObject(db, dbPath());
-            }, true, result -> {
+                log.persist();
+                execute.complete();
+            }, false, result -> {
+                if (result.failed()) {
+                    context.logger(getClass()).onError(result.cause());
+                }
             });
+        } else {
+            log.discard();
         }
     }
-
-    private void dirty() {
-        dirty.set(true);
-    }
 }
\ No newline at end of file
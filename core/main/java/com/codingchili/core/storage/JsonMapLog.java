@@ -0,0 +1,262 @@
+package com.codingchili.core.storage;
+
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonObject;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.codingchili.core.context.CoreRuntimeException;
+import com.codingchili.core.files.ConfigurationFactory;
+import com.codingchili.core.files.exception.NoSuchResourceException;
+
+import static com.codingchili.core.configuration.CoreStrings.getFileReadError;
+
+/**
+ * Holds the data of a single #{@link JsonMap} collection and persists changes to it.
+ * <p>
+ * Changes are appended to a log next to the snapshot of the collection, so that the
+ * cost of persisting is proportional to the number of changes. When the log grows
+ * larger than the collection it is compacted: the collection is written to a new
+ * snapshot that atomically replaces the previous one and the log is removed. If the
+ * process is interrupted the snapshot is intact and the log is replayed on load,
+ * an incomplete last change in the log is skipped and truncated from the log.
+ * <p>
+ * Each change is numbered and the snapshot records the number of the last change it
+ * holds, changes in the log that are already in the snapshot are skipped on replay.
+ * Changes that fail to be written are persisted again with the next write.
+ */
+class JsonMapLog {
+    private static final String EXT_LOG = ".log";
+    private static final String ID_OPERATION = "op";
+    private static final String ID_KEY = "key";
+    private static final String ID_VALUE = "value";
+    private static final String ID_SEQUENCE = "seq";
+    // the key in the snapshot that holds the number of the last change in the snapshot.
+    private static final String SNAPSHOT_SEQUENCE = "$" + ID_SEQUENCE;
+    private static final String PUT = "put";
+    private static final String REMOVE = "remove";
+    private static final String CLEAR = "clear";
+    private static final int COMPACT_MINIMUM = 1024;
+    private final Object writer = new Object();
+    private final JsonObject db;
+    private final Path snapshot;
+    private final Path log;
+    private List<JsonObject> pending = new ArrayList<>();
+    private long sequence = 0;
+    private long length = 0;
+    private int logged = 0;
+
+    /**
+     * Loads the snapshot of a collection and replays the changes in its log.
+     *
+     * @param path the path to the snapshot file of the collection.
+     */
+    JsonMapLog(String path) {
+        this.snapshot = Paths.get(path).toAbsolutePath();
+        this.log = snapshot.resolveSibling(snapshot.getFileName() + EXT_LOG);
+        this.db = read(path);
+        this.sequence = db.getLong(SNAPSHOT_SEQUENCE, 0L);
+        db.remove(SNAPSHOT_SEQUENCE);
+        replay();
+    }
+
+    private static JsonObject read(String path) {
+        try {
+            return ConfigurationFactory.readObject(path);
+        } catch (NoSuchResourceException e) {
+            return new JsonObject();
+        }
+    }
+
+    private void replay() {
+        if (Files.exists(log)) {
+            try {
+                byte[] bytes = Files.readAllBytes(log);
+                int complete = lastLineEnd(bytes);
+
+                for (String line : new String(bytes, 0, complete, StandardCharsets.UTF_8).split("\n")) {
+                    if (!line.isEmpty()) {
+                        JsonObject change = new JsonObject(line);
+                        long number = change.getLong(ID_SEQUENCE, 0L);
+
+                        // changes up to the sequence of the snapshot are already applied.
+                        if (number > sequence) {
+                            apply(change);
+                            sequence = number;
+                            logged++;
+                        }
+                    }
+                }
+
+                if (complete < bytes.length) {
+                    // the last change was not completely written: remove it so that
+                    // the next change is appended to a new line.
+                    try (FileChannel channel = FileChannel.open(log, StandardOpenOption.WRITE)) {
+                        channel.truncate(complete);
+                    }
+                }
+                length = complete;
+            } catch (IOException | DecodeException e) {
+                throw new CoreRuntimeException(getFileReadError(log.toString()));
+            }
+        }
+    }
+
+    private static int lastLineEnd(byte[] bytes) {
+        for (int i = bytes.length - 1; i >= 0; i--) {
+            if (bytes[i] == '\n') {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    private void apply(JsonObject change) {
+        switch (change.getString(ID_OPERATION)) {
+            case PUT:
+                db.put(change.getString(ID_KEY), change.getJsonObject(ID_VALUE));
+                break;
+            case REMOVE:
+                db.remove(change.getString(ID_KEY));
+                break;
+            case CLEAR:
+                db.clear();
+                break;
+        }
+    }
+
+    /**
+     * @return the data of the collection, must only be modified through this log.
+     */
+    JsonObject db() {
+        return db;
+    }
+
+    /**
+     * @param key   the key of the value to set.
+     * @param value the value to set for the given key.
+     */
+    synchronized void put(String key, JsonObject value) {
+        change(new JsonObject().put(ID_OPERATION, PUT).put(ID_KEY, key).put(ID_VALUE, value));
+    }
+
+    /**
+     * @param key the key of the value to remove.
+     */
+    synchronized void remove(String key) {
+        change(new JsonObject().put(ID_OPERATION, REMOVE).put(ID_KEY, key));
+    }
+
+    /**
+     * Removes all values in the collection.
+     */
+    synchronized void clear() {
+        change(new JsonObject().put(ID_OPERATION, CLEAR));
+    }
+
+    private void change(JsonObject change) {
+        change.put(ID_SEQUENCE, ++sequence);
+        apply(change);
+        pending.add(change);
+    }
+
+    /**
+     * @return true if the collection has changes that are not persisted.
+     */
+    synchronized boolean isDirty() {
+        return !pending.isEmpty();
+    }
+
+    /**
+     * Discards all changes that are not persisted, used when persistence is disabled.
+     */
+    synchronized void discard() {
+        pending.clear();
+    }
+
+    /**
+     * Persists the changes that are not yet persisted, performs blocking file operations.
+     * Changes are persisted in the order they were made even if called concurrently,
+     * if the changes fail to be written they are kept to be persisted again.
+     */
+    void persist() {
+        synchronized (writer) {
+            List<JsonObject> changes;
+            JsonObject compacted = null;
+            int previous;
+
+            synchronized (this) {
+                if (pending.isEmpty()) {
+                    return;
+                }
+                changes = pending;
+                pending = new ArrayList<>();
+                previous = logged;
+                logged += changes.size();
+
+                if (logged > Math.max(COMPACT_MINIMUM, db.size())) {
+                    compacted = db.copy().put(SNAPSHOT_SEQUENCE, sequence);
+                    logged = 0;
+                }
+            }
+
+            try {
+                if (compacted == null) {
+                    append(changes);
+                } else {
+                    compact(compacted);
+                }
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    // the failed changes are older than any change made since.
+                    pending.addAll(0, changes);
+                    logged = previous;
+                }
+                throw e;
+            }
+        }
+    }
+
+    private void append(List<JsonObject> changes) {
+        StringBuilder builder = new StringBuilder();
+        for (JsonObject change : changes) {
+            builder.append(change.encode()).append('\n');
+        }
+        try {
+            Files.createDirectories(log.getParent());
+            try (FileChannel channel = FileChannel.open(log, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                // overwrites the part of a change that failed to be written completely.
+                ByteBuffer bytes = ByteBuffer.wrap(builder.toString().getBytes(StandardCharsets.UTF_8));
+                channel.truncate(length);
+                channel.position(length);
+
+                while (bytes.hasRemaining()) {
+                    channel.write(bytes);
+                }
+                length = channel.position();
+            }
+        } catch (IOException e) {
+            throw new CoreRuntimeException(e.getMessage());
+        }
+    }
+
+    private void compact(JsonObject compacted) {
+        // the temporary file keeps the extension of the snapshot to be written in the same format.
+        Path temporary = snapshot.resolveSibling("." + snapshot.getFileName());
+        ConfigurationFactory.writeObject(compacted, temporary.toString());
+        try {
+            // the log may remain if interrupted, its changes are older than the snapshot.
+            Files.move(temporary, snapshot, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            Files.deleteIfExists(log);
+            length = 0;
+        } catch (IOException e) {
+            throw new CoreRuntimeException(e.getMessage());
+        }
+    }
+}
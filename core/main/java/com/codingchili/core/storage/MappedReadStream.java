@@ -0,0 +1,67 @@
+package com.codingchili.core.storage;
+
+import io.vertx.core.Handler;
+import io.vertx.core.streams.ReadStream;
+
+import java.util.function.Function;
+
+/**
+ * A read stream that maps the values of another read stream, flow control
+ * is delegated to the mapped stream.
+ *
+ * @param <S> the type of the values of the mapped stream.
+ * @param <T> the type of the values in the stream.
+ */
+class MappedReadStream<S, T> implements ReadStream<T> {
+    private final ReadStream<S> stream;
+    private final Function<S, T> mapper;
+
+    /**
+     * @param stream the stream to map the values of.
+     * @param mapper maps each value of the stream.
+     */
+    MappedReadStream(ReadStream<S> stream, Function<S, T> mapper) {
+        this.stream = stream;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public ReadStream<T> exceptionHandler(Handler<Throwable> handler) {
+        stream.exceptionHandler(handler);
+        return this;
+    }
+
+    @Override
+    public ReadStream<T> handler(Handler<T> handler) {
+        if (handler == null) {
+            stream.handler(null);
+        } else {
+            stream.handler(value -> handler.handle(mapper.apply(value)));
+        }
+        return this;
+    }
+
+    @Override
+    public ReadStream<T> pause() {
+        stream.pause();
+        return this;
+    }
+
+    @Override
+    public ReadStream<T> resume() {
+        stream.resume();
+        return this;
+    }
+
+    @Override
+    public ReadStream<T> fetch(long amount) {
+        stream.fetch(amount);
+        return this;
+    }
+
+    @Override
+    public ReadStream<T> endHandler(Handler<Void> handler) {
+        stream.endHandler(handler);
+        return this;
+    }
+}
@@ -4,6 +4,7 @@ import io.vertx.core.*;
 import io.vertx.core.impl.ConcurrentHashSet;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.ext.mongo.*;
 
 import java.util.*;
@@ -74,6 +75,40 @@ public class MongoDBMap<Value extends Storable> implements AsyncStorage<Value> {
                 });
     }
 
+    @Override
+    public void getAll(Collection<String> keys, Handler<AsyncResult<Collection<Value>>> handler) {
+        client.find(collection, in(keys), found -> {
+            if (found.succeeded()) {
+                handler.handle(result(found.result().stream()
+                        .map(json -> context.toValue(json))
+                        .collect(Collectors.toList())));
+            } else {
+                handler.handle(error(found.cause()));
+            }
+        });
+    }
+
+    @Override
+    public void putAll(Collection<Value> values, Handler<AsyncResult<Void>> handler) {
+        if (values.isEmpty()) {
+            handler.handle(result());
+        } else {
+            List<BulkOperation> operations = new ArrayList<>(values.size());
+
+            for (Value value : values) {
+                operations.add(BulkOperation.createReplace(id(value), document(value), true));
+            }
+
+            client.bulkWrite(collection, operations, write -> {
+                if (write.succeeded()) {
+                    handler.handle(result());
+                } else {
+                    handler.handle(error(write.cause()));
+                }
+            });
+        }
+    }
+
     private JsonObject document(Value value) {
         return context.toJson(value).put(ID, value.getId());
     }
@@ -104,6 +139,21 @@ public class MongoDBMap<Value extends Storable> implements AsyncStorage<Value> {
         });
     }
 
+    @Override
+    public void removeAll(Collection<String> keys, Handler<AsyncResult<Void>> handler) {
+        client.removeDocuments(collection, in(keys), remove -> {
+            if (remove.succeeded()) {
+                handler.handle(result());
+            } else {
+                handler.handle(error(remove.cause()));
+            }
+        });
+    }
+
+    private JsonObject in(Collection<String> keys) {
+        return new JsonObject().put(ID, new JsonObject().put(IN, new JsonArray(new ArrayList<>(keys))));
+    }
+
     private JsonObject id(String key) {
         return new JsonObject().put(ID, key);
     }
@@ -138,6 +188,11 @@ public class MongoDBMap<Value extends Storable> implements AsyncStorage<Value> {
         });
     }
 
+    @Override
+    public ReadStream<Value> stream() {
+        return new MappedReadStream<>(client.findBatch(collection, new JsonObject()), json -> context.toValue(json));
+    }
+
     @Override
     public void clear(Handler<AsyncResult<Void>> handler) {
         client.dropCollection(collection, drop -> {
@@ -0,0 +1,121 @@
+package com.codingchili.core.storage;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.SharedMetricRegistries;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.codingchili.core.metrics.MetricSettings;
+
+/**
+ * A bounded local cache of values read from a clustered storage.
+ * <p>
+ * Entries expire after a fixed time to live and the least recently used entry
+ * is evicted when the cache is full. Entries must be invalidated when they are
+ * modified, values read before an invalidation are never added to the cache.
+ * <p>
+ * Hits, misses and invalidations are counted in the shared metric registry
+ * under storage.[collection].nearcache.
+ */
+class NearCache<Value> {
+    private static final String STORAGE = "storage";
+    private static final String NEAR_CACHE = "nearcache";
+    private final Map<String, Entry<Value>> entries;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter invalidations;
+    private final long ttl;
+    private long version = 0;
+
+    /**
+     * @param collection the name of the cached collection, used to name the metrics.
+     * @param capacity   the max number of values to cache.
+     * @param ttl        the time in milliseconds a value is cached for.
+     */
+    NearCache(String collection, int capacity, long ttl) {
+        MetricRegistry registry = SharedMetricRegistries.getOrCreate(MetricSettings.REGISTRY_NAME);
+        this.ttl = ttl;
+        this.hits = registry.counter(MetricRegistry.name(STORAGE, collection, NEAR_CACHE, "hits"));
+        this.misses = registry.counter(MetricRegistry.name(STORAGE, collection, NEAR_CACHE, "misses"));
+        this.invalidations = registry.counter(MetricRegistry.name(STORAGE, collection, NEAR_CACHE, "invalidations"));
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, NearCache.Entry<Value>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * @param key the key of the value to retrieve.
+     * @return the cached value or null if the value is not cached or has expired.
+     */
+    synchronized Value get(String key) {
+        Entry<Value> entry = entries.get(key);
+
+        if (entry == null) {
+            misses.inc();
+            return null;
+        } else if (entry.expiry <= System.currentTimeMillis()) {
+            entries.remove(key);
+            misses.inc();
+            return null;
+        } else {
+            hits.inc();
+            return entry.value;
+        }
+    }
+
+    /**
+     * @return the current version of the cache, must be retrieved before the value
+     * to cache is read from the storage, see #{@link #put(String, Object, long)}.
+     */
+    synchronized long version() {
+        return version;
+    }
+
+    /**
+     * Adds a value to the cache unless any entry was invalidated after the value was read.
+     *
+     * @param key     the key of the value.
+     * @param value   the value to cache.
+     * @param version the version of the cache retrieved before the value was read.
+     */
+    synchronized void put(String key, Value value, long version) {
+        if (this.version == version) {
+            entries.put(key, new Entry<>(value, System.currentTimeMillis() + ttl));
+        }
+    }
+
+    /**
+     * Removes a value from the cache, called when the value is modified or removed.
+     *
+     * @param key the key of the value to invalidate.
+     */
+    synchronized void invalidate(String key) {
+        version++;
+        entries.remove(key);
+        invalidations.inc();
+    }
+
+    /**
+     * Removes all values from the cache.
+     */
+    synchronized void clear() {
+        version++;
+        entries.clear();
+        invalidations.inc();
+    }
+
+    private static class Entry<Value> {
+        private final Value value;
+        private final long expiry;
+
+        private Entry(Value value, long expiry) {
+            this.value = value;
+            this.expiry = expiry;
+        }
+    }
+}
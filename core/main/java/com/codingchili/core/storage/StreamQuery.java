@@ -7,9 +7,10 @@ import java.util.*;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.codingchili.core.context.StorageContext;
-import com.codingchili.core.protocol.Serializer;
+import com.codingchili.core.protocol.PathAccessor;
 
 /**
  * Query implementations for non-indexed json streams.
@@ -127,22 +128,57 @@ public class StreamQuery<Value extends Storable, Streaming> {
                 return this;
             }
 
-            @SuppressWarnings("unchecked")
             @Override
             public void execute(Handler<AsyncResult<Collection<Value>>> handler) {
                 context.blocking(task -> {
+                    long skip = (long) getPage() * getPageSize();
 
-                    task.complete(results().stream()
-                            .sorted(this::sortByAttribute)
-                            .skip(getPage() * getPageSize())
-                            .limit(getPageSize())
-                            .map(mapper)
-                            .collect(Collectors.toList()));
-
+                    if (isOrdered()) {
+                        task.complete(top(skip + getPageSize()).stream()
+                                .skip(skip)
+                                .map(ranked -> mapper.apply(ranked.entry))
+                                .collect(Collectors.toList()));
+                    } else {
+                        // without ordering the page is taken directly from the source.
+                        task.complete(results()
+                                .skip(skip)
+                                .limit(getPageSize())
+                                .map(mapper)
+                                .collect(Collectors.toList()));
+                    }
                 }, handler);
             }
 
-            private Set<Streaming> results() {
+            /**
+             * Keeps the given number of highest ranked entries in a bounded heap, the entry
+             * at the head of the heap is the lowest ranked and is evicted first.
+             *
+             * @param count the number of entries to keep.
+             * @return the highest ranked entries in order.
+             */
+            private List<Ranked<Streaming>> top(long count) {
+                Comparator<Ranked<Streaming>> order = (first, second) ->
+                        first.key.compareTo(second.key) * getSortDirection();
+                PriorityQueue<Ranked<Streaming>> heap = new PriorityQueue<>(order.reversed());
+                Function<Object, String> sortValue = getSortValue();
+
+                results().forEach(entry -> {
+                    Ranked<Streaming> ranked = new Ranked<>(sortValue.apply(entry), entry);
+
+                    if (heap.size() < count) {
+                        heap.add(ranked);
+                    } else if (order.compare(ranked, heap.peek()) < 0) {
+                        heap.poll();
+                        heap.add(ranked);
+                    }
+                });
+
+                List<Ranked<Streaming>> sorted = new ArrayList<>(heap);
+                sorted.sort(order);
+                return sorted;
+            }
+
+            private Stream<Streaming> results() {
                 return source.stream().filter(entry -> {
 
                     if (statements.size() > 0) {
@@ -164,12 +200,12 @@ public class StreamQuery<Value extends Storable, Streaming> {
                         // if there are no constraints - consider everything as matching.
                         return true;
                     }
-                }).collect(Collectors.toSet());
+                });
             }
 
             // match function that tests all elements in an array if statement.attribute points to one.
             private boolean anyMatch(Streaming entry, StatementPredicate statement) {
-                for (Comparable comparable : Serializer.<Comparable>getValueByPath(entry, statement.attribute)) {
+                for (Comparable comparable : statement.accessor.<Comparable>get(entry)) {
                     if (statement.predicate.test(comparable))
                         return true;
                 }
@@ -178,12 +214,22 @@ public class StreamQuery<Value extends Storable, Streaming> {
         };
     }
 
+    private static class Ranked<T> {
+        private final String key;
+        private final T entry;
+
+        Ranked(String key, T entry) {
+            this.key = key;
+            this.entry = entry;
+        }
+    }
+
     private class StatementPredicate {
-        private final String attribute;
+        private final PathAccessor accessor;
         private final Predicate<Comparable> predicate;
 
         StatementPredicate(String attribute, Predicate<Comparable> predicate) {
-            this.attribute = attribute;
+            this.accessor = PathAccessor.of(attribute);
             this.predicate = predicate;
         }
     }
@@ -11,4 +11,11 @@ public class StorageFailureException extends CoreException {
     public StorageFailureException() {
         super(CoreStrings.ERROR_STORAGE_EXCEPTION);
     }
+
+    /**
+     * @param cause a description of the failed storage operation.
+     */
+    public StorageFailureException(String cause) {
+        super(CoreStrings.getStorageFailure(cause));
+    }
 }
@@ -28,7 +28,7 @@ public class BenchmarkIT {
     private static CoreContext context;
 
     @Rule
-    public Timeout timeout = new Timeout(16, TimeUnit.SECONDS);
+    public Timeout timeout = new Timeout(120, TimeUnit.SECONDS);
 
     @BeforeClass
     public static void setUp(TestContext test) {
@@ -54,10 +54,49 @@ public class BenchmarkIT {
      */
     @Test
     public void testRunBenchmarkSuites(TestContext test) {
+        run(test, CoreBenchmarkSuite::maps);
+    }
+
+    @Test
+    public void testRunListenerBenchmarks(TestContext test) {
+        run(test, CoreBenchmarkSuite::listeners);
+    }
+
+    @Test
+    public void testRunCodecBenchmarks(TestContext test) {
+        run(test, CoreBenchmarkSuite::codecs);
+    }
+
+    @Test
+    public void testRunAccessorBenchmarks(TestContext test) {
+        run(test, CoreBenchmarkSuite::accessors);
+    }
+
+    @Test
+    public void testRunLoggerBenchmarks(TestContext test) {
+        run(test, CoreBenchmarkSuite::loggers);
+    }
+
+    @Test
+    public void testRunTokenBenchmarks(TestContext test) {
+        run(test, CoreBenchmarkSuite::tokens);
+    }
+
+    @Test
+    public void testRunValidatorBenchmarks(TestContext test) {
+        run(test, CoreBenchmarkSuite::validators);
+    }
+
+    @Test
+    public void testRunProtocolBenchmarks(TestContext test) {
+        run(test, CoreBenchmarkSuite::protocols);
+    }
+
+    private void run(TestContext test, Suite suite) {
         Async async = test.async();
         MockListener listener = new MockListener(test);
 
-        new CoreBenchmarkSuite().setIterations(ITERATIONS).maps(context, listener)
+        suite.run(new CoreBenchmarkSuite().setIterations(ITERATIONS), context, listener)
                 .setHandler(done -> {
                     test.assertTrue(done.succeeded());
                     test.assertTrue(done.result().size() > 0);
@@ -66,6 +105,14 @@ public class BenchmarkIT {
                 });
     }
 
+    /**
+     * A group of benchmarks in the core benchmark suite.
+     */
+    @FunctionalInterface
+    private interface Suite {
+        Future<List<BenchmarkGroup>> run(CoreBenchmarkSuite suite, CoreContext context, BenchmarkListener listener);
+    }
+
     /*
      * Executes the benchmark suite as if it were executed from the commandline.
      */
@@ -1,9 +1,14 @@
 package com.codingchili.core.context;
 
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.SharedMetricRegistries;
 import com.codingchili.core.configuration.system.SystemSettings;
 import com.codingchili.core.files.Configurations;
 import com.codingchili.core.logging.AbstractLogger;
 import com.codingchili.core.logging.Logger;
+import com.codingchili.core.metrics.MetricSettings;
+import com.codingchili.core.storage.IndexedMapVolatile;
+import com.codingchili.core.storage.Storable;
 import com.codingchili.core.testing.ContextMock;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.unit.Async;
@@ -16,6 +21,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -101,6 +107,31 @@ public class SystemContextTest {
         }
     }
 
+    @Test
+    public void testBlockingMetricsRecorded(TestContext test) {
+        Async async = test.async();
+        String component = UUID.randomUUID().toString();
+        MetricRegistry registry = SharedMetricRegistries.getOrCreate(MetricSettings.REGISTRY_NAME);
+
+        context.<Void>blocking(component, blocking -> {
+            test.assertEquals(1L, registry.counter("worker." + component + ".inflight").getCount());
+            blocking.complete();
+        }, done -> {
+            test.assertEquals(1L, registry.timer("worker." + component + ".queue").getCount());
+            test.assertEquals(1L, registry.timer("worker." + component + ".execution").getCount());
+            test.assertEquals(0L, registry.counter("worker." + component + ".inflight").getCount());
+            async.complete();
+        });
+    }
+
+    @Test
+    public void testStorageComponentIsPlugin(TestContext test) {
+        StorageContext<Storable> storage = new StorageContext<>(context);
+        test.assertEquals("default", storage.component());
+        storage.setPlugin(IndexedMapVolatile.class);
+        test.assertEquals(IndexedMapVolatile.class.getSimpleName(), storage.component());
+    }
+
     private void delayMS(Async async, int ms) {
         context.timer(ms, handler -> async.complete());
     }
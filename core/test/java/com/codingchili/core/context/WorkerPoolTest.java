@@ -0,0 +1,258 @@
+package com.codingchili.core.context;
+
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+
+import com.codingchili.core.configuration.system.RejectionPolicy;
+import com.codingchili.core.configuration.system.SystemSettings;
+import com.codingchili.core.configuration.system.WorkerPoolSettings;
+import com.codingchili.core.storage.AsyncStorage;
+import com.codingchili.core.storage.IndexedMapVolatile;
+import com.codingchili.core.storage.StorageLoader;
+import com.codingchili.core.testing.ContextMock;
+import com.codingchili.core.testing.StorageObject;
+
+/**
+ * Tests the named worker pools of the system context.
+ */
+@RunWith(VertxUnitRunner.class)
+public class WorkerPoolTest {
+    private static final String POOL = "test";
+    private static final String COMPONENT = WorkerPoolTest.class.getSimpleName();
+    private static final int HASHING_WORKERS = 2;
+    private SystemSettings settings;
+    private CoreContext context;
+
+    @Before
+    public void setUp() {
+        settings = new SystemSettings();
+        context = new ContextMock() {
+            @Override
+            public SystemSettings system() {
+                return settings;
+            }
+        };
+    }
+
+    @After
+    public void tearDown(TestContext test) {
+        context.close(test.asyncAssertSuccess());
+    }
+
+    @Test
+    public void testExecutedOnNamedPool(TestContext test) {
+        Async async = test.async();
+        settings.addPool(POOL, new WorkerPoolSettings().setSize(1));
+
+        context.pool(POOL).<String>blocking(COMPONENT, blocking -> {
+            blocking.complete(Thread.currentThread().getName());
+        }, done -> {
+            test.assertEquals(POOL + "-worker-0", done.result());
+            test.assertNotNull(Vertx.currentContext());
+            async.complete();
+        });
+    }
+
+    @Test
+    public void testUnconfiguredPoolIsShared(TestContext test) {
+        Async async = test.async();
+
+        context.pool(POOL).<String>blocking(COMPONENT, blocking -> {
+            blocking.complete(Thread.currentThread().getName());
+        }, done -> {
+            test.assertTrue(done.result().startsWith("vert.x-worker-thread"));
+            async.complete();
+        });
+    }
+
+    @Test
+    public void testErrorFailsResult(TestContext test) {
+        Async async = test.async();
+        settings.addPool(POOL, new WorkerPoolSettings().setSize(1));
+
+        context.pool(POOL).<Void>blocking(COMPONENT, blocking -> {
+            throw new IllegalStateException();
+        }, done -> {
+            test.assertTrue(done.cause() instanceof IllegalStateException);
+            async.complete();
+        });
+    }
+
+    @Test
+    public void testRejectedWhenFull(TestContext test) {
+        Async async = test.async(3);
+        CountDownLatch latch = full(RejectionPolicy.FAIL, test, async);
+
+        context.pool(POOL).<Void>blocking(COMPONENT, blocking -> {
+            test.fail("rejected handler was executed.");
+        }, done -> {
+            test.assertTrue(done.cause() instanceof RejectedExecutionException);
+            latch.countDown();
+            async.countDown();
+        });
+    }
+
+    @Test
+    public void testDropOldestWhenFull(TestContext test) {
+        Async async = test.async(3);
+        settings.addPool(POOL, new WorkerPoolSettings()
+                .setSize(1).setQueue(1).setRejection(RejectionPolicy.DROP_OLDEST));
+        CountDownLatch latch = new CountDownLatch(1);
+
+        context.pool(POOL).<Void>blocking(COMPONENT, blocking -> {
+            await(latch);
+            blocking.complete();
+        }, done -> async.countDown());
+
+        context.pool(POOL).<Void>blocking(COMPONENT, blocking -> {
+            test.fail("dropped handler was executed.");
+        }, done -> {
+            test.assertTrue(done.cause() instanceof RejectedExecutionException);
+            async.countDown();
+        });
+
+        context.pool(POOL).<Void>blocking(COMPONENT, Promise::complete, done -> {
+            test.assertTrue(done.succeeded());
+            async.countDown();
+        });
+        latch.countDown();
+    }
+
+    @Test
+    public void testSharedWhenFull(TestContext test) {
+        Async async = test.async(3);
+        CountDownLatch latch = full(RejectionPolicy.SHARED, test, async);
+
+        context.pool(POOL).<String>blocking(COMPONENT, blocking -> {
+            blocking.complete(Thread.currentThread().getName());
+        }, done -> {
+            test.assertTrue(done.result().startsWith("vert.x-worker-thread"));
+            latch.countDown();
+            async.countDown();
+        });
+    }
+
+    @Test
+    public void testOrderedCompletedInOrder(TestContext test) {
+        Async async = test.async();
+        List<Integer> completed = Collections.synchronizedList(new ArrayList<>());
+        settings.addPool(POOL, new WorkerPoolSettings().setSize(4));
+
+        // handlers are ordered by the context that submits them.
+        context.vertx().getOrCreateContext().runOnContext(v -> {
+            for (int i = 0; i < 16; i++) {
+                int index = i;
+                context.pool(POOL).<Void>blocking(COMPONENT, blocking -> {
+                    completed.add(index);
+                    blocking.complete();
+                }, true, done -> {
+                    if (index == 15) {
+                        for (int k = 0; k < 16; k++) {
+                            test.assertEquals(k, completed.get(k));
+                        }
+                        async.complete();
+                    }
+                });
+            }
+        });
+    }
+
+    @Test
+    public void testOrderedPerContext(TestContext test) {
+        Async async = test.async(2);
+        CountDownLatch latch = new CountDownLatch(1);
+        settings.addPool(POOL, new WorkerPoolSettings().setSize(2));
+
+        // an ordered handler that blocks must not delay ordered handlers of other contexts.
+        context.vertx().getOrCreateContext().runOnContext(v -> {
+            context.pool(POOL).<Void>blocking(COMPONENT, blocking -> {
+                await(latch);
+                blocking.complete();
+            }, true, done -> async.countDown());
+        });
+
+        context.vertx().getOrCreateContext().runOnContext(v -> {
+            context.pool(POOL).<Void>blocking(COMPONENT, Promise::complete, true, done -> {
+                test.assertEquals(1L, latch.getCount());
+                latch.countDown();
+                async.countDown();
+            });
+        });
+    }
+
+    /**
+     * Blocks every password hashing worker while reading from storage, storage reads
+     * are isolated from password hashing so reads complete while hashing is blocked.
+     */
+    @Test
+    public void testStorageIsolatedFromHashing(TestContext test) {
+        Async async = test.async(HASHING_WORKERS + 2);
+        CountDownLatch latch = new CountDownLatch(1);
+        settings.addPool(WorkerPool.HASHING, new WorkerPoolSettings().setSize(HASHING_WORKERS).setQueue(1));
+
+        // occupies every worker and the queue of the hashing pool.
+        for (int i = 0; i < HASHING_WORKERS + 1; i++) {
+            context.pool(WorkerPool.HASHING).<Void>blocking(COMPONENT, blocking -> {
+                await(latch);
+                blocking.complete();
+            }, done -> {
+                test.assertTrue(done.succeeded());
+                async.countDown();
+            });
+        }
+
+        new StorageLoader<StorageObject>(context)
+                .withPlugin(IndexedMapVolatile.class)
+                .withValue(StorageObject.class)
+                .withDB(COMPONENT)
+                .build(load -> {
+                    AsyncStorage<StorageObject> storage = load.result();
+                    StorageObject object = new StorageObject("login", 1);
+
+                    storage.put(object, put -> storage.get(object.getId(), get -> {
+                        test.assertTrue(get.succeeded());
+                        test.assertEquals(1L, latch.getCount());
+                        latch.countDown();
+                        async.countDown();
+                    }));
+                });
+    }
+
+    private CountDownLatch full(RejectionPolicy rejection, TestContext test, Async async) {
+        CountDownLatch latch = new CountDownLatch(1);
+        settings.addPool(POOL, new WorkerPoolSettings()
+                .setSize(1).setQueue(1).setRejection(rejection));
+
+        for (int i = 0; i < 2; i++) {
+            context.pool(POOL).<Void>blocking(COMPONENT, blocking -> {
+                await(latch);
+                blocking.complete();
+            }, done -> {
+                test.assertTrue(done.succeeded());
+                async.countDown();
+            });
+        }
+        return latch;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
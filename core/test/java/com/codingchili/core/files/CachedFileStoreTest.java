@@ -68,6 +68,18 @@ public class CachedFileStoreTest {
         }
     }
 
+    @Test
+    public void succeedGetFileSharedDirect() throws FileMissingException {
+        Buffer fromStore = getStore(DIRECTORY).getFile(FILE).getBuffer();
+
+        // a replaced file is reclaimed by the garbage collector, writing it never releases it.
+        Assert.assertTrue(fromStore.getByteBuf().isDirect());
+        Assert.assertTrue(fromStore.getByteBuf().isReadOnly());
+        fromStore.getByteBuf().release();
+        Assert.assertTrue(fromStore.length() > 0);
+        fromStore.getByte(0);
+    }
+
     private Buffer getFromDisk() throws IOException {
         Path path = Paths.get(FILE_ABS);
         return Buffer.buffer(Files.readAllBytes(path));
@@ -3,10 +3,16 @@ package com.codingchili.core.listener;
 import com.codingchili.core.configuration.CoreStrings;
 import com.codingchili.core.context.CoreContext;
 import com.codingchili.core.context.SystemContext;
+import com.codingchili.core.listener.transport.ClusterRequest;
+import com.codingchili.core.listener.transport.Connection;
+import com.codingchili.core.listener.transport.TcpRequest;
+import com.codingchili.core.listener.transport.WireMessage;
+import com.codingchili.core.protocol.CborWireCodec;
 import com.codingchili.core.protocol.ResponseStatus;
 import com.codingchili.core.testing.RequestMock;
 import com.codingchili.core.testing.ResponseListener;
 import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.Message;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.unit.Async;
@@ -195,6 +201,50 @@ public class BusRouterTest {
         }));
     }
 
+    @Test
+    public void testPassThroughForwardsBuffer(TestContext test) {
+        Async async = test.async();
+        ListenerSettings settings = new ListenerSettings().setCodec(CborWireCodec.NAME);
+        Buffer request = settings.getWireCodec().encode(new JsonObject()
+                .put(PROTOCOL_TARGET, NODE_1)
+                .put(PROTOCOL_ROUTE, TEST_ROUTE)
+                .put(PROTOCOL_MESSAGE, NODE_2));
+
+        mockNode(NODE_1, message -> {
+            test.assertTrue(message.body() instanceof WireMessage);
+            test.assertTrue(request == ((WireMessage) message.body()).buffer());
+
+            ClusterRequest forwarded = new ClusterRequest(message);
+            test.assertEquals(TEST_ROUTE, forwarded.route());
+            forwarded.write(new JsonObject().put(PROTOCOL_MESSAGE, forwarded.data().getString(PROTOCOL_MESSAGE)));
+        });
+
+        router.setPassThrough(true).handle(new TcpRequest(new Connection(message -> {}, ""), request, settings, reply -> {
+            JsonObject response = settings.getWireCodec().decode(reply);
+            test.assertEquals(NODE_2, response.getString(PROTOCOL_MESSAGE));
+            test.assertEquals(NODE_1, response.getString(PROTOCOL_TARGET));
+            test.assertEquals(ACCEPTED.name(), response.getString(PROTOCOL_STATUS));
+            async.complete();
+        }));
+    }
+
+    @Test
+    public void testPassThroughDisabledSendsJson(TestContext test) {
+        Async async = test.async();
+        ListenerSettings settings = new ListenerSettings();
+        Buffer request = new JsonObject().put(PROTOCOL_TARGET, NODE_1).toBuffer();
+
+        mockNode(NODE_1, message -> {
+            test.assertTrue(message.body() instanceof JsonObject);
+            message.reply(message.body());
+        });
+
+        router.handle(new TcpRequest(new Connection(message -> {}, ""), request, settings, reply -> {
+            test.assertEquals(NODE_1, reply.toJsonObject().getString(PROTOCOL_TARGET));
+            async.complete();
+        }));
+    }
+
     private void handle(String target, ResponseListener listener) {
         handle(target, listener, new JsonObject());
     }
@@ -70,6 +70,8 @@ public abstract class ListenerTestCases {
                 .setHttpOptions(new HttpServerOptions().setCompressionSupported(false))
                 .addMapping(PATCHING_ROOT, new Endpoint(NODE_PATCHING));
 
+        configure(settings);
+
         context.listener(() -> listener.get().settings(settings).handler(new TestHandler())).setHandler(deploy -> {
             if (deploy.failed()) {
                 deploy.cause().printStackTrace();
@@ -107,6 +109,15 @@ public abstract class ListenerTestCases {
                 .put(CoreStrings.PROTOCOL_ROUTE, CoreStrings.ID_PING));
     }
 
+    /**
+     * Override to apply transport specific settings to the listener.
+     *
+     * @param settings the listener settings to configure.
+     */
+    protected void configure(ListenerSettings settings) {
+        // no transport specific settings by default.
+    }
+
     /**
      * Implementing class must provide transport specific implementation.
      *
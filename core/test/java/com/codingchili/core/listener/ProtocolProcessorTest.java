@@ -1,6 +1,9 @@
 package com.codingchili.core.listener;
 
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.SharedMetricRegistries;
 import com.codingchili.core.listener.transport.Connection;
+import com.codingchili.core.metrics.MetricSettings;
 import com.codingchili.core.protocol.Protocol;
 import com.codingchili.core.protocol.Role;
 import com.codingchili.core.protocol.exception.HandlerMissingException;
@@ -28,6 +31,7 @@ import static com.codingchili.core.protocol.ResponseStatus.*;
 @RunWith(VertxUnitRunner.class)
 public class ProtocolProcessorTest {
     private static final String TEST_HANDLER = "test-handler";
+    private static final String TEST_ROUTE = "test";
     private ContextMock mock;
 
     @Before
@@ -105,8 +109,64 @@ public class ProtocolProcessorTest {
                 });
     }
 
+    @Test
+    public void routeMetricsRecorded(TestContext test) {
+        String target = "metrics.recorded";
+        protocol(target, Role.PUBLIC, Request::accept)
+                .process(request((response, status) -> test.assertEquals(ACCEPTED, status)));
+
+        test.assertEquals(1L, registry().timer(MetricRegistry.name(target, TEST_ROUTE, "latency")).getCount());
+        test.assertEquals(1L, registry().meter(MetricRegistry.name(target, TEST_ROUTE, "requests")).getCount());
+        test.assertEquals(1L, registry().histogram(MetricRegistry.name(target, TEST_ROUTE, "size")).getCount());
+        test.assertEquals(0L, registry().meter(MetricRegistry.name(target, TEST_ROUTE, "errors")).getCount());
+    }
+
+    @Test
+    public void routeErrorsRecorded(TestContext test) {
+        String target = "metrics.errors";
+        protocol(target, Role.PUBLIC, request -> {
+            throw new RuntimeException(TEST_HANDLER);
+        }).process(request((response, status) -> test.assertEquals(ERROR, status)));
+
+        test.assertEquals(1L, registry().meter(MetricRegistry.name(target, TEST_ROUTE, "errors")).getCount());
+        test.assertEquals(1L, registry().timer(MetricRegistry.name(target, TEST_ROUTE, "latency")).getCount());
+    }
+
+    @Test
+    public void routeLatencyNotRecordedWhenWrapped(TestContext test) {
+        String target = "metrics.wrapped";
+        Request request = request((response, status) -> test.assertEquals(ACCEPTED, status));
+        RequestWrapper wrapped = () -> request;
+
+        // the response of a wrapped request is not observed: no latency is better than a wrong one.
+        protocol(target, Role.PUBLIC, handled -> test.assertTrue(handled == wrapped))
+                .process(wrapped);
+
+        test.assertEquals(0L, registry().timer(MetricRegistry.name(target, TEST_ROUTE, "latency")).getCount());
+        test.assertEquals(1L, registry().meter(MetricRegistry.name(target, TEST_ROUTE, "requests")).getCount());
+        wrapped.accept();
+    }
+
+    @Test
+    public void routeUnauthorizedRecorded(TestContext test) {
+        String target = "metrics.unauthorized";
+        protocol(target, Role.ADMIN, Request::accept)
+                .process(request((response, status) -> test.assertEquals(UNAUTHORIZED, status)));
+
+        test.assertEquals(1L, registry().meter(MetricRegistry.name(target, TEST_ROUTE, "unauthorized")).getCount());
+        test.assertEquals(0L, registry().meter(MetricRegistry.name(target, TEST_ROUTE, "requests")).getCount());
+    }
+
+    private Protocol<Request> protocol(String target, Role role, Consumer<Request> handler) {
+        return new Protocol<Request>().endpoint(target).use(TEST_ROUTE, handler::accept, role);
+    }
+
+    private MetricRegistry registry() {
+        return SharedMetricRegistries.getOrCreate(MetricSettings.REGISTRY_NAME);
+    }
+
     private Request request(ResponseListener listener) {
-        return RequestMock.get("test", listener);
+        return RequestMock.get(TEST_ROUTE, listener);
     }
 
     private Consumer<Supplier<Request>> processor(Consumer<Request> consumer) {
@@ -121,7 +181,7 @@ public class ProtocolProcessorTest {
 
         public TestHandler(Consumer<Request> handler) {
             this.handler = handler;
-            protocol.use("test", this::test);
+            protocol.use(TEST_ROUTE, this::test);
         }
 
         private void test(Request request) {
@@ -1,8 +1,15 @@
 package com.codingchili.core.listener;
 
+import com.codingchili.core.configuration.CachedFileStoreSettings;
 import com.codingchili.core.configuration.CoreStrings;
+import com.codingchili.core.files.CachedFileStore;
 import com.codingchili.core.listener.transport.RestListener;
+import com.codingchili.core.protocol.Serializer;
 
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
@@ -10,6 +17,10 @@ import io.vertx.ext.unit.junit.VertxUnitRunner;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
 import static com.codingchili.core.configuration.CoreStrings.*;
 import static com.codingchili.core.protocol.ResponseStatus.ACCEPTED;
 
@@ -18,9 +29,86 @@ import static com.codingchili.core.protocol.ResponseStatus.ACCEPTED;
  */
 @RunWith(VertxUnitRunner.class)
 public class RestListenerIT extends ListenerTestCases {
+    private static final String STORE = "CachedFileStore";
+    private static final String FILE = "test.txt";
+    private static final String GZIP = "gzip";
+    private static final String METRICS = "/metrics";
 
     public RestListenerIT() {
-        super(WireType.REST, RestListener::new);
+        super(WireType.REST, () -> new RestListener().metrics(METRICS).files(new CachedFileStore(context,
+                new CachedFileStoreSettings()
+                        .setDirectory(CoreStrings.testDirectory(STORE))
+                        .setAsynchronous(false)
+                        .setGzip(true))));
+    }
+
+    @Test
+    public void testStaticFileServed(TestContext test) throws IOException {
+        Async async = test.async();
+        byte[] file = Files.readAllBytes(Paths.get(CoreStrings.testFile(STORE, FILE)));
+
+        sendFileRequest(null, null, response -> {
+            test.assertEquals(200, response.statusCode());
+            test.assertNotNull(response.getHeader(HttpHeaders.ETAG));
+            test.assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+            response.bodyHandler(body -> {
+                test.assertEquals(new String(file), body.toString());
+                async.complete();
+            });
+        });
+    }
+
+    @Test
+    public void testStaticFileCompressed(TestContext test) throws IOException {
+        Async async = test.async();
+        byte[] file = Files.readAllBytes(Paths.get(CoreStrings.testFile(STORE, FILE)));
+
+        sendFileRequest(GZIP, null, response -> {
+            test.assertEquals(GZIP, response.getHeader(HttpHeaders.CONTENT_ENCODING));
+            response.bodyHandler(body -> {
+                test.assertEquals(new String(file), new String(Serializer.ungzip(body.getBytes())));
+                async.complete();
+            });
+        });
+    }
+
+    @Test
+    public void testStaticFileNotModified(TestContext test) {
+        Async async = test.async();
+
+        sendFileRequest(null, null, response -> {
+            String etag = response.getHeader(HttpHeaders.ETAG);
+
+            sendFileRequest(GZIP, etag, cached -> {
+                test.assertEquals(304, cached.statusCode());
+                test.assertEquals(etag, cached.getHeader(HttpHeaders.ETAG));
+                async.complete();
+            });
+        });
+    }
+
+    @Test
+    public void testMetricsExposed(TestContext test) {
+        Async async = test.async();
+
+        context.vertx().createHttpClient().getNow(port, HOST, METRICS, response -> {
+            test.assertEquals(200, response.statusCode());
+            test.assertTrue(response.getHeader(HttpHeaders.CONTENT_TYPE).startsWith("text/plain"));
+            async.complete();
+        });
+    }
+
+    private void sendFileRequest(String encoding, String etag, Handler<HttpClientResponse> handler) {
+        HttpClientRequest request = context.vertx().createHttpClient()
+                .get(port, HOST, CoreStrings.DIR_ROOT + FILE, handler);
+
+        if (encoding != null) {
+            request.putHeader(HttpHeaders.ACCEPT_ENCODING, encoding);
+        }
+        if (etag != null) {
+            request.putHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        }
+        request.end();
     }
 
     @Test
@@ -0,0 +1,144 @@
+package com.codingchili.core.listener;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.net.NetSocket;
+import io.vertx.core.parsetools.RecordParser;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import com.codingchili.core.configuration.CoreStrings;
+import com.codingchili.core.listener.transport.TcpListener;
+import com.codingchili.core.protocol.CborWireCodec;
+import com.codingchili.core.protocol.ResponseStatus;
+
+/**
+ * Test cases for TCP transport with delimiter framing.
+ */
+@RunWith(VertxUnitRunner.class)
+public class TcpDelimitedListenerIT extends ListenerTestCases {
+    private static final String DELIMITER = ListenerSettings.DEFAULT_FRAME_DELIMITER;
+    private static final int PIPELINED_REQUESTS = 500;
+
+    public TcpDelimitedListenerIT() {
+        super(WireType.TCP, TcpListener::new);
+    }
+
+    @Override
+    protected void configure(ListenerSettings settings) {
+        settings.setFrameType(FrameType.DELIMITER);
+    }
+
+    @Override
+    public void sendRequest(ResponseListener listener, JsonObject data) {
+        connect(socket -> {
+            socket.handler(parser(buffer -> handleBody(listener, buffer)));
+            socket.write(frame(data));
+        });
+    }
+
+    @Test
+    public void testPipelinedInOrder(TestContext test) {
+        Async async = test.async();
+        AtomicInteger received = new AtomicInteger();
+
+        connect(socket -> {
+            socket.handler(parser(buffer -> {
+                JsonObject response = buffer.toJsonObject();
+                test.assertEquals(route(received.getAndIncrement()), response.getString(CoreStrings.PROTOCOL_ROUTE));
+
+                if (received.get() == PIPELINED_REQUESTS) {
+                    async.complete();
+                }
+            }));
+
+            // write all requests in a single buffer to coalesce frames.
+            Buffer pipeline = Buffer.buffer();
+            for (int i = 0; i < PIPELINED_REQUESTS; i++) {
+                pipeline.appendBuffer(frame(new JsonObject()
+                        .put(CoreStrings.PROTOCOL_TARGET, NODE_ROUTER)
+                        .put(CoreStrings.PROTOCOL_ROUTE, route(i))));
+            }
+            socket.write(pipeline);
+        });
+    }
+
+    @Test
+    public void testSplitFrame(TestContext test) {
+        Async async = test.async();
+
+        connect(socket -> {
+            socket.handler(parser(buffer -> {
+                test.assertEquals(ResponseStatus.ACCEPTED.name(),
+                        buffer.toJsonObject().getString(CoreStrings.PROTOCOL_STATUS));
+                async.complete();
+            }));
+
+            Buffer frame = frame(new JsonObject()
+                    .put(CoreStrings.PROTOCOL_TARGET, NODE_ROUTER)
+                    .put(CoreStrings.PROTOCOL_ROUTE, CoreStrings.ID_PING));
+
+            socket.write(frame.getBuffer(0, 2));
+            context.timer(100, done -> socket.write(frame.getBuffer(2, frame.length())));
+        });
+    }
+
+    @Test
+    public void testOversizedFrameRejected(TestContext test) {
+        Async async = test.async();
+
+        connect(socket -> {
+            socket.handler(parser(buffer -> {
+                test.assertEquals(ResponseStatus.BAD.name(),
+                        buffer.toJsonObject().getString(CoreStrings.PROTOCOL_STATUS));
+                async.complete();
+            }));
+            // a frame that is never terminated must not be buffered without limit.
+            socket.write(Buffer.buffer(new byte[4096]));
+        });
+    }
+
+    @Test
+    public void testBinaryCodecRejected(TestContext test) {
+        Async async = test.async();
+        ListenerSettings settings = new ListenerSettings()
+                .setPort(0)
+                .setType(WireType.TCP)
+                .setFrameType(FrameType.DELIMITER)
+                .setCodec(CborWireCodec.NAME);
+
+        context.listener(() -> new TcpListener().settings(settings).handler(new TestHandler()))
+                .setHandler(deploy -> {
+                    test.assertTrue(deploy.failed());
+                    async.complete();
+                });
+    }
+
+    private static String route(int index) {
+        return CoreStrings.ID_PING + index;
+    }
+
+    private void connect(Consumer<NetSocket> handler) {
+        context.vertx().createNetClient().connect(port, HOST, connect -> {
+            if (connect.succeeded()) {
+                handler.accept(connect.result());
+            } else {
+                throw new RuntimeException(connect.cause());
+            }
+        });
+    }
+
+    private static Buffer frame(JsonObject data) {
+        return data.toBuffer().appendString(DELIMITER);
+    }
+
+    private static RecordParser parser(Consumer<Buffer> handler) {
+        return RecordParser.newDelimited(DELIMITER, handler::accept);
+    }
+}
@@ -0,0 +1,194 @@
+package com.codingchili.core.listener;
+
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.net.NetSocket;
+import io.vertx.core.parsetools.RecordParser;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import com.codingchili.core.configuration.CoreStrings;
+import com.codingchili.core.listener.transport.TcpListener;
+import com.codingchili.core.protocol.ResponseStatus;
+
+/**
+ * Test cases for TCP transport with length prefixed framing.
+ */
+@RunWith(VertxUnitRunner.class)
+public class TcpFramedListenerIT extends ListenerTestCases {
+    private static final int PIPELINED_REQUESTS = 500;
+    private static final int PIPELINED_TIMEOUTS = 5;
+
+    public TcpFramedListenerIT() {
+        super(WireType.TCP, TcpListener::new);
+    }
+
+    @Override
+    protected void configure(ListenerSettings settings) {
+        settings.setFrameType(FrameType.LENGTH_PREFIX);
+    }
+
+    @Override
+    public void sendRequest(ResponseListener listener, JsonObject data) {
+        connect(socket -> {
+            socket.handler(parser(buffer -> handleBody(listener, buffer)));
+            socket.write(frame(data));
+        });
+    }
+
+    @Test
+    public void testPipelinedInOrder(TestContext test) {
+        Async async = test.async();
+        AtomicInteger received = new AtomicInteger();
+
+        connect(socket -> {
+            socket.handler(parser(buffer -> {
+                JsonObject response = buffer.toJsonObject();
+                test.assertEquals(route(received.getAndIncrement()), response.getString(CoreStrings.PROTOCOL_ROUTE));
+
+                if (received.get() == PIPELINED_REQUESTS) {
+                    async.complete();
+                }
+            }));
+
+            // write all requests in a single buffer to coalesce frames.
+            Buffer pipeline = Buffer.buffer();
+            for (int i = 0; i < PIPELINED_REQUESTS; i++) {
+                pipeline.appendBuffer(frame(new JsonObject()
+                        .put(CoreStrings.PROTOCOL_TARGET, NODE_ROUTER)
+                        .put(CoreStrings.PROTOCOL_ROUTE, route(i))));
+            }
+            socket.write(pipeline);
+        });
+    }
+
+    @Test
+    public void testSplitFrame(TestContext test) {
+        Async async = test.async();
+
+        connect(socket -> {
+            socket.handler(parser(buffer -> {
+                test.assertEquals(ResponseStatus.ACCEPTED.name(),
+                        buffer.toJsonObject().getString(CoreStrings.PROTOCOL_STATUS));
+                async.complete();
+            }));
+
+            Buffer frame = frame(new JsonObject()
+                    .put(CoreStrings.PROTOCOL_TARGET, NODE_ROUTER)
+                    .put(CoreStrings.PROTOCOL_ROUTE, CoreStrings.ID_PING));
+
+            socket.write(frame.getBuffer(0, 2));
+            context.timer(100, done -> socket.write(frame.getBuffer(2, frame.length())));
+        });
+    }
+
+    @Test
+    public void testOversizedFrameRejected(TestContext test) {
+        Async async = test.async();
+
+        connect(socket -> {
+            socket.handler(parser(buffer -> {
+                test.assertEquals(ResponseStatus.BAD.name(),
+                        buffer.toJsonObject().getString(CoreStrings.PROTOCOL_STATUS));
+                async.complete();
+            }));
+            socket.write(Buffer.buffer().appendInt(Integer.MAX_VALUE));
+        });
+    }
+
+    @Test
+    public void testUnansweredRequestsTimeOut(TestContext test) {
+        Async async = test.async();
+        AtomicInteger received = new AtomicInteger();
+        ListenerSettings settings = new ListenerSettings()
+                .setPort(0)
+                .setSecure(false)
+                .setType(WireType.TCP)
+                .setFrameType(FrameType.LENGTH_PREFIX)
+                .setMaxPipelinedRequests(2)
+                .setTimeout(100);
+
+        // requests are never responded to and more requests are sent than may be pending.
+        context.listener(() -> new TcpListener().settings(settings).handler(new SilentHandler()))
+                .setHandler(deploy -> {
+                    test.assertTrue(deploy.succeeded());
+                    int port = settings.getListenPorts().iterator().next();
+
+                    context.vertx().createNetClient().connect(port, HOST, test.asyncAssertSuccess(socket -> {
+                        socket.handler(parser(buffer -> {
+                            test.assertEquals(ResponseStatus.ERROR.name(),
+                                    buffer.toJsonObject().getString(CoreStrings.PROTOCOL_STATUS));
+
+                            if (received.incrementAndGet() == PIPELINED_TIMEOUTS) {
+                                async.complete();
+                            }
+                        }));
+
+                        Buffer pipeline = Buffer.buffer();
+                        for (int i = 0; i < PIPELINED_TIMEOUTS; i++) {
+                            pipeline.appendBuffer(frame(new JsonObject()
+                                    .put(CoreStrings.PROTOCOL_TARGET, NODE_ROUTER)
+                                    .put(CoreStrings.PROTOCOL_ROUTE, route(i))));
+                        }
+                        socket.write(pipeline);
+                    }));
+                });
+    }
+
+    private static String route(int index) {
+        return CoreStrings.ID_PING + index;
+    }
+
+    private void connect(Consumer<NetSocket> handler) {
+        context.vertx().createNetClient().connect(port, HOST, connect -> {
+            if (connect.succeeded()) {
+                handler.accept(connect.result());
+            } else {
+                throw new RuntimeException(connect.cause());
+            }
+        });
+    }
+
+    private static Buffer frame(JsonObject data) {
+        Buffer payload = data.toBuffer();
+        return Buffer.buffer().appendInt(payload.length()).appendBuffer(payload);
+    }
+
+    private static class SilentHandler implements CoreHandler {
+        @Override
+        public void handle(Request request) {
+            // never writes a response.
+        }
+
+        @Override
+        public String address() {
+            return NODE_ROUTER;
+        }
+    }
+
+    private static RecordParser parser(Consumer<Buffer> handler) {
+        RecordParser parser = RecordParser.newFixed(4);
+        parser.handler(new Handler<>() {
+            private boolean header = true;
+
+            @Override
+            public void handle(Buffer buffer) {
+                if (header) {
+                    parser.fixedSizeMode(buffer.getInt(0));
+                } else {
+                    parser.fixedSizeMode(4);
+                    handler.accept(buffer);
+                }
+                header = !header;
+            }
+        });
+        return parser;
+    }
+}
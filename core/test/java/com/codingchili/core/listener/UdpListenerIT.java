@@ -3,9 +3,14 @@ package com.codingchili.core.listener;
 import com.codingchili.core.listener.transport.UdpListener;
 
 import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
 import io.vertx.ext.unit.junit.VertxUnitRunner;
+import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import com.codingchili.core.configuration.CoreStrings;
+
 
 /**
  * Test cases for UDP transport.
@@ -17,12 +22,26 @@ public class UdpListenerIT extends ListenerTestCases {
         super(WireType.UDP, UdpListener::new);
     }
 
+    @Test
+    public void testReplyFromListenPort(TestContext test) {
+        Async async = test.async();
+        JsonObject request = new JsonObject()
+                .put(CoreStrings.PROTOCOL_TARGET, NODE_ROUTER)
+                .put(CoreStrings.PROTOCOL_ROUTE, CoreStrings.ID_PING);
+
+        // the handler is set before sending, the reply may arrive before the send completes.
+        context.vertx().createDatagramSocket()
+                .handler(response -> {
+                    test.assertEquals(port, response.sender().port());
+                    async.complete();
+                })
+                .send(request.encode(), port, HOST, test.asyncAssertSuccess());
+    }
+
     @Override
     public void sendRequest(ResponseListener listener, JsonObject data) {
-        context.vertx().createDatagramSocket().send(data.encode(), port, HOST, handler -> {
-            if (handler.succeeded()) {
-                handler.result().handler(response -> handleBody(listener, response.data()));
-            }
-        });
+        context.vertx().createDatagramSocket()
+                .handler(response -> handleBody(listener, response.data()))
+                .send(data.encode(), port, HOST, sent -> {});
     }
 }
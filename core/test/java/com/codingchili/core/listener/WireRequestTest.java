@@ -0,0 +1,105 @@
+package com.codingchili.core.listener;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import com.codingchili.core.listener.transport.Connection;
+import com.codingchili.core.listener.transport.TcpRequest;
+import com.codingchili.core.protocol.CborWireCodec;
+import com.codingchili.core.protocol.Serializer;
+import com.codingchili.core.security.Token;
+
+import static com.codingchili.core.configuration.CoreStrings.*;
+
+/**
+ * Tests for requests that extract headers from encoded buffers.
+ */
+@RunWith(VertxUnitRunner.class)
+public class WireRequestTest {
+    private static final String ROUTE = "route";
+    private static final String TARGET = "target";
+    private static final String DOMAIN = "domain";
+    private static final String BODY = "body";
+
+    @Test
+    public void testHeadersWithoutDecodingBody(TestContext test) {
+        // the body is malformed after the headers: headers are read without reaching it.
+        Request request = request(Buffer.buffer(String.format(
+                "{\"%s\":\"%s\",\"%s\":\"%s\",\"%s\":%s,\"%s\": [malformed",
+                PROTOCOL_ROUTE, ROUTE, PROTOCOL_TARGET, TARGET,
+                ID_TOKEN, Serializer.json(new Token(DOMAIN)).encode(), BODY)), new ListenerSettings());
+
+        test.assertEquals(ROUTE, request.route());
+        test.assertEquals(TARGET, request.target());
+        test.assertEquals(DOMAIN, request.token().getDomain());
+
+        try {
+            request.data();
+            test.fail("Expected the body to fail decoding.");
+        } catch (DecodeException e) {
+            // expected.
+        }
+    }
+
+    @Test
+    public void testHeadersAfterBody(TestContext test) {
+        JsonObject data = new JsonObject()
+                .put(BODY, new JsonObject().put(PROTOCOL_ROUTE, BODY))
+                .put(PROTOCOL_ROUTE, ROUTE)
+                .put(PROTOCOL_TARGET, TARGET);
+        Request request = request(data.toBuffer(), new ListenerSettings());
+
+        test.assertEquals(ROUTE, request.route());
+        test.assertEquals(TARGET, request.target());
+        test.assertEquals(data, request.data());
+    }
+
+    @Test
+    public void testMissingHeaders(TestContext test) {
+        Request request = request(new JsonObject().toBuffer(), new ListenerSettings());
+
+        test.assertEquals(ANY, request.route());
+        test.assertEquals(Request.TARGET_UNDEFINED, request.target());
+        test.assertEquals(0L, request.token().getExpiry());
+    }
+
+    @Test
+    public void testMalformedHeaders(TestContext test) {
+        Request request = request(Buffer.buffer("not json"), new ListenerSettings());
+
+        test.assertEquals(ANY, request.route());
+        test.assertEquals(Request.TARGET_UNDEFINED, request.target());
+    }
+
+    @Test
+    public void testTokenUnpackedOnce(TestContext test) {
+        Request request = request(new JsonObject()
+                .put(ID_TOKEN, Serializer.json(new Token(DOMAIN))).toBuffer(), new ListenerSettings());
+
+        test.assertTrue(request.token() == request.token());
+    }
+
+    @Test
+    public void testHeadersWithCodec(TestContext test) {
+        ListenerSettings settings = new ListenerSettings().setCodec(CborWireCodec.NAME);
+        Request request = request(settings.getWireCodec().encode(new JsonObject()
+                .put(BODY, new JsonObject().put(BODY, BODY))
+                .put(PROTOCOL_ROUTE, ROUTE)
+                .put(PROTOCOL_TARGET, TARGET)
+                .put(ID_TOKEN, Serializer.json(new Token(DOMAIN)))), settings);
+
+        test.assertEquals(ROUTE, request.route());
+        test.assertEquals(TARGET, request.target());
+        test.assertEquals(DOMAIN, request.token().getDomain());
+        test.assertEquals(BODY, request.data().getJsonObject(BODY).getString(BODY));
+    }
+
+    private Request request(Buffer buffer, ListenerSettings settings) {
+        return new TcpRequest(new Connection(message -> {}, ""), buffer, settings);
+    }
+}
@@ -1,14 +1,22 @@
 package com.codingchili.core.logging;
 
+import io.vertx.core.json.JsonObject;
 import io.vertx.ext.unit.TestContext;
 import io.vertx.ext.unit.junit.VertxUnitRunner;
 import org.fusesource.jansi.Ansi;
 import org.junit.*;
 import org.junit.runner.RunWith;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
 import com.codingchili.core.context.SystemContext;
 import com.codingchili.core.testing.ContextMock;
 
+import static com.codingchili.core.configuration.CoreStrings.*;
+
 /**
  * Verifies the console logger can write.
  */
@@ -48,11 +56,106 @@ public class ConsoleLoggerTest {
         logger.log("registered", registered);
     }
 
+    @Test
+    public void testFormatKeepsEvent(TestContext test) {
+        JsonObject event = new JsonObject()
+                .put(LOG_LEVEL, Level.INFO.getName())
+                .put(LOG_MESSAGE, "line")
+                .put(LOG_SOURCE, "source")
+                .put(LOG_TIME, 0L);
+        JsonObject original = event.copy();
+
+        // the event is shared with the remote logger and must not be modified.
+        logger.parseJsonLog(event, "");
+        test.assertEquals(original, event);
+    }
+
     @Test
     public void testLogNotInitialized() {
         new ConsoleLogger(getClass()).log("");
     }
 
+    @Test
+    public void testWriterDropsOldestWhenFull(TestContext test) throws InterruptedException {
+        List<Integer> written = new CopyOnWriteArrayList<>();
+        long dropped = writeWhileBusy(OverflowPolicy.DROP_OLDEST, written);
+        test.assertEquals(2L, dropped);
+        test.assertEquals(Arrays.asList(2, 3), written);
+    }
+
+    @Test
+    public void testWriterCallerWritesWhenFull(TestContext test) throws InterruptedException {
+        List<Integer> written = new CopyOnWriteArrayList<>();
+        ConsoleWriter writer = new ConsoleWriter();
+        CountDownLatch release = busy(writer, OverflowPolicy.BLOCK);
+        long dropped = writer.dropped();
+
+        Thread caller = new Thread(() -> {
+            for (int i = 0; i < 4; i++) {
+                int line = i;
+                writer.submit(() -> written.add(line));
+            }
+        });
+        caller.start();
+
+        // the caller must wait for the line that is being written before writing the queued lines.
+        while (caller.getState() != Thread.State.BLOCKED) {
+            Thread.sleep(1);
+        }
+        test.assertTrue(written.isEmpty());
+
+        release.countDown();
+        caller.join();
+        writer.close();
+        test.assertEquals(0L, writer.dropped() - dropped);
+        test.assertEquals(Arrays.asList(0, 1, 2, 3), written);
+    }
+
+    /**
+     * Submits four writes to a writer with a capacity of two while its thread is busy.
+     *
+     * @return the number of writes that were dropped.
+     */
+    private long writeWhileBusy(OverflowPolicy policy, List<Integer> written) throws InterruptedException {
+        ConsoleWriter writer = new ConsoleWriter();
+        CountDownLatch release = busy(writer, policy);
+        long dropped = writer.dropped();
+
+        for (int i = 0; i < 4; i++) {
+            int line = i;
+            writer.submit(() -> written.add(line));
+        }
+        dropped = writer.dropped() - dropped;
+        release.countDown();
+        writer.close();
+        return dropped;
+    }
+
+    /**
+     * Configures a writer with a capacity of two and blocks its thread in a write.
+     *
+     * @return a latch that completes the blocked write when counted down.
+     */
+    private CountDownLatch busy(ConsoleWriter writer, OverflowPolicy policy) throws InterruptedException {
+        CountDownLatch busy = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        writer.configure(new LoggingSettings()
+                .setConsoleCapacity(2)
+                .setConsoleOverflow(policy));
+
+        writer.submit(() -> {
+            busy.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        busy.await();
+        return release;
+    }
+
     private static LogLevel create(String name) {
         return new LogLevel() {
             @Override
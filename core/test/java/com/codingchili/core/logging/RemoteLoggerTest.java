@@ -2,6 +2,8 @@ package com.codingchili.core.logging;
 
 import com.codingchili.core.context.CoreContext;
 import com.codingchili.core.testing.ContextMock;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
 import io.vertx.ext.unit.junit.VertxUnitRunner;
@@ -10,13 +12,17 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
-import static com.codingchili.core.configuration.CoreStrings.NODE_LOGGING;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.codingchili.core.configuration.CoreStrings.*;
 
 /**
  * Verify that the remote logger is pushing events to a remote.
  */
 @RunWith(VertxUnitRunner.class)
 public class RemoteLoggerTest {
+    private static final int BATCH_DELAY = 60000;
     private CoreContext context;
 
     @Before
@@ -35,6 +41,114 @@ public class RemoteLoggerTest {
         new RemoteLogger(context, getClass()).log("text");
     }
 
+    @Test
+    public void testLogBufferedPerEvent(TestContext test) {
+        Async async = test.async(3);
+        RemoteLogBuffer buffer = new RemoteLogBuffer(context.vertx(), new LoggingSettings()
+                .setBatchSize(3)
+                .setBatchDelay(BATCH_DELAY));
+        JsonArray expected = events(0, 1, 2);
+
+        context.bus().<JsonObject>consumer(NODE_LOGGING).handler(message -> {
+            JsonObject body = message.body();
+            // without batching each event is sent on the route served by existing logging nodes.
+            test.assertEquals(PROTOCOL_LOGGING, body.getString(PROTOCOL_ROUTE));
+            test.assertEquals(expected.remove(0), body.getJsonObject(PROTOCOL_MESSAGE));
+            async.countDown();
+        });
+        for (int i = 0; i < 3; i++) {
+            buffer.add(event(i));
+        }
+    }
+
+    @Test
+    public void testLogBatched(TestContext test) {
+        Async async = test.async();
+        RemoteLogBuffer buffer = new RemoteLogBuffer(context.vertx(), new LoggingSettings()
+                .setBatching(true)
+                .setBatchSize(3)
+                .setBatchDelay(BATCH_DELAY));
+
+        context.bus().<JsonObject>consumer(NODE_LOGGING).handler(message -> {
+            JsonObject body = message.body();
+            test.assertEquals(PROTOCOL_LOGGING_BATCH, body.getString(PROTOCOL_ROUTE));
+            test.assertEquals(events(0, 1, 2), body.getJsonArray(PROTOCOL_MESSAGE));
+            async.complete();
+        });
+        // the batch is sent when the batch size is reached.
+        for (int i = 0; i < 3; i++) {
+            buffer.add(event(i));
+        }
+    }
+
+    @Test
+    public void testOverflowDropOldest(TestContext test) {
+        overflow(test, OverflowPolicy.DROP_OLDEST, events(2, 3, 4, 5));
+    }
+
+    @Test
+    public void testOverflowSample(TestContext test) {
+        // the first overflowing event is kept, then one out of every two.
+        overflow(test, OverflowPolicy.SAMPLE, events(2, 3, 4, 6));
+    }
+
+    @Test
+    public void testOverflowBlock(TestContext test) {
+        overflow(test, OverflowPolicy.BLOCK, events(0, 1, 2, 3, 4, 5));
+    }
+
+    @Test
+    public void testSampleRateBelowOneKeepsEvents(TestContext test) {
+        LoggingSettings settings = new LoggingSettings()
+                .setOverflow(OverflowPolicy.SAMPLE)
+                .setCapacity(1)
+                .setSampleRate(0)
+                .setBatchDelay(BATCH_DELAY);
+        RemoteLogBuffer buffer = new RemoteLogBuffer(context.vertx(), settings);
+
+        test.assertEquals(1, settings.getSampleRate());
+        for (int i = 0; i < 3; i++) {
+            buffer.add(event(i));
+        }
+    }
+
+    private void overflow(TestContext test, OverflowPolicy policy, JsonArray expected) {
+        Async async = test.async();
+        JsonArray received = new JsonArray();
+        RemoteLogBuffer buffer = new RemoteLogBuffer(context.vertx(), new LoggingSettings()
+                .setBatching(true)
+                .setOverflow(policy)
+                .setCapacity(4)
+                .setSampleRate(2)
+                .setBatchDelay(BATCH_DELAY));
+
+        context.bus().<JsonObject>consumer(NODE_LOGGING).handler(message -> {
+            received.addAll(message.body().getJsonArray(PROTOCOL_MESSAGE));
+
+            if (received.size() == expected.size()) {
+                test.assertEquals(expected, received);
+                async.complete();
+            }
+        });
+
+        for (int i = 0; i < ((policy == OverflowPolicy.SAMPLE) ? 7 : 6); i++) {
+            buffer.add(event(i));
+        }
+        buffer.flush();
+    }
+
+    private static JsonObject event(int index) {
+        return new JsonObject().put(ID_NAME, index);
+    }
+
+    private static JsonArray events(int... indexes) {
+        List<Object> events = new ArrayList<>();
+        for (int index : indexes) {
+            events.add(event(index));
+        }
+        return new JsonArray(events);
+    }
+
     private void mockNode(Async async) {
         context.bus().consumer(NODE_LOGGING).handler(message -> {
             async.complete();
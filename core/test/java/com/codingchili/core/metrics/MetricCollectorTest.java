@@ -0,0 +1,177 @@
+package com.codingchili.core.metrics;
+
+import com.codahale.metrics.MetricRegistry;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import com.codingchili.core.context.CoreContext;
+import com.codingchili.core.context.SystemContext;
+
+/**
+ * Tests for the metric collector.
+ */
+@RunWith(VertxUnitRunner.class)
+public class MetricCollectorTest {
+    private static final String ROUTE = "realm.character.list";
+    private static final String ALIAS = "characters";
+    private MetricSettings settings;
+    private MetricCollector collector;
+    private MetricRegistry registry;
+    private CoreContext context;
+
+    @Before
+    public void setUp() {
+        context = new SystemContext();
+        settings = new MetricSettings();
+        collector = new MetricCollector(context, settings, UUID.randomUUID().toString());
+        registry = collector.registry();
+
+        registry.counter("sessions.active").inc(3);
+        registry.meter(ROUTE + ".requests").mark(2);
+        HdrReservoir.timer(registry, ROUTE + ".latency").update(1, TimeUnit.MILLISECONDS);
+        registry.gauge("process.ready", () -> () -> true);
+    }
+
+    @After
+    public void tearDown(TestContext test) {
+        context.close(test.asyncAssertSuccess());
+    }
+
+    @Test
+    public void testPrometheusFormat(TestContext test) {
+        Async async = test.async();
+
+        collector.prometheus().onComplete(done -> {
+            String text = done.result().toString();
+            test.assertTrue(text.contains("# TYPE sessions_active gauge\nsessions_active 3\n"));
+            test.assertTrue(text.contains("# TYPE realm_character_list_requests_total counter\n"));
+            test.assertTrue(text.contains("realm_character_list_requests_total 2\n"));
+            test.assertTrue(text.contains("# TYPE realm_character_list_latency summary\n"));
+            test.assertTrue(text.contains("realm_character_list_latency{quantile=\"0.5\"} 0.001"));
+            test.assertTrue(text.contains("realm_character_list_latency_count 1\n"));
+            test.assertTrue(text.contains("process_ready 1\n"));
+            async.complete();
+        });
+    }
+
+    @Test
+    public void testPrometheusFiltered(TestContext test) {
+        Async async = test.async();
+
+        settings.addFilter(filter -> filter.setPath(ROUTE).setAlias(ALIAS).exclude("median"));
+
+        collector.prometheus().onComplete(done -> {
+            String text = done.result().toString();
+            test.assertFalse(text.contains("sessions_active"));
+            test.assertFalse(text.contains(ROUTE.replace('.', '_')));
+            test.assertTrue(text.contains("characters_requests_total 2\n"));
+            test.assertTrue(text.contains("characters_latency_count 1\n"));
+            test.assertFalse(text.contains("quantile=\"0.5\""));
+            test.assertTrue(text.contains("quantile=\"0.95\""));
+            async.complete();
+        });
+    }
+
+    @Test
+    public void testSnapshotDefaultIncludes(TestContext test) {
+        Async async = test.async();
+
+        collector.snapshot().onComplete(done -> {
+            JsonObject json = done.result();
+            test.assertEquals(3L, json.getJsonObject("sessions.active").getLong("count"));
+            test.assertFalse(json.getJsonObject("sessions.active").containsKey("type"));
+            test.assertEquals(true, json.getJsonObject("process.ready").getBoolean("value"));
+            test.assertTrue(Math.abs(json.getJsonObject(ROUTE + ".latency").getDouble("median") - 1.0) < 0.01);
+            test.assertEquals(MetricFilter.defaultIncludes().size() - 1,
+                    json.getJsonObject(ROUTE + ".latency").size());
+            test.assertTrue(json.containsKey(MetricCollector.PROCESS_NAME));
+            async.complete();
+        });
+    }
+
+    @Test
+    public void testSnapshotFieldsMatchConverted(TestContext test) {
+        Async async = test.async();
+
+        settings.setIncludes(new HashSet<>());
+
+        collector.snapshot().onComplete(done -> {
+            JsonObject json = done.result();
+            registry.getMetrics().forEach((name, metric) -> {
+                JsonObject converted = MetricFilter.convert(metric, name).getJsonObject(name);
+                JsonObject selected = json.getJsonObject(name);
+                test.assertEquals(new ArrayList<>(converted.fieldNames()), new ArrayList<>(selected.fieldNames()));
+                test.assertEquals(converted.getValue("type"), selected.getValue("type"));
+                test.assertEquals(converted.getValue("count"), selected.getValue("count"));
+                test.assertEquals(converted.getValue("max"), selected.getValue("max"));
+            });
+            async.complete();
+        });
+    }
+
+    @Test
+    public void testSnapshotFiltered(TestContext test) {
+        Async async = test.async();
+
+        collector.snapshot().onComplete(first -> {
+            settings.addFilter(filter -> filter.setPath(ROUTE + ".lat").exclude("median"));
+            settings.addFilter(filter -> filter.setPath(ROUTE).setAlias(ALIAS));
+
+            collector.snapshot().onComplete(done -> {
+                JsonObject json = done.result();
+                test.assertFalse(json.containsKey("sessions.active"));
+                test.assertFalse(json.getJsonObject(ROUTE + ".latency").containsKey("median"));
+                test.assertTrue(json.getJsonObject(ROUTE + ".latency").containsKey("95%"));
+                test.assertEquals(2L, json.getJsonObject(ALIAS + ".requests").getLong("count"));
+                async.complete();
+            });
+        });
+    }
+
+    @Test
+    public void testEventLoopLagRecorded(TestContext test) {
+        Async async = test.async();
+        String name = UUID.randomUUID().toString();
+        MetricRegistry registry = new MetricCollector(context, new MetricSettings().setEventLoop(true), name).registry();
+
+        context.timer(TimeUnit.NANOSECONDS.toMillis(EventLoopProbe.INTERVAL) * 3, done -> {
+            test.assertTrue(registry.timer("eventloop.0.lag").getCount() > 0);
+            async.complete();
+        });
+    }
+
+    @Test
+    public void testPrometheusNameSanitized(TestContext test) {
+        test.assertEquals("vertx_http_servers_0_0_0_0:8080_requests",
+                PrometheusWriter.sanitize("vertx.http.servers.0.0.0.0:8080.requests"));
+        test.assertEquals("_9lives", PrometheusWriter.sanitize("9lives"));
+    }
+
+    @Test
+    public void testPrometheusNameCollision(TestContext test) {
+        Async async = test.async();
+        registry.counter("sessions_active").inc(5);
+
+        collector.prometheus().onComplete(done -> {
+            String text = done.result().toString();
+            // each family must be written once, or the whole scrape is rejected.
+            test.assertEquals(text.indexOf("# TYPE sessions_active "),
+                    text.lastIndexOf("# TYPE sessions_active "));
+            test.assertTrue(text.contains("# TYPE sessions_active_2 gauge\n"));
+            test.assertTrue(text.contains("sessions_active 3\n") || text.contains("sessions_active 5\n"));
+            test.assertTrue(text.contains("sessions_active_2 3\n") || text.contains("sessions_active_2 5\n"));
+            async.complete();
+        });
+    }
+}
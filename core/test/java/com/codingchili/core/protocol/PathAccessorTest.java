@@ -0,0 +1,103 @@
+package com.codingchili.core.protocol;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.*;
+
+import com.codingchili.core.context.CoreRuntimeException;
+import com.codingchili.core.testing.StorageObject;
+
+import static com.codingchili.core.configuration.CoreStrings.STORAGE_ARRAY;
+
+/**
+ * Tests for the compiled path accessors.
+ */
+@RunWith(VertxUnitRunner.class)
+public class PathAccessorTest {
+    private static final String NAME = "name";
+    private static final String NESTED_NAME = "nested.name";
+    private static final String KEYWORDS = "keywords" + STORAGE_ARRAY;
+
+    @Test
+    public void testAccessorsCachedByPath(TestContext test) {
+        test.assertTrue(PathAccessor.of(NESTED_NAME) == PathAccessor.of(NESTED_NAME));
+    }
+
+    @Test
+    public void testAccessorCacheBounded(TestContext test) {
+        PathAccessor accessor = PathAccessor.of(NESTED_NAME);
+
+        // paths given by clients must not grow the cache without limit.
+        for (int i = 0; i < 4096; i++) {
+            PathAccessor.of(NAME + i);
+        }
+        test.assertTrue(accessor != PathAccessor.of(NESTED_NAME));
+    }
+
+    @Test
+    public void testReadNestedField(TestContext test) {
+        StorageObject object = new StorageObject(NAME, 1);
+        test.assertEquals(Collections.singleton(StorageObject.NESTED_PREFIX + NAME),
+                PathAccessor.of(NESTED_NAME).get(object));
+    }
+
+    @Test
+    public void testReadInheritedField(TestContext test) {
+        StorageObject object = new StorageObject(NAME, 1) {
+            // anonymous subclass, the field is declared in the super class.
+        };
+        test.assertEquals(Collections.singleton(1), PathAccessor.of(StorageObject.levelField).get(object));
+    }
+
+    @Test
+    public void testReadCollection(TestContext test) {
+        StorageObject object = new StorageObject(NAME, 1);
+        test.assertEquals(object.getKeywords(), PathAccessor.of(KEYWORDS).get(object));
+    }
+
+    @Test
+    public void testReadMapAndJson(TestContext test) {
+        Map<String, Object> map = new HashMap<>();
+        map.put(NAME, new JsonObject().put(NAME, NAME));
+        test.assertEquals(Collections.singleton(NAME), PathAccessor.of(NAME + "." + NAME).get(map));
+    }
+
+    @Test
+    public void testReadJsonArray(TestContext test) {
+        JsonObject json = new JsonObject().put(NAME, new JsonObject()
+                .put(NAME, new JsonArray().add(1).add(2)));
+        test.assertEquals(Arrays.asList(1, 2), PathAccessor.of(NAME + "." + NAME).get(json));
+    }
+
+    @Test
+    public void testReadSameFieldOfDifferentClasses(TestContext test) {
+        PathAccessor accessor = PathAccessor.of(NAME);
+        test.assertEquals(Collections.singleton(NAME), accessor.get(new JsonObject().put(NAME, NAME)));
+        test.assertEquals(Collections.singleton(NAME), accessor.get(new StorageObject(NAME, 1)));
+    }
+
+    @Test
+    public void testMissingFieldFails(TestContext test) {
+        try {
+            PathAccessor.of("missing").get(new StorageObject(NAME, 1));
+            test.fail("Expected the accessor to fail on a missing field.");
+        } catch (CoreRuntimeException e) {
+            // expected.
+        }
+    }
+
+    @Test
+    public void testNullInPathFails(TestContext test) {
+        try {
+            PathAccessor.of(NESTED_NAME).get(new StorageObject());
+            test.fail("Expected the accessor to fail on a null value in the path.");
+        } catch (CoreRuntimeException e) {
+            // expected.
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.codingchili.core.listener.Request;
 import com.codingchili.core.protocol.exception.AuthorizationRequiredException;
 import com.codingchili.core.protocol.exception.HandlerMissingException;
 import com.codingchili.core.testing.EmptyRequest;
+import io.vertx.core.Promise;
 import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
 import io.vertx.ext.unit.junit.Timeout;
@@ -18,6 +19,7 @@ import org.junit.runner.RunWith;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import static com.codingchili.core.configuration.CoreStrings.ANY;
 import static com.codingchili.core.protocol.Role.*;
 
 /**
@@ -170,6 +172,80 @@ public abstract class ProtocolTest {
         }
     }
 
+    @Test
+    public void testRouteAddedAfterFirstRequest(TestContext test) {
+        protocol.get(defaultRolePublic, PUBLIC);
+        protocol.use(MISSING, request -> request.write(MISSING), PUBLIC);
+        protocol.get(MISSING, PUBLIC).submit(onWrite(test.async(), MISSING));
+    }
+
+    @Test
+    public void testExactRoleHandlerPreferred(TestContext test) {
+        protocol.use(MISSING, request -> request.write(USER.getName()), USER)
+                .use(MISSING, request -> request.write(ADMIN.getName()), ADMIN);
+
+        protocol.get(MISSING, USER).submit(onWrite(test.async(), USER.getName()));
+        protocol.get(MISSING, ADMIN).submit(onWrite(test.async(), ADMIN.getName()));
+        protocol.get(MISSING, RoleMap.get(CUSTOM_ROLE)).submit(onWrite(test.async(), USER.getName()));
+    }
+
+    @Test
+    public void testAnyRouteFallback(TestContext test) {
+        protocol.use(ANY, request -> request.write(ANY), USER);
+        protocol.get(MISSING, USER).submit(onWrite(test.async(), ANY));
+        try {
+            protocol.get(MISSING, PUBLIC);
+            test.fail("Fallback route must require authorization.");
+        } catch (AuthorizationRequiredException ignored) {
+        }
+    }
+
+    @Test
+    public void testRouteMapperErrorAfterAsyncAuthentication(TestContext test) {
+        Async async = test.async();
+        Promise<RoleType> authenticated = Promise.promise();
+
+        protocol.authenticator(request -> authenticated.future())
+                .routeMapper(request -> {
+                    throw new CoreRuntimeException(MISSING);
+                });
+        protocol.process(new EmptyRequest() {
+            @Override
+            public void error(Throwable exception) {
+                async.complete();
+            }
+        });
+        authenticated.complete(PUBLIC);
+    }
+
+    @Test
+    public void testNullRouteResponds(TestContext test) {
+        Async async = test.async();
+        protocol.routeMapper(request -> null).process(new EmptyRequest() {
+            @Override
+            public void error(Throwable exception) {
+                async.complete();
+            }
+        });
+    }
+
+    @Test
+    public void testBoundApiWithoutArguments(TestContext test) {
+        Async async = test.async();
+        Protocol<Request> protocol = new Protocol<>(new CoreHandler() {
+            @Api(RoleMap.PUBLIC)
+            private void ping() {
+                async.complete();
+            }
+
+            @Override
+            public void handle(Request request) {
+                // unused: protocol is called directly.
+            }
+        });
+        protocol.get("ping", PUBLIC).submit(new EmptyRequest());
+    }
+
     @Test
     public void testHandlerMissingAddress(TestContext test) {
         try {
@@ -38,6 +38,21 @@ public class SerializerTest {
         test.assertTrue(packed.endsWith("}"));
     }
 
+    @Test
+    public void testBufferIsCompact(TestContext test) {
+        String buffer = Serializer.buffer(token).toString();
+
+        test.assertFalse(buffer.contains("\n"));
+        test.assertFalse(Response.buffer(token).toString().contains("\n"));
+        test.assertEquals(token.getDomain(), new JsonObject(buffer).getString(CoreStrings.ID_DOMAIN));
+    }
+
+    @Test
+    public void testPackIsIndented(TestContext test) {
+        test.assertTrue(Serializer.pack(token).contains("\n"));
+        test.assertTrue(Serializer.prettyBuffer(token).toString().contains("\n"));
+    }
+
     @Test
     public void testUnpackString(TestContext test) {
         String packed = Serializer.pack(token);
@@ -0,0 +1,87 @@
+package com.codingchili.core.protocol;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import com.codingchili.core.context.CoreRuntimeException;
+import com.codingchili.core.listener.ListenerSettings;
+import com.codingchili.core.listener.Request;
+import com.codingchili.core.listener.transport.Connection;
+import com.codingchili.core.listener.transport.TcpRequest;
+import com.codingchili.core.security.Token;
+
+import static com.codingchili.core.configuration.CoreStrings.*;
+
+/**
+ * Tests for the wire codecs.
+ */
+@RunWith(VertxUnitRunner.class)
+public class WireCodecTest {
+    private static final String TARGET = "target.node";
+    private static final String ROUTE = "route";
+    private static final String DOMAIN = "domain";
+    private static final String NESTED = "nested";
+    private static final String LIST = "list";
+    private static final String VALUE = "value";
+
+    @Test
+    public void testCborRoundTrip(TestContext test) {
+        WireCodec codec = WireCodecs.get(CborWireCodec.NAME);
+        JsonObject decoded = codec.decode(codec.encode(message()));
+
+        test.assertEquals(TARGET, decoded.getString(PROTOCOL_TARGET));
+        test.assertEquals(42, decoded.getJsonObject(NESTED).getInteger(VALUE));
+        test.assertEquals(2, decoded.getJsonObject(NESTED).getJsonArray(LIST).size());
+        test.assertEquals(message(), decoded);
+    }
+
+    @Test
+    public void testCborSmallerThanJson(TestContext test) {
+        Buffer json = WireCodecs.json().encode(message());
+        Buffer cbor = WireCodecs.get(CborWireCodec.NAME).encode(message());
+
+        test.assertTrue(cbor.length() < json.length());
+    }
+
+    @Test
+    public void testRequestHeadersWithCodec(TestContext test) {
+        ListenerSettings settings = new ListenerSettings().setCodec(CborWireCodec.NAME);
+        Buffer buffer = settings.getWireCodec().encode(message());
+        Request request = new TcpRequest(new Connection(message -> {}, ""), buffer, settings);
+
+        test.assertEquals(TARGET, request.target());
+        test.assertEquals(ROUTE, request.route());
+        test.assertEquals(DOMAIN, request.token().getDomain());
+    }
+
+    @Test
+    public void testResponseEncodedWithCodec(TestContext test) {
+        WireCodec codec = WireCodecs.get(CborWireCodec.NAME);
+        Buffer buffer = Response.buffer(codec, TARGET, ROUTE, new JsonObject());
+        JsonObject response = codec.decode(buffer);
+
+        test.assertEquals(TARGET, response.getString(PROTOCOL_TARGET));
+        test.assertEquals(ROUTE, response.getString(PROTOCOL_ROUTE));
+        test.assertEquals(ResponseStatus.ACCEPTED.name(), response.getString(PROTOCOL_STATUS));
+    }
+
+    @Test(expected = CoreRuntimeException.class)
+    public void testMissingCodec() {
+        new ListenerSettings().setCodec("missing").getWireCodec();
+    }
+
+    private JsonObject message() {
+        return new JsonObject()
+                .put(PROTOCOL_TARGET, TARGET)
+                .put(PROTOCOL_ROUTE, ROUTE)
+                .put(ID_TOKEN, Serializer.json(new Token(DOMAIN).setExpiry(0)))
+                .put(NESTED, new JsonObject()
+                        .put(VALUE, 42)
+                        .put(LIST, new JsonArray().add(1).add("two")));
+    }
+}
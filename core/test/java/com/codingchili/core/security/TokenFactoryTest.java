@@ -1,7 +1,9 @@
 package com.codingchili.core.security;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
@@ -146,6 +148,41 @@ public class TokenFactoryTest {
         });
     }
 
+    @Test
+    public void testVerifyFailNestedPropertyModified(TestContext test) {
+        Async async = test.async();
+        List<String> roles = new ArrayList<>(Arrays.asList("programmer", "tester"));
+        Token token = new Token(domain).addProperty("roles", roles);
+
+        tokenFactory.hmac(token).setHandler(hmac -> {
+            tokenFactory.verify(token).setHandler(verify -> {
+                test.assertTrue(verify.succeeded());
+                // the verified token is cached, modifications must still be detected.
+                roles.add("root");
+
+                tokenFactory.verify(token).setHandler(done -> {
+                    test.assertTrue(done.failed());
+                    async.complete();
+                });
+            });
+        });
+    }
+
+    @Test
+    public void testTokenCacheEvictsExpiredAndEldest(TestContext test) {
+        TokenCache cache = new TokenCache(2);
+        cache.add("a", now + 60);
+        cache.add("b", now);
+        test.assertTrue(cache.contains("a", now));
+        test.assertFalse(cache.contains("b", now));
+
+        cache.add("c", now + 60);
+        cache.add("d", now + 60);
+        test.assertFalse(cache.contains("a", now));
+        test.assertTrue(cache.contains("d", now));
+        test.assertFalse(new TokenCache(0).isEnabled());
+    }
+
     @Test
     public void testSerializeToken(TestContext test) {
         Async async = test.async();
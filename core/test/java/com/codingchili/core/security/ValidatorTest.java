@@ -8,7 +8,9 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import com.codingchili.core.configuration.RegexComponent;
 import com.codingchili.core.configuration.system.ValidatorSettings;
+import com.codingchili.core.protocol.Serializer;
 import com.codingchili.core.protocol.exception.RequestValidationException;
 import static com.codingchili.core.configuration.CoreStrings.*;
 import static com.codingchili.core.security.RegexAction.*;
@@ -166,6 +168,35 @@ public class ValidatorTest {
         }
     }
 
+    @Test
+    public void testAllMatchingValidatorsApplied(TestContext test) {
+        Validator validator = new Validator()
+            .add(new ValidatorSettings("first").addKey(KEY).addRegex(SUBSTITUTE, "a", "x"))
+            .add(new ValidatorSettings("second").addKey(KEY).addRegex(SUBSTITUTE, "b", "y"))
+            .add(new ValidatorSettings("other").addKey(NESTED).addRegex(SUBSTITUTE, ".*", ""));
+
+        JsonObject json = validator.validate(new JsonObject()
+            .put(KEY, "aab")
+            .put("list", new JsonArray().add(new JsonObject().put(KEY, "ba"))));
+
+        test.assertEquals("xxy", json.getString(KEY));
+        test.assertEquals("yx", json.getJsonArray("list").getJsonObject(0).getString(KEY));
+    }
+
+    @Test
+    public void testPatternCompiledWhenLoaded(TestContext test) {
+        RegexComponent regex = Serializer.unpack(new JsonObject()
+            .put("action", ACCEPT.name())
+            .put("expression", "[a-z]*")
+            .put("substitution", "$1"), RegexComponent.class);
+
+        test.assertEquals("[a-z]*", regex.getPattern().pattern());
+        test.assertEquals("\\$1", regex.getReplacement());
+
+        regex.setExpression("[0-9]*");
+        test.assertEquals("[0-9]*", regex.getPattern().pattern());
+    }
+
     private JsonObject getNestedObject(String value) {
         return new JsonObject().put(NESTED, new JsonObject().put(KEY, value));
     }
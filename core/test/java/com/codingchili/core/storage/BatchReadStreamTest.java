@@ -0,0 +1,82 @@
+package com.codingchili.core.storage;
+
+import io.vertx.core.*;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import org.junit.*;
+import org.junit.runner.RunWith;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests that batch read streams release their source when cancelled.
+ */
+@RunWith(VertxUnitRunner.class)
+public class BatchReadStreamTest {
+    private Vertx vertx;
+
+    @Before
+    public void setUp() {
+        vertx = Vertx.vertx();
+    }
+
+    @After
+    public void tearDown(TestContext test) {
+        vertx.close(test.asyncAssertSuccess());
+    }
+
+    @Test
+    public void testSourceClosedWhenHandlerRemoved(TestContext test) {
+        Async async = test.async();
+        AtomicInteger closed = new AtomicInteger(0);
+        ReadStream<Integer> stream = new BatchReadStream<>(vertx, source(closed));
+
+        stream.endHandler(end -> test.fail("a cancelled stream must not end."))
+                .handler(value -> {
+                    // the consumer drops the stream without reading all values.
+                    stream.handler(null);
+                    vertx.setTimer(50, timer -> {
+                        test.assertEquals(1, closed.get());
+                        async.complete();
+                    });
+                });
+    }
+
+    @Test
+    public void testSourceClosedOnEnd(TestContext test) {
+        Async async = test.async();
+        AtomicInteger closed = new AtomicInteger(0);
+        AtomicInteger count = new AtomicInteger(0);
+
+        new BatchReadStream<>(vertx, source(closed))
+                .endHandler(end -> {
+                    test.assertEquals(BatchReadStream.BATCH_SIZE * 2, count.get());
+                    test.assertEquals(1, closed.get());
+                    async.complete();
+                })
+                .handler(value -> count.incrementAndGet());
+    }
+
+    private BatchReadStream.BatchSource<Integer> source(AtomicInteger closed) {
+        Iterator<Integer> values = new ArrayList<Integer>() {{
+            for (int i = 0; i < BatchReadStream.BATCH_SIZE * 2; i++) {
+                add(i);
+            }
+        }}.iterator();
+
+        return new BatchReadStream.BatchSource<>() {
+            @Override
+            public void next(Handler<AsyncResult<List<Integer>>> handler) {
+                handler.handle(Future.succeededFuture(BatchReadStream.batch(values)));
+            }
+
+            @Override
+            public void close() {
+                closed.incrementAndGet();
+            }
+        };
+    }
+}
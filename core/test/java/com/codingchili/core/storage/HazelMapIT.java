@@ -1,8 +1,14 @@
 package com.codingchili.core.storage;
 
+import com.codahale.metrics.SharedMetricRegistries;
 import com.codingchili.core.context.CoreContext;
 import com.codingchili.core.context.SystemContext;
+import com.codingchili.core.context.TimerSource;
+import com.codingchili.core.metrics.MetricSettings;
+import com.codingchili.core.testing.StorageObject;
 
+import io.vertx.core.Handler;
+import io.vertx.core.json.JsonObject;
 import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
 import io.vertx.ext.unit.junit.VertxUnitRunner;
@@ -10,6 +16,7 @@ import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
 import org.junit.BeforeClass;
+import org.junit.Test;
 import org.junit.runner.RunWith;
 
 /**
@@ -18,6 +25,8 @@ import org.junit.runner.RunWith;
  */
 @RunWith(VertxUnitRunner.class)
 public class HazelMapIT extends MapTestCases {
+    private static final String NEAR_CACHE_DB = "nearCache";
+    private static final String NEAR_CACHE_HITS = "storage.nearCache.nearcache.hits";
     private static CoreContext context;
 
     @BeforeClass
@@ -46,4 +55,40 @@ public class HazelMapIT extends MapTestCases {
     public void setUp(TestContext test) {
         super.setUp(test, HazelMap.class, context);
     }
+
+    @Test
+    public void testNearCacheInvalidatedOnClusterUpdate(TestContext test) {
+        Async async = test.async();
+        StorageObject object = new StorageObject(NEAR_CACHE_DB, 1);
+
+        load(16, cached -> load(0, uncached -> {
+            cached.put(object, put -> cached.get(object.getId(), first -> cached.get(object.getId(), second -> {
+                test.assertEquals(1, second.result().getLevel());
+                test.assertFalse(first.result() == second.result());
+                test.assertTrue(SharedMetricRegistries.getOrCreate(MetricSettings.REGISTRY_NAME)
+                        .counter(NEAR_CACHE_HITS).getCount() > 0);
+
+                // update the value through a storage without a near-cache, as if on another node.
+                uncached.update(new StorageObject(NEAR_CACHE_DB, 2), update -> {
+                    context.periodic(TimerSource.of(50).setName(NEAR_CACHE_DB), timer -> {
+                        cached.get(object.getId(), get -> {
+                            if (get.result().getLevel() == 2) {
+                                context.cancel(timer);
+                                cached.clear(cleared -> async.complete());
+                            }
+                        });
+                    });
+                });
+            })));
+        }));
+    }
+
+    private void load(int nearCache, Handler<AsyncStorage<StorageObject>> handler) {
+        new StorageLoader<StorageObject>(context)
+                .withDB(NEAR_CACHE_DB, NEAR_CACHE_DB)
+                .withValue(StorageObject.class)
+                .withPlugin(HazelMap.class)
+                .withProperties(new JsonObject().put(HazelMap.NEAR_CACHE, nearCache))
+                .build(load -> handler.handle(load.result()));
+    }
 }
@@ -1,17 +1,28 @@
 package com.codingchili.core.storage;
 
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
 import io.vertx.ext.unit.junit.VertxUnitRunner;
 import org.junit.After;
 import org.junit.Before;
+import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import com.codingchili.core.testing.StorageObject;
+
+import static com.codingchili.core.configuration.CoreStrings.ID_NAME;
+import static com.codingchili.core.configuration.CoreStrings.STORAGE_ARRAY;
 
 /**
  * Tests for the CQEngine indexed storage.
  */
 @RunWith(VertxUnitRunner.class)
 public class IndexedMapVolatileTest extends MapTestCases {
+    private static final String NUMBERS = "nested.numbers" + STORAGE_ARRAY;
+    private static final String READ_MODE_DB = "readMode";
 
     @Before
     public void setUp(TestContext test) {
@@ -22,4 +33,96 @@ public class IndexedMapVolatileTest extends MapTestCases {
     public void tearDown(TestContext test) {
         super.tearDown(test);
     }
+
+    @Test
+    public void testAttributeTypeInferred(TestContext test) {
+        IndexedMap<StorageObject> map = (IndexedMap<StorageObject>) store;
+        test.assertEquals(Long.class, map.getAttribute(StorageObject.levelField, false).getAttributeType());
+        test.assertEquals(String.class, map.getAttribute(ID_NAME, false).getAttributeType());
+        test.assertEquals(String.class, map.getAttribute("keywords", true).getAttributeType());
+    }
+
+    @Test
+    public void testNonIntegralOperandNotTruncated(TestContext test) {
+        Async async = test.async();
+        test.assertNull(AttributeType.LONG.convert(1.5));
+        test.assertEquals(2L, AttributeType.LONG.convert(2.0));
+
+        store.query(StorageObject.levelField).equalTo(1.5)
+                .or(StorageObject.levelField).in(1.5, 2.5)
+                .execute(query -> {
+                    test.assertTrue(query.succeeded(), errorText(query));
+                    test.assertTrue(query.result().isEmpty());
+                    async.complete();
+                });
+    }
+
+    @Test
+    public void testAttributeTypeDeclared(TestContext test) {
+        IndexedMap<StorageObject> map = (IndexedMap<StorageObject>) store;
+        map.addIndex(NUMBERS, Double.class);
+        test.assertEquals(Double.class, map.getAttribute(NUMBERS.replace(STORAGE_ARRAY, ""), true).getAttributeType());
+        test.assertEquals(String.class, map.getTextAttribute(NUMBERS.replace(STORAGE_ARRAY, ""), true).getAttributeType());
+    }
+
+    @Test
+    public void testValuesCopied(TestContext test) {
+        Async async = test.async();
+        StorageObject object = new StorageObject(ID_NAME, 1);
+
+        load(StorageObject.class, IndexedMapVolatile.ReadMode.IMMUTABLE, load -> {
+            AsyncStorage<StorageObject> storage = load.result();
+            storage.put(object, put -> storage.get(ID_NAME, first -> storage.get(ID_NAME, second -> {
+                // mutable values are never shared with callers.
+                test.assertFalse(first.result() == object);
+                test.assertFalse(first.result() == second.result());
+                storage.clear(cleared -> async.complete());
+            })));
+        });
+    }
+
+    @Test
+    public void testImmutableValuesCopiedByDefault(TestContext test) {
+        Async async = test.async();
+        ImmutableObject object = new ImmutableObject();
+
+        load(ImmutableObject.class, IndexedMapVolatile.ReadMode.COPY, load -> {
+            AsyncStorage<ImmutableObject> storage = load.result();
+            storage.put(object, put -> storage.get(object.getId(), get -> {
+                test.assertFalse(get.result() == object);
+                storage.clear(cleared -> async.complete());
+            }));
+        });
+    }
+
+    @Test
+    public void testImmutableValuesNotCopied(TestContext test) {
+        Async async = test.async();
+        ImmutableObject object = new ImmutableObject();
+
+        load(ImmutableObject.class, IndexedMapVolatile.ReadMode.IMMUTABLE, load -> {
+            AsyncStorage<ImmutableObject> storage = load.result();
+            storage.put(object, put -> storage.get(object.getId(), get -> {
+                test.assertTrue(get.result() == object);
+                storage.clear(cleared -> async.complete());
+            }));
+        });
+    }
+
+    private <T extends Storable> void load(Class<T> type, IndexedMapVolatile.ReadMode mode,
+                                           Handler<AsyncResult<AsyncStorage<T>>> handler) {
+        new StorageLoader<T>(context)
+                .withPlugin(IndexedMapVolatile.class)
+                .withValue(type)
+                .withDB(READ_MODE_DB, mode.name() + type.getSimpleName())
+                .withProperties(new JsonObject().put(IndexedMapVolatile.READ_MODE, mode.name()))
+                .build(handler);
+    }
+
+    public static class ImmutableObject implements Immutable {
+        @Override
+        public String getId() {
+            return ID_NAME;
+        }
+    }
 }
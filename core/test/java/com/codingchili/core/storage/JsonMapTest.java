@@ -1,5 +1,6 @@
 package com.codingchili.core.storage;
 
+import com.codingchili.core.context.CoreRuntimeException;
 import com.codingchili.core.files.ConfigurationFactory;
 import com.codingchili.core.files.exception.NoSuchResourceException;
 import com.codingchili.core.protocol.Serializer;
@@ -14,7 +15,9 @@ import org.junit.Ignore;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
-import java.nio.file.Paths;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.UUID;
 
 import static com.codingchili.core.configuration.CoreStrings.getDBIdentifier;
 import static com.codingchili.core.configuration.CoreStrings.getDBPath;
@@ -25,6 +28,12 @@ import static com.codingchili.core.configuration.CoreStrings.getDBPath;
  */
 @RunWith(VertxUnitRunner.class)
 public class JsonMapTest extends MapTestCases {
+    private static final String LOG_DIR = "build/jsonmaplog";
+    private static final String LOG_DB = "jsonmaplog.json";
+    private static final String ID_1 = "id.1";
+    private static final String ID_2 = "id.2";
+    private static final String COMPACT_LIMIT_KEY = "key_1024";
+
     @Before
     public void setUp(TestContext test) {
         super.setUp(test, JsonMap.class);
@@ -60,4 +69,116 @@ public class JsonMapTest extends MapTestCases {
     @Ignore("Not supported yet, saving the map breaks this.")
     public void testStorageIsShared(TestContext test) {
     }
+
+    @Test
+    public void testChangesReplayedFromLog(TestContext test) throws IOException {
+        Path path = logPath();
+        JsonMapLog log = new JsonMapLog(path.toString());
+
+        log.put(ID_1, new JsonObject().put(ID_1, 1));
+        log.put(ID_2, new JsonObject().put(ID_2, 2));
+        log.remove(ID_1);
+        log.persist();
+        test.assertFalse(log.isDirty());
+
+        // simulate a change that was not completely written.
+        Files.write(Paths.get(path + ".log"), "{\"op\":\"put".getBytes(), StandardOpenOption.APPEND);
+
+        log = new JsonMapLog(path.toString());
+        JsonObject db = log.db();
+        test.assertFalse(db.containsKey(ID_1));
+        test.assertEquals(2, db.getJsonObject(ID_2).getInteger(ID_2));
+
+        // changes appended after the incomplete change must survive the next load.
+        log.put(ID_1, new JsonObject().put(ID_1, 3));
+        log.persist();
+
+        db = new JsonMapLog(path.toString()).db();
+        test.assertEquals(3, db.getJsonObject(ID_1).getInteger(ID_1));
+        test.assertEquals(2, db.getJsonObject(ID_2).getInteger(ID_2));
+    }
+
+    @Test
+    public void testLogCompactedIntoSnapshot(TestContext test) throws IOException {
+        Path path = logPath();
+        JsonMapLog log = new JsonMapLog(path.toString());
+
+        // the log is compacted when it contains more changes than there are values.
+        for (int i = 0; i <= 1024; i++) {
+            log.put("key_" + i, new JsonObject().put(ID_1, i));
+            log.put("key_" + i, new JsonObject().put(ID_2, i));
+        }
+        log.persist();
+
+        test.assertTrue(Files.exists(path));
+        test.assertFalse(Files.exists(Paths.get(path + ".log")));
+        test.assertEquals(1025, new JsonMapLog(path.toString()).db().size());
+
+        log.remove(COMPACT_LIMIT_KEY);
+        log.persist();
+
+        test.assertTrue(Files.exists(Paths.get(path + ".log")));
+        test.assertFalse(new JsonMapLog(path.toString()).db().containsKey(COMPACT_LIMIT_KEY));
+    }
+
+    @Test
+    public void testLogOlderThanSnapshotSkipped(TestContext test) throws IOException {
+        Path path = logPath();
+        Path logged = Paths.get(path + ".log");
+        JsonMapLog log = new JsonMapLog(path.toString());
+
+        log.put(ID_1, new JsonObject().put(ID_1, 1));
+        log.persist();
+        byte[] older = Files.readAllBytes(logged);
+
+        log.put(ID_1, new JsonObject().put(ID_1, 2));
+        for (int i = 0; i <= 1024; i++) {
+            log.put("key_" + i, new JsonObject().put(ID_2, i));
+        }
+        log.persist();
+        test.assertFalse(Files.exists(logged));
+
+        // simulate an interrupted compaction: the log was not removed after the snapshot was replaced.
+        Files.write(logged, older);
+
+        log = new JsonMapLog(path.toString());
+        test.assertEquals(2, log.db().getJsonObject(ID_1).getInteger(ID_1));
+        test.assertEquals(1026, log.db().size());
+
+        // changes made after the load are newer than the snapshot.
+        log.remove(ID_1);
+        log.persist();
+        test.assertFalse(new JsonMapLog(path.toString()).db().containsKey(ID_1));
+    }
+
+    @Test
+    public void testFailedChangesPersistedAgain(TestContext test) throws IOException {
+        Path path = logPath();
+        Path logged = Paths.get(path + ".log");
+        JsonMapLog log = new JsonMapLog(path.toString());
+
+        // the log cannot be written when its path is a directory.
+        Files.createDirectories(logged);
+        log.put(ID_1, new JsonObject().put(ID_1, 1));
+        try {
+            log.persist();
+            test.fail("persisting must fail when the log cannot be written.");
+        } catch (CoreRuntimeException e) {
+            test.assertTrue(log.isDirty());
+        }
+
+        Files.delete(logged);
+        log.put(ID_2, new JsonObject().put(ID_2, 2));
+        log.persist();
+        test.assertFalse(log.isDirty());
+
+        JsonObject db = new JsonMapLog(path.toString()).db();
+        test.assertEquals(1, db.getJsonObject(ID_1).getInteger(ID_1));
+        test.assertEquals(2, db.getJsonObject(ID_2).getInteger(ID_2));
+    }
+
+    private static Path logPath() {
+        // the path must be relative to be readable by the configuration factory.
+        return Paths.get(LOG_DIR, UUID.randomUUID().toString(), LOG_DB);
+    }
 }
@@ -1,6 +1,7 @@
 package com.codingchili.core.storage;
 
 import io.vertx.core.*;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
 import io.vertx.ext.unit.junit.Timeout;
@@ -8,8 +9,8 @@ import io.vertx.ext.unit.junit.VertxUnitRunner;
 import org.junit.*;
 import org.junit.runner.RunWith;
 
-import java.util.Collection;
-import java.util.UUID;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import com.codingchili.core.context.*;
@@ -232,6 +233,51 @@ public class MapTestCases {
         });
     }
 
+    @Test
+    public void testGetAll(TestContext test) {
+        Async async = test.async();
+
+        store.getAll(Arrays.asList(ONE, TWO, NAME_MISSING), get -> {
+            test.assertTrue(get.succeeded(), errorText(get));
+            test.assertEquals(2, get.result().size());
+            test.assertTrue(get.result().contains(OBJECT_ONE));
+            test.assertTrue(get.result().contains(OBJECT_TWO));
+            async.complete();
+        });
+    }
+
+    @Test
+    public void testPutAll(TestContext test) {
+        Async async = test.async();
+        List<StorageObject> values = Arrays.asList(new StorageObject(NAME_MISSING, 0), new StorageObject(ONE, 42));
+
+        store.putAll(values, put -> {
+            test.assertTrue(put.succeeded(), errorText(put));
+
+            store.size(size -> {
+                test.assertEquals(TEST_ITEM_COUNT.intValue() + 1, size.result());
+                store.get(ONE, get -> {
+                    test.assertEquals(42, get.result().getLevel());
+                    async.complete();
+                });
+            });
+        });
+    }
+
+    @Test
+    public void testRemoveAll(TestContext test) {
+        Async async = test.async();
+
+        store.removeAll(Arrays.asList(ONE, TWO, NAME_MISSING), remove -> {
+            test.assertTrue(remove.succeeded(), errorText(remove));
+
+            store.size(size -> {
+                test.assertEquals(TEST_ITEM_COUNT.intValue() - 2, size.result());
+                async.complete();
+            });
+        });
+    }
+
     @Test
     public void testUpdate(TestContext test) {
         Async async = test.async();
@@ -353,6 +399,22 @@ public class MapTestCases {
         });
     }
 
+    @Test
+    public void testQueryRangeComparedAsNumbers(TestContext test) {
+        Async async = test.async();
+
+        // the range does not match when the bounds are compared as text: "5" > "10".
+        store.query(LEVEL).between(5L, (long) LEVEL_BUCKET_SIZE)
+                .pageSize(TEST_ITEM_COUNT.intValue())
+                .execute(query -> {
+                    test.assertTrue(query.succeeded(), errorText(query));
+                    test.assertNotEquals(0, query.result().size());
+
+                    query.result().forEach(item -> test.assertInRange(5, item.getLevel(), 5));
+                    async.complete();
+                });
+    }
+
     @Test
     public void testQueryRangeNoMatches(TestContext test) {
         Async async = test.async();
@@ -558,6 +620,31 @@ public class MapTestCases {
                 });
     }
 
+    @Test
+    public void testPagingContiguousSorted(TestContext test) {
+        Async async = test.async();
+
+        store.query(NAME).matches(REGEX_ALL)
+                .pageSize(LEVEL_BUCKET_SIZE * 2)
+                .orderBy(NAME)
+                .order(SortOrder.DESCENDING)
+                .execute(all -> {
+                    test.assertTrue(all.succeeded(), errorText(all));
+
+                    store.query(NAME).matches(REGEX_ALL)
+                            .page(1)
+                            .pageSize(LEVEL_BUCKET_SIZE)
+                            .orderBy(NAME)
+                            .order(SortOrder.DESCENDING)
+                            .execute(page -> {
+                                test.assertTrue(page.succeeded(), errorText(page));
+                                test.assertEquals(new ArrayList<>(all.result()).subList(LEVEL_BUCKET_SIZE, LEVEL_BUCKET_SIZE * 2),
+                                        new ArrayList<>(page.result()));
+                                async.complete();
+                            });
+                });
+    }
+
     @Test
     public void testPagingWithOtherSize(TestContext test) {
         Async async = test.async();
@@ -718,6 +805,78 @@ public class MapTestCases {
         });
     }
 
+    @Test
+    public void testStreamValues(TestContext test) {
+        Async async = test.async();
+        AtomicInteger count = new AtomicInteger(0);
+
+        store.stream()
+                .exceptionHandler(test::fail)
+                .endHandler(end -> {
+                    test.assertEquals(TEST_ITEM_COUNT.intValue(), count.get());
+                    async.complete();
+                })
+                .handler(value -> count.incrementAndGet());
+    }
+
+    @Test
+    public void testStreamFetchedValues(TestContext test) {
+        Async async = test.async();
+        AtomicInteger count = new AtomicInteger(0);
+        AtomicBoolean requested = new AtomicBoolean(true);
+        ReadStream<StorageObject> stream = store.stream();
+
+        stream.pause()
+                .exceptionHandler(test::fail)
+                .endHandler(end -> {
+                    test.assertEquals(TEST_ITEM_COUNT.intValue(), count.get());
+                    async.complete();
+                })
+                .handler(value -> {
+                    // values must only be emitted when requested.
+                    test.assertTrue(requested.getAndSet(false));
+                    count.incrementAndGet();
+                    context.timer(1, timer -> {
+                        requested.set(true);
+                        stream.fetch(1);
+                    });
+                })
+                .fetch(1);
+    }
+
+    @Test
+    public void testStreamValuesInBatches(TestContext test) {
+        Async async = test.async();
+        int streamed = BatchReadStream.BATCH_SIZE * 2 + 1;
+        int fetch = BatchReadStream.BATCH_SIZE / 3;
+        List<StorageObject> values = new ArrayList<>();
+        Set<String> received = new HashSet<>();
+
+        for (int i = 0; i < streamed; i++) {
+            values.add(new StorageObject("streamed_" + i, i));
+        }
+
+        store.putAll(values, put -> {
+            test.assertTrue(put.succeeded(), errorText(put));
+            ReadStream<StorageObject> stream = store.stream();
+
+            // fetch less than a batch at a time, so that batches are read between fetches.
+            stream.pause()
+                    .exceptionHandler(test::fail)
+                    .endHandler(end -> {
+                        test.assertEquals(TEST_ITEM_COUNT.intValue() + streamed, received.size());
+                        async.complete();
+                    })
+                    .handler(value -> {
+                        test.assertTrue(received.add(value.getId()));
+                        if (received.size() % fetch == 0) {
+                            context.timer(1, timer -> stream.fetch(fetch));
+                        }
+                    })
+                    .fetch(fetch);
+        });
+    }
+
     @Test
     public void testFireQueryMultipleTimes(TestContext test) {
         Async async = test.async();